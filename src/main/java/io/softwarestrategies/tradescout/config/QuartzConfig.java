@@ -1,6 +1,7 @@
 package io.softwarestrategies.tradescout.config;
 
 import io.softwarestrategies.tradescout.scheduler.DailyMaintenanceJob;
+import io.softwarestrategies.tradescout.scheduler.ShardJob;
 import io.softwarestrategies.tradescout.scheduler.QuarterlyReportJob;
 import org.quartz.*;
 import org.springframework.context.annotation.Bean;
@@ -46,6 +47,20 @@ public class QuartzConfig {
 				.build();
 	}
 
+	/**
+	 * Shard job - no trigger of its own, fired once per shard of a maintenance, backfill or scan run
+	 */
+	@Bean
+	public JobDetail shardJobDetail() {
+		return JobBuilder.newJob(ShardJob.class)
+				.withIdentity(ShardJob.JOB_NAME)
+				.withDescription("Runs one symbol shard of a sharded job")
+				.storeDurably()
+				// Re-fire on another node if the executing node dies mid-shard
+				.requestRecovery()
+				.build();
+	}
+
 	/**
 	 * Quarterly report job - runs first day of quarter at 8 AM
 	 */
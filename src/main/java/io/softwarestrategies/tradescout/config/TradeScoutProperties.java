@@ -39,6 +39,14 @@ public class TradeScoutProperties {
 		private Rules rules = new Rules();
 		private Schedule schedule = new Schedule();
 		private Email email = new Email();
+		private Market market = new Market();
+		private Intraday intraday = new Intraday();
+		private Retention retention = new Retention();
+		private Maintenance maintenance = new Maintenance();
+		private Robust robust = new Robust();
+		private Monitor monitor = new Monitor();
+		private Relative relative = new Relative();
+		private SignalHistory signalHistory = new SignalHistory();
 
 		// Getters and setters
 		public BigDecimal getInitialCapital() { return initialCapital; }
@@ -90,6 +98,40 @@ public class TradeScoutProperties {
 
 		public Email getEmail() { return email; }
 		public void setEmail(Email email) { this.email = email; }
+
+		public Market getMarket() { return market; }
+		public void setMarket(Market market) { this.market = market; }
+
+		public Intraday getIntraday() { return intraday; }
+		public void setIntraday(Intraday intraday) { this.intraday = intraday; }
+
+		public Retention getRetention() { return retention; }
+		public void setRetention(Retention retention) { this.retention = retention; }
+
+		public Maintenance getMaintenance() { return maintenance; }
+		public void setMaintenance(Maintenance maintenance) {
+			this.maintenance = maintenance;
+		}
+
+		public Robust getRobust() { return robust; }
+		public void setRobust(Robust robust) {
+			this.robust = robust;
+		}
+
+		public Monitor getMonitor() { return monitor; }
+		public void setMonitor(Monitor monitor) {
+			this.monitor = monitor;
+		}
+
+		public Relative getRelative() { return relative; }
+		public void setRelative(Relative relative) {
+			this.relative = relative;
+		}
+
+		public SignalHistory getSignalHistory() { return signalHistory; }
+		public void setSignalHistory(SignalHistory signalHistory) {
+			this.signalHistory = signalHistory;
+		}
 	}
 
 	public static class Detection {
@@ -97,6 +139,9 @@ public class TradeScoutProperties {
 		private Double minPriceZscore;
 		private Double minVolumeZscore;
 		private Integer lookbackDays;
+		private List<Integer> lookbacks;
+		private List<String> strategies;
+		private Integer metricsCacheSeconds = 300;
 
 		public Double getMinConfidence() { return minConfidence; }
 		public void setMinConfidence(Double minConfidence) {
@@ -117,6 +162,21 @@ public class TradeScoutProperties {
 		public void setLookbackDays(Integer lookbackDays) {
 			this.lookbackDays = lookbackDays;
 		}
+
+		public List<Integer> getLookbacks() { return lookbacks; }
+		public void setLookbacks(List<Integer> lookbacks) {
+			this.lookbacks = lookbacks;
+		}
+
+		public List<String> getStrategies() { return strategies; }
+		public void setStrategies(List<String> strategies) {
+			this.strategies = strategies;
+		}
+
+		public Integer getMetricsCacheSeconds() { return metricsCacheSeconds; }
+		public void setMetricsCacheSeconds(Integer metricsCacheSeconds) {
+			this.metricsCacheSeconds = metricsCacheSeconds;
+		}
 	}
 
 	public static class Risk {
@@ -125,6 +185,10 @@ public class TradeScoutProperties {
 		private BigDecimal maxDailyLoss;
 		private BigDecimal maxMonthlyLoss;
 		private Integer maxConsecutiveLosses;
+		private Integer maxOpenPositions;
+		private Double correlationThreshold = 0.7;
+		private Integer maxCorrelatedPositions = 1;
+		private Integer correlationLookbackDays = 180;
 
 		public Integer getMaxTradesPerWeek() { return maxTradesPerWeek; }
 		public void setMaxTradesPerWeek(Integer maxTradesPerWeek) {
@@ -150,6 +214,26 @@ public class TradeScoutProperties {
 		public void setMaxConsecutiveLosses(Integer maxConsecutiveLosses) {
 			this.maxConsecutiveLosses = maxConsecutiveLosses;
 		}
+
+		public Integer getMaxOpenPositions() { return maxOpenPositions; }
+		public void setMaxOpenPositions(Integer maxOpenPositions) {
+			this.maxOpenPositions = maxOpenPositions;
+		}
+
+		public Double getCorrelationThreshold() { return correlationThreshold; }
+		public void setCorrelationThreshold(Double correlationThreshold) {
+			this.correlationThreshold = correlationThreshold;
+		}
+
+		public Integer getMaxCorrelatedPositions() { return maxCorrelatedPositions; }
+		public void setMaxCorrelatedPositions(Integer maxCorrelatedPositions) {
+			this.maxCorrelatedPositions = maxCorrelatedPositions;
+		}
+
+		public Integer getCorrelationLookbackDays() { return correlationLookbackDays; }
+		public void setCorrelationLookbackDays(Integer correlationLookbackDays) {
+			this.correlationLookbackDays = correlationLookbackDays;
+		}
 	}
 
 	public static class Rules {
@@ -157,6 +241,7 @@ public class TradeScoutProperties {
 		private Boolean noEarningsWeek;
 		private Boolean noFomcWeek;
 		private Boolean requireManualReview;
+		private String eventCalendar = "classpath:calendar/events.csv";
 
 		public Boolean getNoFridayEntries() { return noFridayEntries; }
 		public void setNoFridayEntries(Boolean noFridayEntries) {
@@ -177,6 +262,9 @@ public class TradeScoutProperties {
 		public void setRequireManualReview(Boolean requireManualReview) {
 			this.requireManualReview = requireManualReview;
 		}
+
+		public String getEventCalendar() { return eventCalendar; }
+		public void setEventCalendar(String eventCalendar) { this.eventCalendar = eventCalendar; }
 	}
 
 	public static class Schedule {
@@ -226,4 +314,232 @@ public class TradeScoutProperties {
 			this.includeLinks = includeLinks;
 		}
 	}
+
+	public static class Market {
+		private String timezone = "America/New_York";
+		private String sessionOpen = "09:30";
+		private String sessionClose = "16:00";
+		private String holidays = "calendar/nyse-holidays.csv";
+
+		public String getTimezone() { return timezone; }
+		public void setTimezone(String timezone) { this.timezone = timezone; }
+
+		public String getSessionOpen() { return sessionOpen; }
+		public void setSessionOpen(String sessionOpen) {
+			this.sessionOpen = sessionOpen;
+		}
+
+		public String getSessionClose() { return sessionClose; }
+		public void setSessionClose(String sessionClose) {
+			this.sessionClose = sessionClose;
+		}
+
+		public String getHolidays() { return holidays; }
+		public void setHolidays(String holidays) { this.holidays = holidays; }
+	}
+
+	public static class Intraday {
+		private Boolean enabled = false;
+		private Integer barMinutes = 5;
+		private Integer pollSeconds = 30;
+		private Integer retentionDays = 30;
+		private Integer partitionsAhead = 3;
+		private Integer baselineLookbackDays = 20;
+		private Integer minBaselineDays = 10;
+
+		public Boolean getEnabled() { return enabled; }
+		public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+
+		public Integer getBarMinutes() { return barMinutes; }
+		public void setBarMinutes(Integer barMinutes) {
+			this.barMinutes = barMinutes;
+		}
+
+		public Integer getPollSeconds() { return pollSeconds; }
+		public void setPollSeconds(Integer pollSeconds) {
+			this.pollSeconds = pollSeconds;
+		}
+
+		public Integer getRetentionDays() { return retentionDays; }
+		public void setRetentionDays(Integer retentionDays) {
+			this.retentionDays = retentionDays;
+		}
+
+		public Integer getPartitionsAhead() { return partitionsAhead; }
+		public void setPartitionsAhead(Integer partitionsAhead) {
+			this.partitionsAhead = partitionsAhead;
+		}
+
+		public Integer getBaselineLookbackDays() { return baselineLookbackDays; }
+		public void setBaselineLookbackDays(Integer baselineLookbackDays) {
+			this.baselineLookbackDays = baselineLookbackDays;
+		}
+
+		public Integer getMinBaselineDays() { return minBaselineDays; }
+		public void setMinBaselineDays(Integer minBaselineDays) {
+			this.minBaselineDays = minBaselineDays;
+		}
+	}
+
+	public static class Retention {
+		private Integer stockHistoryDays = 365;
+		private Integer volatilityMetricsDays = 395;
+		private Integer performanceMetricsDays = 1825;
+		private Integer signalHistoryDays = 90;
+		private Integer shardCheckpointDays = 30;
+		private Integer batchSize = 5000;
+		private Long batchPauseMillis = 100L;
+		private Boolean allowDuringMarketHours = false;
+
+		public Integer getStockHistoryDays() { return stockHistoryDays; }
+		public void setStockHistoryDays(Integer stockHistoryDays) {
+			this.stockHistoryDays = stockHistoryDays;
+		}
+
+		public Integer getVolatilityMetricsDays() { return volatilityMetricsDays; }
+		public void setVolatilityMetricsDays(Integer volatilityMetricsDays) {
+			this.volatilityMetricsDays = volatilityMetricsDays;
+		}
+
+		public Integer getPerformanceMetricsDays() { return performanceMetricsDays; }
+		public void setPerformanceMetricsDays(Integer performanceMetricsDays) {
+			this.performanceMetricsDays = performanceMetricsDays;
+		}
+
+		public Integer getSignalHistoryDays() { return signalHistoryDays; }
+		public void setSignalHistoryDays(Integer signalHistoryDays) {
+			this.signalHistoryDays = signalHistoryDays;
+		}
+
+		public Integer getShardCheckpointDays() { return shardCheckpointDays; }
+		public void setShardCheckpointDays(Integer shardCheckpointDays) {
+			this.shardCheckpointDays = shardCheckpointDays;
+		}
+
+		public Integer getBatchSize() { return batchSize; }
+		public void setBatchSize(Integer batchSize) { this.batchSize = batchSize; }
+
+		public Long getBatchPauseMillis() { return batchPauseMillis; }
+		public void setBatchPauseMillis(Long batchPauseMillis) {
+			this.batchPauseMillis = batchPauseMillis;
+		}
+
+		public Boolean getAllowDuringMarketHours() { return allowDuringMarketHours; }
+		public void setAllowDuringMarketHours(Boolean allowDuringMarketHours) {
+			this.allowDuringMarketHours = allowDuringMarketHours;
+		}
+	}
+
+	public static class Maintenance {
+		private Integer shardCount = 5;
+		private Integer staleClaimMinutes = 60;
+		private Integer refreshPollSeconds = 60;
+
+		public Integer getShardCount() { return shardCount; }
+		public void setShardCount(Integer shardCount) { this.shardCount = shardCount; }
+
+		public Integer getStaleClaimMinutes() { return staleClaimMinutes; }
+		public void setStaleClaimMinutes(Integer staleClaimMinutes) {
+			this.staleClaimMinutes = staleClaimMinutes;
+		}
+
+		public Integer getRefreshPollSeconds() { return refreshPollSeconds; }
+		public void setRefreshPollSeconds(Integer refreshPollSeconds) {
+			this.refreshPollSeconds = refreshPollSeconds;
+		}
+	}
+
+	public static class Robust {
+		private Boolean enabled = true;
+		private Double compression = 100.0;
+		private Integer minSamples = 60;
+
+		public Boolean getEnabled() { return enabled; }
+		public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+
+		public Double getCompression() { return compression; }
+		public void setCompression(Double compression) {
+			this.compression = compression;
+		}
+
+		public Integer getMinSamples() { return minSamples; }
+		public void setMinSamples(Integer minSamples) {
+			this.minSamples = minSamples;
+		}
+	}
+
+	public static class Monitor {
+		private Boolean enabled = true;
+		private Integer pollSeconds = 5;
+		private Boolean autoClose = false;
+
+		public Boolean getEnabled() { return enabled; }
+		public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+
+		public Integer getPollSeconds() { return pollSeconds; }
+		public void setPollSeconds(Integer pollSeconds) {
+			this.pollSeconds = pollSeconds;
+		}
+
+		public Boolean getAutoClose() { return autoClose; }
+		public void setAutoClose(Boolean autoClose) {
+			this.autoClose = autoClose;
+		}
+	}
+
+	public static class Relative {
+		private Boolean enabled = true;
+		private String marketBenchmark = "SPY";
+		private String sectorBenchmark = "QQQ";
+		private Integer lookbackDays = 180;
+		private Double maxResidualZscore = -1.0;
+
+		public Boolean getEnabled() { return enabled; }
+		public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+
+		public String getMarketBenchmark() { return marketBenchmark; }
+		public void setMarketBenchmark(String marketBenchmark) {
+			this.marketBenchmark = marketBenchmark;
+		}
+
+		public String getSectorBenchmark() { return sectorBenchmark; }
+		public void setSectorBenchmark(String sectorBenchmark) {
+			this.sectorBenchmark = sectorBenchmark;
+		}
+
+		public Integer getLookbackDays() { return lookbackDays; }
+		public void setLookbackDays(Integer lookbackDays) {
+			this.lookbackDays = lookbackDays;
+		}
+
+		public Double getMaxResidualZscore() { return maxResidualZscore; }
+		public void setMaxResidualZscore(Double maxResidualZscore) {
+			this.maxResidualZscore = maxResidualZscore;
+		}
+	}
+
+	public static class SignalHistory {
+		private Boolean enabled = true;
+		private Integer queueCapacity = 50000;
+		private Integer batchSize = 1000;
+		private Integer flushMillis = 2000;
+
+		public Boolean getEnabled() { return enabled; }
+		public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+
+		public Integer getQueueCapacity() { return queueCapacity; }
+		public void setQueueCapacity(Integer queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public Integer getBatchSize() { return batchSize; }
+		public void setBatchSize(Integer batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		public Integer getFlushMillis() { return flushMillis; }
+		public void setFlushMillis(Integer flushMillis) {
+			this.flushMillis = flushMillis;
+		}
+	}
 }
\ No newline at end of file
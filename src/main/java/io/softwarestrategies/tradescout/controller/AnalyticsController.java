@@ -0,0 +1,97 @@
+package io.softwarestrategies.tradescout.controller;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.CorrelatedPair;
+import io.softwarestrategies.tradescout.dto.FactorLoading;
+import io.softwarestrategies.tradescout.service.CorrelationService;
+import io.softwarestrategies.tradescout.service.MarketFactorService;
+import io.softwarestrategies.tradescout.util.CorrelationMatrix;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * REST controller for cross-symbol analytics
+ */
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+
+	private static final Logger log = LoggerFactory.getLogger(AnalyticsController.class);
+
+	private final CorrelationService correlationService;
+	private final MarketFactorService marketFactorService;
+	private final TradeScoutProperties properties;
+
+	public AnalyticsController(
+			CorrelationService correlationService,
+			MarketFactorService marketFactorService,
+			TradeScoutProperties properties) {
+		this.correlationService = correlationService;
+		this.marketFactorService = marketFactorService;
+		this.properties = properties;
+	}
+
+	/**
+	 * Full correlation matrix of the given symbols (default: the cached watchlist matrix)
+	 */
+	@GetMapping("/correlations")
+	public ResponseEntity<Map<String, Object>> getCorrelations(
+			@RequestParam(required = false) List<String> symbols,
+			@RequestParam(required = false) Integer lookbackDays) {
+		log.info("GET /analytics/correlations?symbols={}&lookbackDays={}", symbols, lookbackDays);
+		var matrix = symbols == null && lookbackDays == null
+				? correlationService.getMatrix()
+				: correlationService.correlate(symbols != null ? symbols : properties.getTrading().getWatchlist(),
+						lookbackDays(lookbackDays));
+
+		var response = summary(matrix);
+		response.put("matrix", matrix.toRows());
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Most strongly correlated pairs across every stored symbol
+	 */
+	@GetMapping("/correlations/pairs")
+	public ResponseEntity<Map<String, Object>> getCorrelatedPairs(
+			@RequestParam(defaultValue = "0.8") double minCorrelation,
+			@RequestParam(defaultValue = "100") int limit,
+			@RequestParam(required = false) Integer lookbackDays) {
+		log.info("GET /analytics/correlations/pairs?minCorrelation={}&limit={}", minCorrelation, limit);
+		var matrix = correlationService.getUniverseMatrix(lookbackDays(lookbackDays));
+		List<CorrelatedPair> pairs = matrix.strongestPairs(minCorrelation, limit);
+
+		var response = summary(matrix);
+		response.put("pairs", pairs);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Nightly market and sector betas of the watchlist, by symbol
+	 */
+	@GetMapping("/betas")
+	public ResponseEntity<Map<String, FactorLoading>> getBetas() {
+		log.info("GET /analytics/betas");
+		return ResponseEntity.ok(new TreeMap<>(marketFactorService.getLoadings()));
+	}
+
+	private int lookbackDays(Integer requested) {
+		return requested != null ? requested : properties.getTrading().getRisk().getCorrelationLookbackDays();
+	}
+
+	private static Map<String, Object> summary(CorrelationMatrix matrix) {
+		// HashMap rather than Map.of: asOf is null for an empty matrix
+		var response = new HashMap<String, Object>();
+		response.put("symbols", matrix.getSymbols());
+		response.put("asOf", matrix.getAsOf());
+		response.put("observations", matrix.getObservations());
+		return response;
+	}
+}
\ No newline at end of file
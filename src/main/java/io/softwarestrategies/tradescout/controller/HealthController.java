@@ -29,7 +29,8 @@ public class HealthController {
 
 	@GetMapping
 	public ResponseEntity<Map<String, Object>> healthCheck() {
-		var symbols = stockHistoryRepository.findAllDistinctSymbols();
+		// Bounded by trade_date so only the most recent partitions are scanned
+		var symbols = stockHistoryRepository.findDistinctSymbolsSince(LocalDate.now().minusDays(7));
 		var canTrade = riskManagementService.canTakeNewTrade();
 
 		return ResponseEntity.ok(Map.of(
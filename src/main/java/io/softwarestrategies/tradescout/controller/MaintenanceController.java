@@ -1,11 +1,23 @@
 package io.softwarestrategies.tradescout.controller;
 
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint;
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.JobType;
+import io.softwarestrategies.tradescout.scheduler.ShardJob;
+import io.softwarestrategies.tradescout.service.ShardedJobService;
+import io.softwarestrategies.tradescout.util.EventCalendar;
 import io.softwarestrategies.tradescout.service.MarketDataService;
+import org.quartz.JobDataMap;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,9 +30,19 @@ public class MaintenanceController {
 	private static final Logger log = LoggerFactory.getLogger(MaintenanceController.class);
 
 	private final MarketDataService marketDataService;
+	private final ShardedJobService shardedJobService;
+	private final EventCalendar eventCalendar;
+	private final Scheduler scheduler;
 
-	public MaintenanceController(MarketDataService marketDataService) {
+	public MaintenanceController(
+			MarketDataService marketDataService,
+			ShardedJobService shardedJobService,
+			EventCalendar eventCalendar,
+			Scheduler scheduler) {
 		this.marketDataService = marketDataService;
+		this.shardedJobService = shardedJobService;
+		this.eventCalendar = eventCalendar;
+		this.scheduler = scheduler;
 	}
 
 	/**
@@ -68,4 +90,95 @@ public class MaintenanceController {
 			));
 		}
 	}
+
+	/**
+	 * Trigger (or resume) the sharded daily maintenance run
+	 */
+	@PostMapping("/daily")
+	public ResponseEntity<Map<String, String>> runDailyMaintenance(
+			@RequestParam(required = false) LocalDate runDate) {
+		log.info("POST /maintenance/daily - runDate: {}", runDate);
+
+		try {
+			var data = new JobDataMap();
+			if (runDate != null) {
+				data.put(ShardJob.RUN_KEY, runDate.toString());
+			}
+			scheduler.triggerJob(JobKey.jobKey("dailyMaintenanceJob"), data);
+
+			return ResponseEntity.accepted().body(Map.of(
+					"status", "accepted",
+					"message", "Daily maintenance triggered"
+			));
+		} catch (Exception e) {
+			log.error("Failed to trigger daily maintenance", e);
+			return ResponseEntity.internalServerError().body(Map.of(
+					"status", "error",
+					"message", e.getMessage()
+			));
+		}
+	}
+
+	/**
+	 * Backfill history for the whole watchlist as a sharded run spread across the cluster
+	 */
+	@PostMapping("/backfill")
+	public ResponseEntity<Map<String, Object>> backfill() {
+		log.info("POST /maintenance/backfill - Dispatching sharded backfill");
+
+		try {
+			var runKey = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).toString();
+			var shards = shardedJobService.dispatch(JobType.BACKFILL, runKey);
+
+			return ResponseEntity.accepted().body(Map.of(
+					"status", "accepted",
+					"runKey", runKey,
+					"shardsDispatched", shards
+			));
+		} catch (Exception e) {
+			log.error("Failed to dispatch backfill", e);
+			return ResponseEntity.internalServerError().body(Map.of(
+					"status", "error",
+					"message", e.getMessage()
+			));
+		}
+	}
+
+	/**
+	 * Get the stage checkpoints of a sharded run
+	 */
+	@GetMapping("/runs/{runKey}")
+	public ResponseEntity<List<ShardCheckpoint>> getRun(
+			@PathVariable String runKey,
+			@RequestParam(defaultValue = "DAILY_MAINTENANCE") JobType jobType) {
+		log.info("GET /maintenance/runs/{} - jobType: {}", runKey, jobType);
+
+		var checkpoints = shardedJobService.getRun(jobType, runKey);
+		if (checkpoints.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.ok(checkpoints);
+	}
+
+	/**
+	 * Reload the earnings/FOMC event calendar file
+	 */
+	@PostMapping("/events/reload")
+	public ResponseEntity<Map<String, Object>> reloadEvents() {
+		log.info("POST /maintenance/events/reload");
+
+		try {
+			var loaded = eventCalendar.reload();
+			return ResponseEntity.ok(Map.of(
+					"status", "success",
+					"eventsLoaded", loaded
+			));
+		} catch (Exception e) {
+			log.error("Failed to reload event calendar", e);
+			return ResponseEntity.internalServerError().body(Map.of(
+					"status", "error",
+					"message", e.getMessage()
+			));
+		}
+	}
 }
\ No newline at end of file
@@ -1,12 +1,21 @@
 package io.softwarestrategies.tradescout.controller;
 
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.JobType;
+import io.softwarestrategies.tradescout.domain.SignalRecord;
 import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.dto.VerboseOpportunity;
 import io.softwarestrategies.tradescout.service.OpportunityService;
+import io.softwarestrategies.tradescout.service.ReasoningService;
+import io.softwarestrategies.tradescout.service.ShardedJobService;
+import io.softwarestrategies.tradescout.util.MarketHours;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 
@@ -19,10 +28,23 @@ public class OpportunityController {
 
 	private static final Logger log = LoggerFactory.getLogger(OpportunityController.class);
 
+	// Most history rows one request may return
+	private static final int MAX_HISTORY_LIMIT = 10_000;
+
 	private final OpportunityService opportunityService;
+	private final ShardedJobService shardedJobService;
+	private final ReasoningService reasoningService;
+	private final MarketHours marketHours;
 
-	public OpportunityController(OpportunityService opportunityService) {
+	public OpportunityController(
+			OpportunityService opportunityService,
+			ShardedJobService shardedJobService,
+			ReasoningService reasoningService,
+			MarketHours marketHours) {
 		this.opportunityService = opportunityService;
+		this.shardedJobService = shardedJobService;
+		this.reasoningService = reasoningService;
+		this.marketHours = marketHours;
 	}
 
 	/**
@@ -35,6 +57,39 @@ public class OpportunityController {
 		return ResponseEntity.ok(opportunities);
 	}
 
+	/**
+	 * Get current opportunities with trade setups and rendered reasoning text
+	 */
+	@GetMapping("/verbose")
+	public ResponseEntity<List<VerboseOpportunity>> getCurrentOpportunitiesVerbose() {
+		log.info("GET /opportunities/verbose - Fetching current opportunities with reasoning");
+		var opportunities = opportunityService.scanAndAlert().stream()
+				.map(signal -> {
+					var setup = opportunityService.generateTradeSetup(signal);
+					return new VerboseOpportunity(signal, setup,
+							reasoningService.renderReason(signal),
+							reasoningService.renderTradeReasoning(signal, setup));
+				})
+				.toList();
+		return ResponseEntity.ok(opportunities);
+	}
+
+	/**
+	 * Scan history: every scored symbol and emitted signal (default: today on the exchange)
+	 */
+	@GetMapping("/history")
+	public ResponseEntity<List<SignalRecord>> getSignalHistory(
+			@RequestParam(required = false) LocalDate from,
+			@RequestParam(required = false) LocalDate to,
+			@RequestParam(required = false) String symbol,
+			@RequestParam(defaultValue = "1000") int limit) {
+		var end = to != null ? to : marketHours.today();
+		var start = from != null ? from : end;
+		var rows = Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT));
+		log.info("GET /opportunities/history?from={}&to={}&symbol={}&limit={}", start, end, symbol, rows);
+		return ResponseEntity.ok(opportunityService.getSignalHistory(start, end, symbol, rows));
+	}
+
 	/**
 	 * Manually trigger a scan (for testing)
 	 */
@@ -50,4 +105,29 @@ public class OpportunityController {
 				"opportunities", opportunities
 		));
 	}
+
+	/**
+	 * Trigger a scan split into symbol shards across the scheduler cluster.
+	 * Alerts are sent by the nodes that process each shard.
+	 */
+	@PostMapping("/scan/sharded")
+	public ResponseEntity<Map<String, Object>> triggerShardedScan() {
+		log.info("POST /opportunities/scan/sharded - Dispatching sharded scan");
+
+		try {
+			var runKey = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).toString();
+			var shards = shardedJobService.dispatch(JobType.SCAN, runKey);
+
+			return ResponseEntity.accepted().body(Map.of(
+					"message", "Scan dispatched",
+					"runKey", runKey,
+					"shardsDispatched", shards
+			));
+		} catch (Exception e) {
+			log.error("Failed to dispatch sharded scan", e);
+			return ResponseEntity.internalServerError().body(Map.of(
+					"message", "Scan dispatch failed: " + e.getMessage()
+			));
+		}
+	}
 }
\ No newline at end of file
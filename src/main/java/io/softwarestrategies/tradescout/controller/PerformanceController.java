@@ -1,13 +1,20 @@
 package io.softwarestrategies.tradescout.controller;
 
+import io.softwarestrategies.tradescout.domain.PerformanceMetrics;
+import io.softwarestrategies.tradescout.dto.EquityStats;
 import io.softwarestrategies.tradescout.dto.PerformanceSnapshot;
 import io.softwarestrategies.tradescout.dto.QuarterlyReport;
+import io.softwarestrategies.tradescout.service.EquityCurveService;
+import io.softwarestrategies.tradescout.service.PerformanceRollupService;
 import io.softwarestrategies.tradescout.service.PerformanceTrackingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * REST controller for performance metrics
  */
@@ -18,9 +25,16 @@ public class PerformanceController {
 	private static final Logger log = LoggerFactory.getLogger(PerformanceController.class);
 
 	private final PerformanceTrackingService performanceService;
+	private final EquityCurveService equityCurveService;
+	private final PerformanceRollupService rollupService;
 
-	public PerformanceController(PerformanceTrackingService performanceService) {
+	public PerformanceController(
+			PerformanceTrackingService performanceService,
+			EquityCurveService equityCurveService,
+			PerformanceRollupService rollupService) {
 		this.performanceService = performanceService;
+		this.equityCurveService = equityCurveService;
+		this.rollupService = rollupService;
 	}
 
 	/**
@@ -42,4 +56,31 @@ public class PerformanceController {
 		var report = performanceService.generateQuarterlyReport();
 		return ResponseEntity.ok(report);
 	}
+
+	/**
+	 * Max drawdown and Sharpe ratio of the equity curve over a period (default: year to date)
+	 */
+	@GetMapping("/equity")
+	public ResponseEntity<EquityStats> getEquityStats(
+			@RequestParam(required = false) LocalDate from,
+			@RequestParam(required = false) LocalDate to) {
+		var end = to != null ? to : LocalDate.now();
+		var start = from != null ? from : end.withDayOfYear(1);
+		log.info("GET /performance/equity?from={}&to={}", start, end);
+		return ResponseEntity.ok(equityCurveService.stats(start, end));
+	}
+
+	/**
+	 * Stored performance rollups of one period type (default: monthly, year to date)
+	 */
+	@GetMapping("/rollups")
+	public ResponseEntity<List<PerformanceMetrics>> getRollups(
+			@RequestParam(defaultValue = "MONTHLY") PerformanceMetrics.PeriodType period,
+			@RequestParam(required = false) LocalDate from,
+			@RequestParam(required = false) LocalDate to) {
+		var end = to != null ? to : LocalDate.now();
+		var start = from != null ? from : end.withDayOfYear(1);
+		log.info("GET /performance/rollups?period={}&from={}&to={}", period, start, end);
+		return ResponseEntity.ok(rollupService.getRollups(period, start, end));
+	}
 }
\ No newline at end of file
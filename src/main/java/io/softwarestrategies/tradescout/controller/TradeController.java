@@ -0,0 +1,136 @@
+package io.softwarestrategies.tradescout.controller;
+
+import io.softwarestrategies.tradescout.domain.Trade;
+import io.softwarestrategies.tradescout.dto.CloseTradeRequest;
+import io.softwarestrategies.tradescout.dto.OpenTradeRequest;
+import io.softwarestrategies.tradescout.dto.TradeUpdateRequest;
+import io.softwarestrategies.tradescout.service.PositionMonitorService;
+import io.softwarestrategies.tradescout.service.TradeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * REST controller for the trade lifecycle
+ */
+@RestController
+@RequestMapping("/trades")
+public class TradeController {
+
+	private static final Logger log = LoggerFactory.getLogger(TradeController.class);
+
+	private final TradeService tradeService;
+	private final PositionMonitorService positionMonitorService;
+
+	public TradeController(
+			TradeService tradeService,
+			PositionMonitorService positionMonitorService) {
+		this.tradeService = tradeService;
+		this.positionMonitorService = positionMonitorService;
+	}
+
+	/**
+	 * List trades with a status (open trades come from the position book)
+	 */
+	@GetMapping
+	public ResponseEntity<List<Trade>> getTrades(
+			@RequestParam(defaultValue = "OPEN") Trade.TradeStatus status) {
+		log.info("GET /trades - status: {}", status);
+		var trades = status == Trade.TradeStatus.OPEN
+				? tradeService.getOpenTrades()
+				: tradeService.getTrades(status);
+		return ResponseEntity.ok(trades);
+	}
+
+	/**
+	 * Latest mark-to-market of the open positions, with stop/target breaches
+	 */
+	@GetMapping("/marks")
+	public ResponseEntity<Map<String, Object>> getMarks() {
+		log.info("GET /trades/marks");
+		return ResponseEntity.ok(Map.of(
+				"unrealizedPnl", positionMonitorService.getUnrealizedPnl(),
+				"positions", positionMonitorService.getMarks()
+		));
+	}
+
+	/**
+	 * Get one trade
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<Trade> getTrade(@PathVariable Long id) {
+		log.info("GET /trades/{}", id);
+		return ResponseEntity.ok(tradeService.getTrade(id));
+	}
+
+	/**
+	 * Open a trade
+	 */
+	@PostMapping
+	public ResponseEntity<Trade> openTrade(@RequestBody OpenTradeRequest request) {
+		log.info("POST /trades - {}", request.symbol());
+		return ResponseEntity.status(HttpStatus.CREATED).body(tradeService.openTrade(request));
+	}
+
+	/**
+	 * Close an open trade
+	 */
+	@PostMapping("/{id}/close")
+	public ResponseEntity<Trade> closeTrade(@PathVariable Long id, @RequestBody CloseTradeRequest request) {
+		log.info("POST /trades/{}/close - exit: {}", id, request.exitPrice());
+		return ResponseEntity.ok(tradeService.closeTrade(id, request.exitPrice(), request.exitReason()));
+	}
+
+	/**
+	 * Cancel an open trade
+	 */
+	@PostMapping("/{id}/cancel")
+	public ResponseEntity<Trade> cancelTrade(@PathVariable Long id) {
+		log.info("POST /trades/{}/cancel", id);
+		return ResponseEntity.ok(tradeService.cancelTrade(id));
+	}
+
+	/**
+	 * Move stop/target levels or record lessons learned
+	 */
+	@PatchMapping("/{id}")
+	public ResponseEntity<Trade> updateTrade(@PathVariable Long id, @RequestBody TradeUpdateRequest request) {
+		log.info("PATCH /trades/{}", id);
+		return ResponseEntity.ok(tradeService.updateTrade(id, request));
+	}
+
+	@ExceptionHandler(NoSuchElementException.class)
+	public ResponseEntity<Map<String, Object>> handleNotFound(NoSuchElementException e) {
+		return error(HttpStatus.NOT_FOUND, e);
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<Map<String, Object>> handleBadRequest(IllegalArgumentException e) {
+		return error(HttpStatus.BAD_REQUEST, e);
+	}
+
+	@ExceptionHandler(IllegalStateException.class)
+	public ResponseEntity<Map<String, Object>> handleConflict(IllegalStateException e) {
+		return error(HttpStatus.CONFLICT, e);
+	}
+
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<Map<String, Object>> handleConcurrentUpdate(OptimisticLockingFailureException e) {
+		return error(HttpStatus.CONFLICT, e);
+	}
+
+	private ResponseEntity<Map<String, Object>> error(HttpStatus status, RuntimeException e) {
+		log.warn("Trade request rejected: {}", e.getMessage());
+		return ResponseEntity.status(status).body(Map.of(
+				"status", "error",
+				"message", e.getMessage()
+		));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package io.softwarestrategies.tradescout.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Intraday OHLC bar.
+ * Written through the JDBC append path rather than JPA because the
+ * intraday_bars table is partitioned by day and receives bulk inserts.
+ * A partial bar is missing part of its range and volume (polling started
+ * mid-session or skipped bars) and is left out of the baselines.
+ */
+public record IntradayBar(
+		String symbol,
+		LocalDate barDate,
+		int barMinutes,
+		int minuteOfSession,
+		Instant barTime,
+		BigDecimal openPrice,
+		BigDecimal highPrice,
+		BigDecimal lowPrice,
+		BigDecimal closePrice,
+		long volume,
+		boolean partial
+) {}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package io.softwarestrategies.tradescout.domain;
+
+/**
+ * Time-of-day conditioned volatility baseline for one bar of the session.
+ * Drop is measured from the session open to the bar close, volume is
+ * cumulative from the session open through the bar.
+ */
+public record IntradayBaseline(
+		String symbol,
+		int barMinutes,
+		int minuteOfSession,
+		int sampleDays,
+		double avgDropFromOpenPct,
+		double stddevDropFromOpenPct,
+		long avgCumulativeVolume,
+		long stddevCumulativeVolume
+) {}
\ No newline at end of file
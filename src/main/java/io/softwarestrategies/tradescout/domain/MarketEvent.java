@@ -0,0 +1,27 @@
+package io.softwarestrategies.tradescout.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduled market event (earnings release, FOMC meeting) spanning inclusive dates.
+ * Market-wide events have no symbol.
+ */
+public record MarketEvent(
+		Type type,
+		String symbol,
+		LocalDate start,
+		LocalDate end,
+		String description
+) {
+
+	public enum Type {
+		EARNINGS, FOMC, OTHER
+	}
+
+	/**
+	 * Check if this event applies to every symbol
+	 */
+	public boolean isMarketWide() {
+		return symbol == null;
+	}
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package io.softwarestrategies.tradescout.domain;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Objects;
@@ -9,9 +10,13 @@ import java.util.Objects;
 /**
  * Entity storing performance metrics for a given time period.
  * Used for tracking progress toward annual targets.
+ * There is one row per period type and start: the rollup of trades closed in that period.
  */
 @Entity
 @Table(name = "performance_metrics",
+		uniqueConstraints = {
+				@UniqueConstraint(name = "uk_performance_metrics_period", columnNames = {"period_type", "period_start"})
+		},
 		indexes = {
 				@Index(name = "idx_performance_period", columnList = "period_type,period_end")
 		})
@@ -94,7 +99,42 @@ public class PerformanceMetrics {
 	}
 
 	public enum PeriodType {
-		WEEKLY, MONTHLY, QUARTERLY, ANNUAL
+		DAILY(252), WEEKLY(52), MONTHLY(12), QUARTERLY(4), ANNUAL(1);
+
+		private final int periodsPerYear;
+
+		PeriodType(int periodsPerYear) {
+			this.periodsPerYear = periodsPerYear;
+		}
+
+		public int getPeriodsPerYear() { return periodsPerYear; }
+
+		/**
+		 * First day of the period containing a date (weeks start on Monday)
+		 */
+		public LocalDate startOf(LocalDate date) {
+			return switch (this) {
+				case DAILY -> date;
+				case WEEKLY -> date.with(DayOfWeek.MONDAY);
+				case MONTHLY -> date.withDayOfMonth(1);
+				case QUARTERLY -> date.withDayOfMonth(1).withMonth((date.getMonthValue() - 1) / 3 * 3 + 1);
+				case ANNUAL -> date.withDayOfYear(1);
+			};
+		}
+
+		/**
+		 * Last day of the period containing a date
+		 */
+		public LocalDate endOf(LocalDate date) {
+			var start = startOf(date);
+			return switch (this) {
+				case DAILY -> start;
+				case WEEKLY -> start.plusDays(6);
+				case MONTHLY -> start.plusMonths(1).minusDays(1);
+				case QUARTERLY -> start.plusMonths(3).minusDays(1);
+				case ANNUAL -> start.plusYears(1).minusDays(1);
+			};
+		}
 	}
 
 	// Constructors
@@ -0,0 +1,113 @@
+package io.softwarestrategies.tradescout.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Entity storing the streaming robust statistics of one daily series of a stock:
+ * a serialized t-digest (for median, MAD and percentile ranks).
+ * Rebuilt over the lookback window whenever days after lastTradeDate are stored.
+ */
+@Entity
+@Table(name = "robust_metrics",
+		uniqueConstraints = {
+				@UniqueConstraint(name = "uk_robust_metrics", columnNames = {"symbol", "series"})
+		})
+public class RobustMetrics {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, length = 10)
+	private String symbol;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private Series series;
+
+	@Column(nullable = false)
+	private byte[] digest;
+
+	@Column(name = "sample_count", nullable = false)
+	private Long sampleCount;
+
+	private Double median;
+
+	// Normal-consistent median absolute deviation (1.4826 x raw MAD)
+	private Double mad;
+
+	@Column(name = "last_trade_date", nullable = false)
+	private LocalDate lastTradeDate;
+
+	@Column(name = "updated_at", nullable = false)
+	private Instant updatedAt;
+
+	@PrePersist
+	@PreUpdate
+	protected void onSave() {
+		updatedAt = Instant.now();
+	}
+
+	public enum Series {
+		MAX_DROP
+	}
+
+	// Constructors
+	public RobustMetrics() {}
+
+	public RobustMetrics(String symbol, Series series) {
+		this.symbol = symbol;
+		this.series = series;
+		this.sampleCount = 0L;
+	}
+
+	// Getters and setters
+	public Long getId() { return id; }
+	public void setId(Long id) { this.id = id; }
+
+	public String getSymbol() { return symbol; }
+	public void setSymbol(String symbol) { this.symbol = symbol; }
+
+	public Series getSeries() { return series; }
+	public void setSeries(Series series) { this.series = series; }
+
+	public byte[] getDigest() { return digest; }
+	public void setDigest(byte[] digest) { this.digest = digest; }
+
+	public Long getSampleCount() { return sampleCount; }
+	public void setSampleCount(Long sampleCount) { this.sampleCount = sampleCount; }
+
+	public Double getMedian() { return median; }
+	public void setMedian(Double median) { this.median = median; }
+
+	public Double getMad() { return mad; }
+	public void setMad(Double mad) { this.mad = mad; }
+
+	public LocalDate getLastTradeDate() { return lastTradeDate; }
+	public void setLastTradeDate(LocalDate lastTradeDate) { this.lastTradeDate = lastTradeDate; }
+
+	public Instant getUpdatedAt() { return updatedAt; }
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		RobustMetrics that = (RobustMetrics) o;
+		return Objects.equals(symbol, that.symbol) &&
+				Objects.equals(series, that.series);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(symbol, series);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RobustMetrics{%s %s: median=%.2f, mad=%.2f, n=%d}",
+				symbol, series, median, mad, sampleCount);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+package io.softwarestrategies.tradescout.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Entity recording the progress of one stage of one shard of a batch job run.
+ * A shard index of -1 marks a stage that runs once for the whole run.
+ */
+@Entity
+@Table(name = "shard_checkpoints",
+		uniqueConstraints = {
+				@UniqueConstraint(name = "uk_shard_checkpoints",
+						columnNames = {"job_type", "run_key", "shard_index", "stage"})
+		},
+		indexes = {
+				@Index(name = "idx_shard_checkpoints_run", columnList = "job_type,run_key")
+		})
+public class ShardCheckpoint {
+
+	public static final int GLOBAL_SHARD = -1;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "job_type", nullable = false, length = 30)
+	private JobType jobType;
+
+	@Column(name = "run_key", nullable = false, length = 30)
+	private String runKey;
+
+	@Column(name = "shard_index", nullable = false)
+	private Integer shardIndex;
+
+	@Column(name = "shard_count", nullable = false)
+	private Integer shardCount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 30)
+	private Stage stage;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private Status status = Status.PENDING;
+
+	@Column(nullable = false)
+	private Integer attempts = 0;
+
+	@Column(length = 100)
+	private String owner;
+
+	@Column(name = "started_at")
+	private Instant startedAt;
+
+	@Column(name = "completed_at")
+	private Instant completedAt;
+
+	@Column(name = "last_error", length = 1000)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Instant createdAt;
+
+	@PrePersist
+	protected void onCreate() {
+		createdAt = Instant.now();
+	}
+
+	public enum JobType {
+		DAILY_MAINTENANCE, BACKFILL, SCAN
+	}
+
+	// Declared in execution order
+	public enum Stage {
+		LOAD_HISTORY, UPDATE_QUOTES, CALCULATE_METRICS, UPDATE_ROBUST_METRICS, SCAN_SYMBOLS,
+		RETENTION, INTRADAY_BASELINES, PERFORMANCE_ROLLUPS, CORRELATION_MATRIX,
+		MARKET_FACTORS
+	}
+
+	public enum Status {
+		PENDING, RUNNING, COMPLETED, FAILED
+	}
+
+	// Constructors
+	public ShardCheckpoint() {}
+
+	public ShardCheckpoint(JobType jobType, String runKey, Integer shardIndex,
+						   Integer shardCount, Stage stage) {
+		this.jobType = jobType;
+		this.runKey = runKey;
+		this.shardIndex = shardIndex;
+		this.shardCount = shardCount;
+		this.stage = stage;
+	}
+
+	/**
+	 * Check if this is a whole-run stage rather than a shard stage
+	 */
+	@Transient
+	public boolean isGlobal() {
+		return shardIndex != null && shardIndex == GLOBAL_SHARD;
+	}
+
+	// Getters and setters
+	public Long getId() { return id; }
+	public void setId(Long id) { this.id = id; }
+
+	public JobType getJobType() { return jobType; }
+	public void setJobType(JobType jobType) { this.jobType = jobType; }
+
+	public String getRunKey() { return runKey; }
+	public void setRunKey(String runKey) { this.runKey = runKey; }
+
+	public Integer getShardIndex() { return shardIndex; }
+	public void setShardIndex(Integer shardIndex) { this.shardIndex = shardIndex; }
+
+	public Integer getShardCount() { return shardCount; }
+	public void setShardCount(Integer shardCount) { this.shardCount = shardCount; }
+
+	public Stage getStage() { return stage; }
+	public void setStage(Stage stage) { this.stage = stage; }
+
+	public Status getStatus() { return status; }
+	public void setStatus(Status status) { this.status = status; }
+
+	public Integer getAttempts() { return attempts; }
+	public void setAttempts(Integer attempts) { this.attempts = attempts; }
+
+	public String getOwner() { return owner; }
+	public void setOwner(String owner) { this.owner = owner; }
+
+	public Instant getStartedAt() { return startedAt; }
+	public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+	public Instant getCompletedAt() { return completedAt; }
+	public void setCompletedAt(Instant completedAt) { this.completedAt = completedAt; }
+
+	public String getLastError() { return lastError; }
+	public void setLastError(String lastError) { this.lastError = lastError; }
+
+	public Instant getCreatedAt() { return createdAt; }
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShardCheckpoint that = (ShardCheckpoint) o;
+		return Objects.equals(jobType, that.jobType) &&
+				Objects.equals(runKey, that.runKey) &&
+				Objects.equals(shardIndex, that.shardIndex) &&
+				Objects.equals(stage, that.stage);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(jobType, runKey, shardIndex, stage);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShardCheckpoint{%s/%s shard=%d stage=%s status=%s}",
+				jobType, runKey, shardIndex, stage, status);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package io.softwarestrategies.tradescout.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One row of scan history: an emitted signal, or a scored symbol that produced none.
+ * Written through the JDBC append path rather than JPA because the signals
+ * table is append-only and written in batches off the scan thread.
+ * Measures that do not apply are NaN (or null for the signal-only fields).
+ */
+public record SignalRecord(
+		Instant scannedAt,
+		String symbol,
+		Outcome outcome,
+		String strategy,
+		Double confidence,
+		BigDecimal price,
+		double changePct,
+		double dropFromOpenPct,
+		double dropZScore,
+		Double signalZScore,
+		double volumeZScore,
+		double residualZScore,
+		Map<String, Double> measures
+) {
+
+	// MARKET_EXPLAINED: no signal, with the drop strategies skipped because the benchmarks explain the move
+	public enum Outcome {
+		SIGNAL, SCORED, MARKET_EXPLAINED
+	}
+}
\ No newline at end of file
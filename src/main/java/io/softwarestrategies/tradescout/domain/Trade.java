@@ -78,6 +78,10 @@ public class Trade {
 	@Column(name = "updated_at", nullable = false)
 	private Instant updatedAt;
 
+	// Concurrent updates of the same trade (e.g. two closes) fail instead of both applying
+	@Version
+	private Long version;
+
 	@PrePersist
 	protected void onCreate() {
 		createdAt = Instant.now();
@@ -122,6 +126,14 @@ public class Trade {
 		calculatePnL();
 	}
 
+	/**
+	 * Cancel the trade without an exit
+	 */
+	public void cancel() {
+		this.exitReason = ExitReason.CANCELLED;
+		this.status = TradeStatus.CANCELLED;
+	}
+
 	/**
 	 * Check if trade is a winner
 	 */
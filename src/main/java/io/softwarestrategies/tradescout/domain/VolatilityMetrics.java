@@ -1,5 +1,6 @@
 package io.softwarestrategies.tradescout.domain;
 
+import io.softwarestrategies.tradescout.util.PercentileTable;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -54,6 +55,20 @@ public class VolatilityMetrics {
 	@Column(name = "stddev_daily_change_pct")
 	private Double stddevDailyChangePct;
 
+	// Overnight gap (open vs previous close) metrics
+	@Column(name = "avg_gap_pct")
+	private Double avgGapPct;
+
+	@Column(name = "stddev_gap_pct")
+	private Double stddevGapPct;
+
+	// Close-to-close change metrics
+	@Column(name = "avg_close_change_pct")
+	private Double avgCloseChangePct;
+
+	@Column(name = "stddev_close_change_pct")
+	private Double stddevCloseChangePct;
+
 	// Volume metrics
 	@Column(name = "avg_volume")
 	private Long avgVolume;
@@ -61,6 +76,13 @@ public class VolatilityMetrics {
 	@Column(name = "stddev_volume")
 	private Long stddevVolume;
 
+	// Sorted max-drop % of the window, see PercentileTable
+	@Column(name = "max_drop_table")
+	private byte[] maxDropTable;
+
+	@Transient
+	private PercentileTable maxDropPercentiles;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private Instant createdAt;
 
@@ -125,6 +147,26 @@ public class VolatilityMetrics {
 		this.stddevDailyChangePct = stddevDailyChangePct;
 	}
 
+	public Double getAvgGapPct() { return avgGapPct; }
+	public void setAvgGapPct(Double avgGapPct) {
+		this.avgGapPct = avgGapPct;
+	}
+
+	public Double getStddevGapPct() { return stddevGapPct; }
+	public void setStddevGapPct(Double stddevGapPct) {
+		this.stddevGapPct = stddevGapPct;
+	}
+
+	public Double getAvgCloseChangePct() { return avgCloseChangePct; }
+	public void setAvgCloseChangePct(Double avgCloseChangePct) {
+		this.avgCloseChangePct = avgCloseChangePct;
+	}
+
+	public Double getStddevCloseChangePct() { return stddevCloseChangePct; }
+	public void setStddevCloseChangePct(Double stddevCloseChangePct) {
+		this.stddevCloseChangePct = stddevCloseChangePct;
+	}
+
 	public Long getAvgVolume() { return avgVolume; }
 	public void setAvgVolume(Long avgVolume) { this.avgVolume = avgVolume; }
 
@@ -133,6 +175,22 @@ public class VolatilityMetrics {
 		this.stddevVolume = stddevVolume;
 	}
 
+	public byte[] getMaxDropTable() { return maxDropTable; }
+	public void setMaxDropTable(byte[] maxDropTable) {
+		this.maxDropTable = maxDropTable;
+		this.maxDropPercentiles = null;
+	}
+
+	/**
+	 * Empirical distribution of the window's max-drop %, decoded on first use (null if not stored)
+	 */
+	public PercentileTable getMaxDropPercentiles() {
+		if (maxDropPercentiles == null && maxDropTable != null) {
+			maxDropPercentiles = PercentileTable.fromBytes(maxDropTable);
+		}
+		return maxDropPercentiles;
+	}
+
 	public Instant getCreatedAt() { return createdAt; }
 
 	@Override
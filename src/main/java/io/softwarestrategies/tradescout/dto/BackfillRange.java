@@ -0,0 +1,12 @@
+package io.softwarestrategies.tradescout.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Inclusive date range of daily history to fetch for one symbol
+ */
+public record BackfillRange(
+		String symbol,
+		LocalDate from,
+		LocalDate to
+) {}
\ No newline at end of file
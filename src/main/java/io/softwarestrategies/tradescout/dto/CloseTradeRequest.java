@@ -0,0 +1,13 @@
+package io.softwarestrategies.tradescout.dto;
+
+import io.softwarestrategies.tradescout.domain.Trade;
+
+import java.math.BigDecimal;
+
+/**
+ * Request to close an open trade; the exit reason defaults to MANUAL_EXIT
+ */
+public record CloseTradeRequest(
+		BigDecimal exitPrice,
+		Trade.ExitReason exitReason
+) {}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package io.softwarestrategies.tradescout.dto;
+
+/**
+ * Two symbols and the correlation of their daily returns
+ */
+public record CorrelatedPair(
+		String first,
+		String second,
+		double correlation
+) {}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package io.softwarestrategies.tradescout.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Equity-curve statistics for a period of sessions
+ */
+public record EquityStats(
+		LocalDate from,
+		LocalDate to,
+		int sessions,
+		double startingEquity,
+		double endingEquity,
+		double maxDrawdown,
+		double maxDrawdownPercent,
+		double sharpeRatio
+) {}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package io.softwarestrategies.tradescout.dto;
+
+/**
+ * One symbol's daily log-return regression on the market benchmark and on the sector
+ * benchmark's return net of the market:
+ * r = alpha + marketBeta * m + sectorBeta * (s - sectorOnMarketBeta * m) + e
+ */
+public record FactorLoading(
+		String symbol,
+		double alpha,
+		double marketBeta,
+		double sectorBeta,
+		double residualStdDev,
+		double rSquared,
+		int observations
+) {
+
+	/**
+	 * Log return the factors explain, given the market return and the sector residual
+	 */
+	public double expectedLogReturn(double marketLogReturn, double sectorResidual) {
+		return alpha + marketBeta * marketLogReturn + sectorBeta * sectorResidual;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package io.softwarestrategies.tradescout.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Stored daily history of one symbol within a window: first and last trade date and row count
+ */
+public record HistoryCoverage(
+		String symbol,
+		LocalDate firstDate,
+		LocalDate lastDate,
+		Long days
+) {}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package io.softwarestrategies.tradescout.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Request to open a trade at the given levels
+ */
+public record OpenTradeRequest(
+		String symbol,
+		BigDecimal entryPrice,
+		BigDecimal targetPrice,
+		BigDecimal stopPrice,
+		Integer positionSize,
+		String entryReasoning,
+		Double confidenceScore
+) {}
\ No newline at end of file
@@ -2,12 +2,15 @@ package io.softwarestrategies.tradescout.dto;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Map;
 
 /**
- * Represents a detected trading opportunity signal
+ * Represents a detected trading opportunity signal, tagged with the strategy that emitted it.
+ * Strategy-specific numbers are kept in measures; reasoning text is rendered from them on demand.
  */
 public record OpportunitySignal(
 		String symbol,
+		String strategy,
 		BigDecimal currentPrice,
 		BigDecimal todayOpen,
 		BigDecimal todayHigh,
@@ -15,10 +18,11 @@ public record OpportunitySignal(
 		Long currentVolume,
 		Double currentDropPct,
 		Double priceZScore,
+		Double dropPercentile,
 		Double volumeZScore,
 		Double confidence,
 		Boolean isOpportunity,
-		String reason,
+		Map<String, Double> measures,
 		HistoricalContext historicalContext,
 		Instant timestamp
 ) {
@@ -28,7 +32,8 @@ public record OpportunitySignal(
 			Double stddevMaxDropPct,
 			Long avgVolume,
 			Long stddevVolume,
-			Double last5DaysAvgChange
+			Double last5DaysAvgChange,
+			Double stddevDailyChangePct
 	) {}
 
 	/**
@@ -49,7 +54,7 @@ public record OpportunitySignal(
 	 * Get a human-readable summary
 	 */
 	public String getSummary() {
-		return String.format("OpportunitySignal { %s: %s percent drop on low volume  Confidence: %s  Price Z-Score: %s  Volume Z-Score: %s }",
-				symbol, currentDropPct, confidence, priceZScore, volumeZScore);
+		return String.format("OpportunitySignal { %s [%s]: %s percent from open  Confidence: %s  Price Z-Score: %s  Volume Z-Score: %s }",
+				symbol, strategy, currentDropPct, confidence, priceZScore, volumeZScore);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package io.softwarestrategies.tradescout.dto;
+
+import io.softwarestrategies.tradescout.domain.Trade;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Latest mark-to-market of an open position.
+ * breach is TARGET_HIT or STOP_HIT when the last price crossed a level, otherwise null.
+ */
+public record PositionMark(
+		Long tradeId,
+		String symbol,
+		Integer positionSize,
+		BigDecimal entryPrice,
+		BigDecimal lastPrice,
+		BigDecimal unrealizedPnl,
+		Double unrealizedPnlPercent,
+		Trade.ExitReason breach,
+		Instant markedAt
+) {}
\ No newline at end of file
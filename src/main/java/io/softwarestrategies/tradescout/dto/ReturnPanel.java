@@ -0,0 +1,21 @@
+package io.softwarestrategies.tradescout.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily log returns of many symbols on a shared date axis, in one contiguous array.
+ * Symbol i's returns are returns[i * observations .. (i + 1) * observations); return t is
+ * from dates[t] to dates[t + 1].
+ */
+public record ReturnPanel(
+		List<String> symbols,
+		List<LocalDate> dates,
+		double[] returns,
+		int observations
+) {
+
+	public int size() {
+		return symbols.size();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package io.softwarestrategies.tradescout.dto;
+
+import com.tdunning.math.stats.MergingDigest;
+
+/**
+ * Robust baseline of one daily series of a stock: median/MAD statistics
+ * plus the quantile sketch they were derived from, for percentile ranks.
+ * The sketch is fully merged and only read.
+ */
+public record RobustBaseline(
+		double median,
+		double mad,
+		long sampleCount,
+		MergingDigest digest
+) {
+
+	/**
+	 * Robust Z-score: distance from the median in units of normal-consistent MAD
+	 */
+	public double robustZScore(double value) {
+		return mad == 0 ? 0.0 : (value - median) / mad;
+	}
+
+	/**
+	 * Share of observed days at or below the value, in percent
+	 */
+	public double percentileRank(double value) {
+		return digest.cdf(value) * 100;
+	}
+}
\ No newline at end of file
@@ -3,7 +3,8 @@ package io.softwarestrategies.tradescout.dto;
 import java.math.BigDecimal;
 
 /**
- * Represents a concrete trade setup ready for execution
+ * Represents a concrete trade setup ready for execution.
+ * Reasoning text is rendered on demand by ReasoningService.
  */
 public record TradeSetup(
 		String symbol,
@@ -13,8 +14,7 @@ public record TradeSetup(
 		Integer positionSize,
 		BigDecimal riskAmount,
 		BigDecimal profitTarget,
-		Double confidence,
-		String reasoning
+		Double confidence
 ) {
 
 	/**
@@ -0,0 +1,13 @@
+package io.softwarestrategies.tradescout.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Partial update of a trade: new stop/target levels (open trades only) and notes.
+ * Null fields are left unchanged.
+ */
+public record TradeUpdateRequest(
+		BigDecimal targetPrice,
+		BigDecimal stopPrice,
+		String lessonsLearned
+) {}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package io.softwarestrategies.tradescout.dto;
+
+import java.time.Instant;
+
+/**
+ * Count and latest update time of a set of trades; changes whenever a trade in the set is
+ * inserted, updated or leaves it, so caches compare it to detect writes from any node
+ */
+public record TradesVersion(Long count, Instant lastUpdated) {}
\ No newline at end of file
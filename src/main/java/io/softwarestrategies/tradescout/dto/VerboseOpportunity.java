@@ -0,0 +1,11 @@
+package io.softwarestrategies.tradescout.dto;
+
+/**
+ * An opportunity with its trade setup and rendered reasoning text, for verbose API responses
+ */
+public record VerboseOpportunity(
+		OpportunitySignal signal,
+		TradeSetup setup,
+		String reason,
+		String tradeReasoning
+) {}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package io.softwarestrategies.tradescout.event;
+
+import io.softwarestrategies.tradescout.domain.Trade;
+
+/**
+ * Published when a trade is opened, updated, closed or cancelled.
+ * Listeners keeping derived state (equity curve, reports) update incrementally from it.
+ */
+public record TradeEvent(Type type, Trade trade) {
+
+	public enum Type {
+		OPENED, UPDATED, CLOSED, CANCELLED
+	}
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package io.softwarestrategies.tradescout.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * JDBC repository for per-symbol alert cooldowns.
+ * A cooldown is started by a single conditional upsert, so only one node can claim an alert.
+ */
+@Repository
+public class AlertCooldownRepository {
+
+	private static final String CLAIM_SQL = """
+			INSERT INTO alert_cooldowns (symbol, last_alerted_at)
+			VALUES (?, ?)
+			ON CONFLICT (symbol) DO UPDATE
+			SET last_alerted_at = EXCLUDED.last_alerted_at
+			WHERE alert_cooldowns.last_alerted_at < ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public AlertCooldownRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Record an alert at alertedAt unless the symbol was alerted at or after cutoff
+	 *
+	 * @return true if this caller claimed the alert
+	 */
+	public boolean claim(String symbol, Instant alertedAt, Instant cutoff) {
+		return jdbcTemplate.update(CLAIM_SQL, symbol, Timestamp.from(alertedAt), Timestamp.from(cutoff)) == 1;
+	}
+
+	/**
+	 * Undo a claim whose alert was never sent
+	 */
+	public void release(String symbol, Instant alertedAt) {
+		jdbcTemplate.update("DELETE FROM alert_cooldowns WHERE symbol = ? AND last_alerted_at = ?",
+				symbol, Timestamp.from(alertedAt));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package io.softwarestrategies.tradescout.repository;
+
+import io.softwarestrategies.tradescout.dto.BackfillRange;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC repository for date ranges the data provider returned no daily bars for
+ */
+@Repository
+public class HistoryHoleRepository {
+
+	private static final String RECORD_HOLE_SQL = """
+			INSERT INTO history_holes (symbol, from_date, to_date)
+			VALUES (?, ?, ?)
+			ON CONFLICT (symbol, from_date) DO UPDATE
+			SET to_date = GREATEST(history_holes.to_date, EXCLUDED.to_date), recorded_at = CURRENT_TIMESTAMP
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public HistoryHoleRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Record holes in one JDBC batch, widening an existing hole with the same start
+	 */
+	public void recordHoles(List<BackfillRange> holes) {
+		if (holes.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(RECORD_HOLE_SQL, holes, holes.size(), (ps, hole) -> {
+			ps.setString(1, hole.symbol());
+			ps.setDate(2, Date.valueOf(hole.from()));
+			ps.setDate(3, Date.valueOf(hole.to()));
+		});
+	}
+
+	/**
+	 * Holes of the symbols that end on or after a date, ordered by symbol and start
+	 */
+	public List<BackfillRange> findHoles(Collection<String> symbols, LocalDate since) {
+		if (symbols.isEmpty()) {
+			return List.of();
+		}
+		var placeholders = String.join(",", symbols.stream().map(s -> "?").toList());
+		var sql = """
+				SELECT symbol, from_date, to_date FROM history_holes
+				WHERE symbol IN (%s) AND to_date >= ?
+				ORDER BY symbol, from_date
+				""".formatted(placeholders);
+
+		var args = new Object[symbols.size() + 1];
+		var i = 0;
+		for (var symbol : symbols) {
+			args[i++] = symbol;
+		}
+		args[i] = Date.valueOf(since);
+
+		return jdbcTemplate.query(sql, (rs, rowNum) -> new BackfillRange(
+				rs.getString("symbol"),
+				rs.getDate("from_date").toLocalDate(),
+				rs.getDate("to_date").toLocalDate()
+		), args);
+	}
+}
\ No newline at end of file
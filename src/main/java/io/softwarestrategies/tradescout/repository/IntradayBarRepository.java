@@ -0,0 +1,126 @@
+package io.softwarestrategies.tradescout.repository;
+
+import io.softwarestrategies.tradescout.domain.IntradayBar;
+import io.softwarestrategies.tradescout.domain.IntradayBaseline;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * JDBC repository for intraday bars and time-of-day baselines.
+ * Bars are appended in JDBC batches; baselines are computed set-based in the database.
+ */
+@Repository
+public class IntradayBarRepository {
+
+	private static final String APPEND_BAR_SQL = """
+			INSERT INTO intraday_bars (symbol, bar_date, bar_minutes, minute_of_session, bar_time,
+			                           open_price, high_price, low_price, close_price, volume, partial)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+			ON CONFLICT (symbol, bar_date, bar_minutes, minute_of_session) DO UPDATE SET
+			    high_price = GREATEST(intraday_bars.high_price, EXCLUDED.high_price),
+			    low_price = LEAST(intraday_bars.low_price, EXCLUDED.low_price),
+			    close_price = EXCLUDED.close_price,
+			    volume = EXCLUDED.volume,
+			    partial = EXCLUDED.partial
+			""";
+
+	private static final String CALCULATE_BASELINES_SQL = """
+			INSERT INTO intraday_volatility_baselines (symbol, bar_minutes, minute_of_session,
+			        calculation_date, lookback_days, sample_days,
+			        avg_drop_from_open_pct, stddev_drop_from_open_pct,
+			        avg_cumulative_volume, stddev_cumulative_volume)
+			SELECT symbol, bar_minutes, minute_of_session, ?, ?, COUNT(*),
+			       AVG(drop_pct), STDDEV_POP(drop_pct),
+			       AVG(cumulative_volume)::BIGINT, STDDEV_POP(cumulative_volume)::BIGINT
+			FROM (
+			    SELECT symbol, bar_minutes, minute_of_session,
+			           (close_price - FIRST_VALUE(open_price) OVER session)
+			               / NULLIF(FIRST_VALUE(open_price) OVER session, 0) * 100 AS drop_pct,
+			           SUM(volume) OVER session AS cumulative_volume,
+			           BOOL_OR(partial) OVER session AS after_partial
+			    FROM intraday_bars
+			    WHERE bar_date >= ? AND bar_date < ? AND bar_minutes = ?
+			    WINDOW session AS (PARTITION BY symbol, bar_date ORDER BY minute_of_session)
+			) session_bars
+			WHERE NOT after_partial
+			GROUP BY symbol, bar_minutes, minute_of_session
+			ON CONFLICT (symbol, bar_minutes, minute_of_session) DO UPDATE SET
+			    calculation_date = EXCLUDED.calculation_date,
+			    lookback_days = EXCLUDED.lookback_days,
+			    sample_days = EXCLUDED.sample_days,
+			    avg_drop_from_open_pct = EXCLUDED.avg_drop_from_open_pct,
+			    stddev_drop_from_open_pct = EXCLUDED.stddev_drop_from_open_pct,
+			    avg_cumulative_volume = EXCLUDED.avg_cumulative_volume,
+			    stddev_cumulative_volume = EXCLUDED.stddev_cumulative_volume
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public IntradayBarRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Append bars in a single JDBC batch. A bar that is re-sent is merged into the stored one.
+	 */
+	public void appendBars(List<IntradayBar> bars) {
+		if (bars.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(APPEND_BAR_SQL, bars, bars.size(), (ps, bar) -> {
+			ps.setString(1, bar.symbol());
+			ps.setDate(2, Date.valueOf(bar.barDate()));
+			ps.setInt(3, bar.barMinutes());
+			ps.setInt(4, bar.minuteOfSession());
+			ps.setTimestamp(5, Timestamp.from(bar.barTime()));
+			ps.setBigDecimal(6, bar.openPrice());
+			ps.setBigDecimal(7, bar.highPrice());
+			ps.setBigDecimal(8, bar.lowPrice());
+			ps.setBigDecimal(9, bar.closePrice());
+			ps.setLong(10, bar.volume());
+			ps.setBoolean(11, bar.partial());
+		});
+	}
+
+	/**
+	 * Recalculate time-of-day baselines from bars in [from, to).
+	 * Drop from open and cumulative volume need every bar since the session open,
+	 * so a partial bar excludes itself and the rest of its session.
+	 */
+	public int calculateBaselines(LocalDate calculationDate, int lookbackDays,
+								  LocalDate from, LocalDate to, int barMinutes) {
+		return jdbcTemplate.update(CALCULATE_BASELINES_SQL,
+				Date.valueOf(calculationDate), lookbackDays,
+				Date.valueOf(from), Date.valueOf(to), barMinutes);
+	}
+
+	/**
+	 * Load all baselines for a bar size
+	 */
+	public List<IntradayBaseline> findBaselines(int barMinutes) {
+		return jdbcTemplate.query("""
+						SELECT symbol, bar_minutes, minute_of_session, sample_days,
+						       avg_drop_from_open_pct, stddev_drop_from_open_pct,
+						       avg_cumulative_volume, stddev_cumulative_volume
+						FROM intraday_volatility_baselines
+						WHERE bar_minutes = ?
+						""",
+				(rs, rowNum) -> new IntradayBaseline(
+						rs.getString("symbol"),
+						rs.getInt("bar_minutes"),
+						rs.getInt("minute_of_session"),
+						rs.getInt("sample_days"),
+						rs.getDouble("avg_drop_from_open_pct"),
+						rs.getDouble("stddev_drop_from_open_pct"),
+						rs.getLong("avg_cumulative_volume"),
+						rs.getLong("stddev_cumulative_volume")
+				),
+				barMinutes);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package io.softwarestrategies.tradescout.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * JDBC repository for named, time-limited leases.
+ * A lease is taken or renewed by a single conditional upsert, so at most one owner holds it.
+ */
+@Repository
+public class LeaseRepository {
+
+	private static final String ACQUIRE_SQL = """
+			INSERT INTO leases (name, owner, expires_at)
+			VALUES (?, ?, ?)
+			ON CONFLICT (name) DO UPDATE
+			SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+			WHERE leases.owner = EXCLUDED.owner OR leases.expires_at < ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public LeaseRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Take the lease if it is free or expired, or renew it if the owner already holds it
+	 *
+	 * @return true if the owner holds the lease for the given duration
+	 */
+	public boolean tryAcquire(String name, String owner, Duration duration) {
+		var now = Instant.now();
+		return jdbcTemplate.update(ACQUIRE_SQL, name, owner,
+				Timestamp.from(now.plus(duration)), Timestamp.from(now)) == 1;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package io.softwarestrategies.tradescout.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * JDBC repository for managing partitions of range-partitioned tables
+ */
+@Repository
+public class PartitionRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public PartitionRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Create the stock_history partition for the month containing a date
+	 */
+	public void createStockHistoryPartition(LocalDate date) {
+		jdbcTemplate.queryForObject("SELECT create_stock_history_partition(?)::TEXT",
+				String.class, Date.valueOf(date));
+	}
+
+	/**
+	 * Create the intraday_bars partition for a day
+	 */
+	public void createIntradayBarsPartition(LocalDate date) {
+		jdbcTemplate.queryForObject("SELECT create_intraday_bars_partition(?)::TEXT",
+				String.class, Date.valueOf(date));
+	}
+
+	/**
+	 * Names of all partitions currently attached to a parent table
+	 */
+	public List<String> findPartitionNames(String parentTable) {
+		return jdbcTemplate.queryForList("""
+				SELECT child.relname
+				FROM pg_inherits
+				JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+				JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+				WHERE parent.relname = ?
+				ORDER BY child.relname
+				""", String.class, parentTable);
+	}
+
+	/**
+	 * Detach a partition from its parent and drop it.
+	 * Takes constant time regardless of the rows it holds and leaves no dead tuples behind.
+	 */
+	public void dropPartition(String parentTable, String partitionName) {
+		jdbcTemplate.execute("ALTER TABLE \"" + parentTable + "\" DETACH PARTITION \"" + partitionName + "\"");
+		jdbcTemplate.execute("DROP TABLE \"" + partitionName + "\"");
+	}
+}
\ No newline at end of file
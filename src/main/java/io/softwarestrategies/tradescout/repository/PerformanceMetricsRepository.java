@@ -17,6 +17,17 @@ public interface PerformanceMetricsRepository extends JpaRepository<PerformanceM
 			PerformanceMetrics.PeriodType periodType
 	);
 
+	Optional<PerformanceMetrics> findByPeriodTypeAndPeriodStart(
+			PerformanceMetrics.PeriodType periodType,
+			LocalDate periodStart
+	);
+
+	List<PerformanceMetrics> findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+			PerformanceMetrics.PeriodType periodType,
+			LocalDate from,
+			LocalDate to
+	);
+
 	Optional<PerformanceMetrics> findByPeriodTypeAndPeriodEnd(
 			PerformanceMetrics.PeriodType periodType,
 			LocalDate periodEnd
@@ -28,6 +39,4 @@ public interface PerformanceMetricsRepository extends JpaRepository<PerformanceM
 			@Param("periodType") PerformanceMetrics.PeriodType periodType,
 			@Param("fromDate") LocalDate fromDate
 	);
-
-	void deleteByPeriodEndBefore(LocalDate before);
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package io.softwarestrategies.tradescout.repository;
+
+import io.softwarestrategies.tradescout.domain.PerformanceMetrics;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC repository writing performance rollups.
+ * Rows are upserted in one batch on (period_type, period_start), so recomputing a period
+ * replaces its row instead of adding another.
+ */
+@Repository
+public class PerformanceRollupRepository {
+
+	private static final String UPSERT_SQL = """
+			INSERT INTO performance_metrics (period_type, period_start, period_end,
+			        starting_capital, ending_capital, total_trades, winning_trades, losing_trades,
+			        win_rate, total_pnl, return_percent, avg_win, avg_loss, largest_win, largest_loss,
+			        profit_factor, max_drawdown, max_drawdown_percent, sharpe_ratio,
+			        on_pace_for_annual_target, projected_annual_return)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+			ON CONFLICT (period_type, period_start) DO UPDATE SET
+			    period_end = EXCLUDED.period_end,
+			    starting_capital = EXCLUDED.starting_capital,
+			    ending_capital = EXCLUDED.ending_capital,
+			    total_trades = EXCLUDED.total_trades,
+			    winning_trades = EXCLUDED.winning_trades,
+			    losing_trades = EXCLUDED.losing_trades,
+			    win_rate = EXCLUDED.win_rate,
+			    total_pnl = EXCLUDED.total_pnl,
+			    return_percent = EXCLUDED.return_percent,
+			    avg_win = EXCLUDED.avg_win,
+			    avg_loss = EXCLUDED.avg_loss,
+			    largest_win = EXCLUDED.largest_win,
+			    largest_loss = EXCLUDED.largest_loss,
+			    profit_factor = EXCLUDED.profit_factor,
+			    max_drawdown = EXCLUDED.max_drawdown,
+			    max_drawdown_percent = EXCLUDED.max_drawdown_percent,
+			    sharpe_ratio = EXCLUDED.sharpe_ratio,
+			    on_pace_for_annual_target = EXCLUDED.on_pace_for_annual_target,
+			    projected_annual_return = EXCLUDED.projected_annual_return
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public PerformanceRollupRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Insert or replace the rows of the given periods in a single JDBC batch
+	 */
+	public void upsert(List<PerformanceMetrics> rollups) {
+		if (rollups.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(UPSERT_SQL, rollups, rollups.size(), (ps, m) -> {
+			ps.setString(1, m.getPeriodType().name());
+			ps.setDate(2, Date.valueOf(m.getPeriodStart()));
+			ps.setDate(3, Date.valueOf(m.getPeriodEnd()));
+			ps.setBigDecimal(4, m.getStartingCapital());
+			ps.setBigDecimal(5, m.getEndingCapital());
+			ps.setObject(6, m.getTotalTrades(), Types.INTEGER);
+			ps.setObject(7, m.getWinningTrades(), Types.INTEGER);
+			ps.setObject(8, m.getLosingTrades(), Types.INTEGER);
+			ps.setObject(9, m.getWinRate(), Types.DOUBLE);
+			ps.setBigDecimal(10, m.getTotalPnl());
+			ps.setObject(11, m.getReturnPercent(), Types.DOUBLE);
+			ps.setBigDecimal(12, m.getAvgWin());
+			ps.setBigDecimal(13, m.getAvgLoss());
+			ps.setBigDecimal(14, m.getLargestWin());
+			ps.setBigDecimal(15, m.getLargestLoss());
+			ps.setObject(16, m.getProfitFactor(), Types.DOUBLE);
+			ps.setBigDecimal(17, m.getMaxDrawdown());
+			ps.setObject(18, m.getMaxDrawdownPercent(), Types.DOUBLE);
+			ps.setObject(19, m.getSharpeRatio(), Types.DOUBLE);
+			ps.setObject(20, m.getOnPaceForAnnualTarget(), Types.BOOLEAN);
+			ps.setObject(21, m.getProjectedAnnualReturn(), Types.DOUBLE);
+		});
+	}
+
+	/**
+	 * Delete the row of one period (no closed trades left in it)
+	 */
+	public int deletePeriod(PerformanceMetrics.PeriodType periodType, LocalDate periodStart) {
+		return jdbcTemplate.update(
+				"DELETE FROM performance_metrics WHERE period_type = ? AND period_start = ?",
+				periodType.name(), Date.valueOf(periodStart));
+	}
+
+	/**
+	 * Delete every row of a period type whose start is not in the given set
+	 */
+	public int deleteOtherPeriods(PerformanceMetrics.PeriodType periodType, Collection<LocalDate> keepStarts) {
+		var keep = keepStarts.stream().map(Date::valueOf).toArray(Date[]::new);
+		return jdbcTemplate.update(connection -> {
+			var ps = connection.prepareStatement(
+					"DELETE FROM performance_metrics WHERE period_type = ? AND NOT (period_start = ANY (?))");
+			ps.setString(1, periodType.name());
+			ps.setArray(2, connection.createArrayOf("date", keep));
+			return ps;
+		});
+	}
+}
\ No newline at end of file
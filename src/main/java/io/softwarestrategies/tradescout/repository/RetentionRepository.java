@@ -0,0 +1,37 @@
+package io.softwarestrategies.tradescout.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * JDBC repository for set-based retention deletes.
+ * Each call removes at most one batch of rows and commits on its own,
+ * so locks are held only for the duration of a single batch.
+ */
+@Repository
+public class RetentionRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public RetentionRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Delete up to batchSize rows whose date column is before the cutoff
+	 *
+	 * @return number of rows deleted
+	 */
+	public int deleteBatch(String table, String dateColumn, LocalDate cutoff, int batchSize) {
+		var sql = """
+				DELETE FROM %1$s WHERE ctid IN (
+				    SELECT ctid FROM %1$s WHERE %2$s < ? LIMIT ?
+				)
+				""".formatted(table, dateColumn);
+
+		return jdbcTemplate.update(sql, Date.valueOf(cutoff), batchSize);
+	}
+}
\ No newline at end of file
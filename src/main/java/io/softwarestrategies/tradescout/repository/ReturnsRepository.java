@@ -0,0 +1,140 @@
+package io.softwarestrategies.tradescout.repository;
+
+import io.softwarestrategies.tradescout.dto.ReturnPanel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC repository loading aligned daily returns for analytics.
+ * Closes are streamed straight into primitive arrays, with no entity per row.
+ */
+@Repository
+public class ReturnsRepository {
+
+	private static final int FETCH_SIZE = 10_000;
+
+	// Symbols with closes on fewer than this share of the dates are left out
+	private static final double MIN_COVERAGE = 2.0 / 3.0;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ReturnsRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Load log returns over [from, to] for the given symbols (or every stored symbol when null).
+	 * A missing close carries the previous one forward, giving a zero return.
+	 */
+	public ReturnPanel loadReturns(Collection<String> symbols, LocalDate from, LocalDate to) {
+		var filter = symbols == null ? "" : " AND symbol = ANY (?)";
+		var symbolArray = symbols == null ? null : symbols.toArray(String[]::new);
+
+		var dates = jdbcTemplate.query(connection -> {
+			var ps = connection.prepareStatement(
+					"SELECT DISTINCT trade_date FROM stock_history WHERE trade_date BETWEEN ? AND ?" + filter
+							+ " ORDER BY trade_date");
+			ps.setDate(1, Date.valueOf(from));
+			ps.setDate(2, Date.valueOf(to));
+			if (symbolArray != null) {
+				ps.setArray(3, connection.createArrayOf("varchar", symbolArray));
+			}
+			return ps;
+		}, (rs, rowNum) -> rs.getDate(1).toLocalDate());
+
+		if (dates.size() < 3) {
+			return new ReturnPanel(List.of(), dates, new double[0], 0);
+		}
+
+		var loader = new PanelLoader(dates);
+		jdbcTemplate.query(connection -> {
+			var ps = connection.prepareStatement(
+					"SELECT symbol, trade_date, close_price FROM stock_history WHERE trade_date BETWEEN ? AND ?"
+							+ filter + " ORDER BY symbol, trade_date");
+			ps.setFetchSize(FETCH_SIZE);
+			ps.setDate(1, Date.valueOf(from));
+			ps.setDate(2, Date.valueOf(to));
+			if (symbolArray != null) {
+				ps.setArray(3, connection.createArrayOf("varchar", symbolArray));
+			}
+			return ps;
+		}, loader::accept);
+
+		return loader.finish();
+	}
+
+	/**
+	 * Collects one symbol's closes at a time and converts them to a return row
+	 */
+	private static final class PanelLoader {
+		private final List<LocalDate> dates;
+		private final long[] epochDays;
+		private final double[] closes;
+		private final int observations;
+
+		private final List<String> symbols = new ArrayList<>();
+		private final List<double[]> rows = new ArrayList<>();
+
+		private String symbol;
+		private int present;
+
+		private PanelLoader(List<LocalDate> dates) {
+			this.dates = dates;
+			this.epochDays = dates.stream().mapToLong(LocalDate::toEpochDay).toArray();
+			this.closes = new double[dates.size()];
+			this.observations = dates.size() - 1;
+			Arrays.fill(closes, Double.NaN);
+		}
+
+		private void accept(ResultSet rs) throws SQLException {
+			var rowSymbol = rs.getString(1);
+			if (!rowSymbol.equals(symbol)) {
+				flush();
+				symbol = rowSymbol;
+			}
+
+			var t = Arrays.binarySearch(epochDays, rs.getDate(2).toLocalDate().toEpochDay());
+			var close = rs.getDouble(3);
+			if (t >= 0 && close > 0) {
+				closes[t] = close;
+				present++;
+			}
+		}
+
+		private void flush() {
+			if (symbol != null && present >= MIN_COVERAGE * closes.length) {
+				var row = new double[observations];
+				var previous = Double.NaN;
+				for (int t = 0; t < closes.length; t++) {
+					var current = Double.isNaN(closes[t]) ? previous : closes[t];
+					if (t > 0) {
+						row[t - 1] = Double.isNaN(previous) || Double.isNaN(current) ? 0.0 : Math.log(current / previous);
+					}
+					previous = current;
+				}
+				symbols.add(symbol);
+				rows.add(row);
+			}
+			Arrays.fill(closes, Double.NaN);
+			present = 0;
+		}
+
+		private ReturnPanel finish() {
+			flush();
+			var returns = new double[rows.size() * observations];
+			for (int i = 0; i < rows.size(); i++) {
+				System.arraycopy(rows.get(i), 0, returns, i * observations, observations);
+			}
+			return new ReturnPanel(List.copyOf(symbols), dates, returns, observations);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package io.softwarestrategies.tradescout.repository;
+
+import io.softwarestrategies.tradescout.domain.RobustMetrics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RobustMetricsRepository extends JpaRepository<RobustMetrics, Long> {
+
+	List<RobustMetrics> findBySymbolIn(Collection<String> symbols);
+}
\ No newline at end of file
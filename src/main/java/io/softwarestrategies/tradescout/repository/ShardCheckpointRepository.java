@@ -0,0 +1,70 @@
+package io.softwarestrategies.tradescout.repository;
+
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ShardCheckpointRepository extends JpaRepository<ShardCheckpoint, Long> {
+
+	List<ShardCheckpoint> findByJobTypeAndRunKeyOrderByShardIndexAscStageAsc(
+			ShardCheckpoint.JobType jobType, String runKey
+	);
+
+	Optional<ShardCheckpoint> findByJobTypeAndRunKeyAndShardIndexAndStage(
+			ShardCheckpoint.JobType jobType, String runKey,
+			Integer shardIndex, ShardCheckpoint.Stage stage
+	);
+
+	/**
+	 * Atomically claim a checkpoint that is pending, failed, or held by a stale claim.
+	 *
+	 * @return 1 if this caller now owns the checkpoint, 0 otherwise
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ShardCheckpoint sc SET sc.status = 'RUNNING', sc.owner = :owner, " +
+			"sc.startedAt = :now, sc.attempts = sc.attempts + 1, sc.lastError = NULL " +
+			"WHERE sc.id = :id AND (sc.status = 'PENDING' OR sc.status = 'FAILED' " +
+			"OR (sc.status = 'RUNNING' AND sc.startedAt < :staleBefore))")
+	int claim(
+			@Param("id") Long id,
+			@Param("owner") String owner,
+			@Param("now") Instant now,
+			@Param("staleBefore") Instant staleBefore
+	);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ShardCheckpoint sc SET sc.status = 'COMPLETED', sc.completedAt = :now " +
+			"WHERE sc.id = :id")
+	int markCompleted(@Param("id") Long id, @Param("now") Instant now);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ShardCheckpoint sc SET sc.status = 'FAILED', sc.lastError = :error " +
+			"WHERE sc.id = :id")
+	int markFailed(@Param("id") Long id, @Param("error") String error);
+
+	/**
+	 * When a stage last completed in any run, or null if it never has
+	 */
+	@Query("SELECT MAX(sc.completedAt) FROM ShardCheckpoint sc " +
+			"WHERE sc.stage = :stage AND sc.status = 'COMPLETED'")
+	Instant findLastCompletion(@Param("stage") ShardCheckpoint.Stage stage);
+
+	@Query("SELECT COUNT(sc) FROM ShardCheckpoint sc WHERE sc.jobType = :jobType " +
+			"AND sc.runKey = :runKey AND sc.shardIndex >= 0 AND sc.status <> 'COMPLETED'")
+	long countUnfinishedShardStages(
+			@Param("jobType") ShardCheckpoint.JobType jobType,
+			@Param("runKey") String runKey
+	);
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package io.softwarestrategies.tradescout.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.softwarestrategies.tradescout.domain.SignalRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC repository for scan history.
+ * Rows are appended in JDBC batches and read back by scan-time range.
+ */
+@Repository
+public class SignalHistoryRepository {
+
+	private static final String APPEND_SIGNAL_SQL = """
+			INSERT INTO signals (scanned_at, symbol, outcome, strategy, confidence, price,
+			                     change_pct, drop_from_open_pct, drop_zscore, signal_zscore,
+			                     volume_zscore, residual_zscore, measures)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb)
+			""";
+
+	private static final TypeReference<Map<String, Double>> MEASURES_TYPE = new TypeReference<>() {};
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	public SignalHistoryRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Append records in a single JDBC batch
+	 */
+	public void appendSignals(List<SignalRecord> records) {
+		if (records.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(APPEND_SIGNAL_SQL, records, records.size(), (ps, record) -> {
+			ps.setTimestamp(1, Timestamp.from(record.scannedAt()));
+			ps.setString(2, record.symbol());
+			ps.setString(3, record.outcome().name());
+			ps.setString(4, record.strategy());
+			setDouble(ps, 5, record.confidence());
+			ps.setBigDecimal(6, record.price());
+			setDouble(ps, 7, record.changePct());
+			ps.setDouble(8, record.dropFromOpenPct());
+			setDouble(ps, 9, record.dropZScore());
+			setDouble(ps, 10, record.signalZScore());
+			setDouble(ps, 11, record.volumeZScore());
+			setDouble(ps, 12, record.residualZScore());
+			ps.setString(13, toJson(record.measures()));
+		});
+	}
+
+	/**
+	 * Records scanned in [from, to), oldest first, optionally for one symbol
+	 */
+	public List<SignalRecord> findBetween(Instant from, Instant to, String symbol, int limit) {
+		var sql = """
+				SELECT scanned_at, symbol, outcome, strategy, confidence, price,
+				       change_pct, drop_from_open_pct, drop_zscore, signal_zscore,
+				       volume_zscore, residual_zscore, measures::text AS measures
+				FROM signals
+				WHERE scanned_at >= ? AND scanned_at < ?
+				""";
+		var args = new ArrayList<Object>(List.of(Timestamp.from(from), Timestamp.from(to)));
+		if (symbol != null) {
+			sql += " AND symbol = ?";
+			args.add(symbol);
+		}
+		sql += " ORDER BY scanned_at LIMIT ?";
+		args.add(limit);
+
+		return jdbcTemplate.query(sql, (rs, rowNum) -> new SignalRecord(
+				rs.getTimestamp("scanned_at").toInstant(),
+				rs.getString("symbol"),
+				SignalRecord.Outcome.valueOf(rs.getString("outcome")),
+				rs.getString("strategy"),
+				getDouble(rs, "confidence"),
+				rs.getBigDecimal("price"),
+				getPrimitive(rs, "change_pct"),
+				rs.getDouble("drop_from_open_pct"),
+				getPrimitive(rs, "drop_zscore"),
+				getDouble(rs, "signal_zscore"),
+				getPrimitive(rs, "volume_zscore"),
+				getPrimitive(rs, "residual_zscore"),
+				fromJson(rs.getString("measures"))
+		), args.toArray());
+	}
+
+	// NaN and null are both stored as NULL
+	private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+		if (value == null || value.isNaN() || value.isInfinite()) {
+			ps.setNull(index, Types.DOUBLE);
+		} else {
+			ps.setDouble(index, value);
+		}
+	}
+
+	private static Double getDouble(ResultSet rs, String column) throws SQLException {
+		var value = rs.getDouble(column);
+		return rs.wasNull() ? null : value;
+	}
+
+	private static double getPrimitive(ResultSet rs, String column) throws SQLException {
+		var value = rs.getDouble(column);
+		return rs.wasNull() ? Double.NaN : value;
+	}
+
+	/**
+	 * Measures as a flat JSON object; keys are strategy constants, values numbers or null (for NaN)
+	 */
+	private String toJson(Map<String, Double> measures) {
+		if (measures == null || measures.isEmpty()) {
+			return null;
+		}
+		var finite = new LinkedHashMap<String, Double>(measures.size() * 2);
+		measures.forEach((key, value) ->
+				finite.put(key, value == null || value.isNaN() || value.isInfinite() ? null : value));
+		try {
+			return objectMapper.writeValueAsString(finite);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unwritable signal measures: " + measures, e);
+		}
+	}
+
+	private Map<String, Double> fromJson(String json) {
+		if (json == null) {
+			return Map.of();
+		}
+		try {
+			return objectMapper.readValue(json, MEASURES_TYPE);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unreadable signal measures: " + json, e);
+		}
+	}
+}
\ No newline at end of file
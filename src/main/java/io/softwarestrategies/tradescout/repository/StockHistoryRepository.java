@@ -1,12 +1,14 @@
 package io.softwarestrategies.tradescout.repository;
 
 import io.softwarestrategies.tradescout.domain.StockHistory;
+import io.softwarestrategies.tradescout.dto.HistoryCoverage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,8 @@ public interface StockHistoryRepository extends JpaRepository<StockHistory, Long
 
 	Optional<StockHistory> findBySymbolAndTradeDate(String symbol, LocalDate tradeDate);
 
+	boolean existsBySymbol(String symbol);
+
 	List<StockHistory> findBySymbolAndTradeDateBetweenOrderByTradeDateDesc(
 			String symbol, LocalDate start, LocalDate end
 	);
@@ -31,5 +35,26 @@ public interface StockHistoryRepository extends JpaRepository<StockHistory, Long
 	@Query("SELECT DISTINCT sh.symbol FROM StockHistory sh")
 	List<String> findAllDistinctSymbols();
 
-	void deleteBySymbolAndTradeDateBefore(String symbol, LocalDate before);
+	@Query("SELECT DISTINCT sh.symbol FROM StockHistory sh WHERE sh.tradeDate >= :since")
+	List<String> findDistinctSymbolsSince(@Param("since") LocalDate since);
+
+	/**
+	 * First date, last date and row count per symbol since a date, in one grouped query
+	 */
+	@Query("SELECT new io.softwarestrategies.tradescout.dto.HistoryCoverage(" +
+			"sh.symbol, MIN(sh.tradeDate), MAX(sh.tradeDate), COUNT(sh)) " +
+			"FROM StockHistory sh WHERE sh.symbol IN :symbols AND sh.tradeDate >= :since " +
+			"GROUP BY sh.symbol")
+	List<HistoryCoverage> findCoverage(
+			@Param("symbols") Collection<String> symbols,
+			@Param("since") LocalDate since
+	);
+
+	@Query("SELECT sh.tradeDate FROM StockHistory sh WHERE sh.symbol = :symbol " +
+			"AND sh.tradeDate BETWEEN :start AND :end ORDER BY sh.tradeDate")
+	List<LocalDate> findTradeDates(
+			@Param("symbol") String symbol,
+			@Param("start") LocalDate start,
+			@Param("end") LocalDate end
+	);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.softwarestrategies.tradescout.repository;
 
 import io.softwarestrategies.tradescout.domain.Trade;
+import io.softwarestrategies.tradescout.dto.TradesVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +26,19 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
 			@Param("end") LocalDate end
 	);
 
+	@Query("SELECT new io.softwarestrategies.tradescout.dto.TradesVersion(COUNT(t), MAX(t.updatedAt)) " +
+			"FROM Trade t WHERE t.status = 'CLOSED'")
+	TradesVersion findClosedTradesVersion();
+
+	@Query("SELECT new io.softwarestrategies.tradescout.dto.TradesVersion(COUNT(t), MAX(t.updatedAt)) FROM Trade t")
+	TradesVersion findTradesVersion();
+
+	/**
+	 * Serialize trade openings across the cluster until the current transaction ends
+	 */
+	@Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+	Integer lockTradeOpening(@Param("key") long key);
+
 	@Query("SELECT COUNT(t) FROM Trade t WHERE t.status = 'OPEN'")
 	long countOpenTrades();
 
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,11 +18,26 @@ public interface VolatilityMetricsRepository extends JpaRepository<VolatilityMet
 			String symbol, LocalDate calculationDate, Integer lookbackDays
 	);
 
+	List<VolatilityMetrics> findBySymbolAndCalculationDate(String symbol, LocalDate calculationDate);
+
 	@Query("SELECT vm FROM VolatilityMetrics vm WHERE vm.symbol = :symbol " +
-			"ORDER BY vm.calculationDate DESC LIMIT 1")
-	Optional<VolatilityMetrics> findLatestBySymbol(@Param("symbol") String symbol);
+			"AND vm.lookbackDays = :lookbackDays ORDER BY vm.calculationDate DESC LIMIT 1")
+	Optional<VolatilityMetrics> findLatestBySymbolAndLookbackDays(
+			@Param("symbol") String symbol,
+			@Param("lookbackDays") Integer lookbackDays
+	);
 
-	List<VolatilityMetrics> findBySymbolOrderByCalculationDateDesc(String symbol);
+	/**
+	 * Latest metrics of one lookback for every given symbol in one query
+	 */
+	@Query("SELECT vm FROM VolatilityMetrics vm WHERE vm.symbol IN :symbols " +
+			"AND vm.lookbackDays = :lookbackDays " +
+			"AND vm.calculationDate = (SELECT MAX(v2.calculationDate) FROM VolatilityMetrics v2 " +
+			"WHERE v2.symbol = vm.symbol AND v2.lookbackDays = :lookbackDays)")
+	List<VolatilityMetrics> findLatestBySymbols(
+			@Param("symbols") Collection<String> symbols,
+			@Param("lookbackDays") Integer lookbackDays
+	);
 
-	void deleteByCalculationDateBefore(LocalDate before);
-}
+	List<VolatilityMetrics> findBySymbolOrderByCalculationDateDesc(String symbol);
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package io.softwarestrategies.tradescout.rules;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.repository.AlertCooldownRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rejects symbols alerted within the cooldown period.
+ *
+ * The rule itself checks this node's cache of alert times, so it stays free to evaluate.
+ * The cooldown is enforced across nodes by startCooldown, which claims the alert in the
+ * alert_cooldowns table before it is sent.
+ */
+@Component
+public class AlertCooldownRule implements OpportunityRule {
+
+	private static final Logger log = LoggerFactory.getLogger(AlertCooldownRule.class);
+
+	// Last alert time per symbol claimed by this node (scan shards update it concurrently)
+	private final Map<String, Instant> lastAlertTime = new ConcurrentHashMap<>();
+
+	private final AlertCooldownRepository alertCooldownRepository;
+	private final TradeScoutProperties properties;
+
+	public AlertCooldownRule(AlertCooldownRepository alertCooldownRepository, TradeScoutProperties properties) {
+		this.alertCooldownRepository = alertCooldownRepository;
+		this.properties = properties;
+	}
+
+	@Override
+	public String name() { return "alert-cooldown"; }
+
+	@Override
+	public int cost() { return COST_TRIVIAL; }
+
+	@Override
+	public RuleResult evaluate(OpportunitySignal signal, RuleContext context) {
+		var lastAlert = lastAlertTime.get(signal.symbol());
+
+		if (lastAlert == null) {
+			return RuleResult.pass();
+		}
+
+		var cooldownMinutes = properties.getTrading().getEmail().getAlertCooldownMinutes();
+		var minutesSinceLastAlert = (Instant.now().getEpochSecond() - lastAlert.getEpochSecond()) / 60;
+
+		if (minutesSinceLastAlert < cooldownMinutes) {
+			return RuleResult.reject(name(), "alert cooldown active (%d min remaining)"
+					.formatted(cooldownMinutes - minutesSinceLastAlert));
+		}
+
+		return RuleResult.pass();
+	}
+
+	/**
+	 * Start the cooldown for a symbol about to be alerted
+	 *
+	 * @return the alert time, or null if any node alerted the symbol within the cooldown
+	 *         (or the claim could not be made)
+	 */
+	public Instant startCooldown(String symbol) {
+		var now = Instant.now();
+		var cooldown = Duration.ofMinutes(properties.getTrading().getEmail().getAlertCooldownMinutes());
+		try {
+			if (!alertCooldownRepository.claim(symbol, now, now.minus(cooldown))) {
+				return null;
+			}
+		} catch (DataAccessException e) {
+			log.error("Alert cooldown claim for {} failed: {}", symbol, e.getMessage());
+			return null;
+		}
+		lastAlertTime.put(symbol, now);
+		return now;
+	}
+
+	/**
+	 * Give back a cooldown whose alert could not be sent
+	 */
+	public void cancelCooldown(String symbol, Instant alertedAt) {
+		lastAlertTime.remove(symbol, alertedAt);
+		try {
+			alertCooldownRepository.release(symbol, alertedAt);
+		} catch (DataAccessException e) {
+			log.error("Alert cooldown release for {} failed: {}", symbol, e.getMessage());
+		}
+	}
+}
\ No newline at end of file
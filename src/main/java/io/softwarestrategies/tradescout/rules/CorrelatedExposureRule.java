@@ -0,0 +1,34 @@
+package io.softwarestrategies.tradescout.rules;
+
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.service.RiskManagementService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects entries that would pile onto open positions moving with the same symbol.
+ * Reads the cached correlation matrix and the in-memory position book.
+ */
+@Component
+public class CorrelatedExposureRule implements OpportunityRule {
+
+	private final RiskManagementService riskManagementService;
+
+	public CorrelatedExposureRule(RiskManagementService riskManagementService) {
+		this.riskManagementService = riskManagementService;
+	}
+
+	@Override
+	public String name() { return "correlated-exposure"; }
+
+	@Override
+	public int cost() { return COST_IN_MEMORY; }
+
+	@Override
+	public RuleResult evaluate(OpportunitySignal signal, RuleContext context) {
+		if (!riskManagementService.checkCorrelatedExposure(signal.symbol())) {
+			return RuleResult.reject(name(), "correlated with open "
+					+ String.join(", ", riskManagementService.findCorrelatedPositions(signal.symbol())));
+		}
+		return RuleResult.pass();
+	}
+}
\ No newline at end of file
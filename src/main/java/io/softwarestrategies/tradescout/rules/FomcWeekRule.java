@@ -0,0 +1,42 @@
+package io.softwarestrategies.tradescout.rules;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.MarketEvent;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.util.EventCalendar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects entries in a week with an FOMC meeting (no-fomc-week)
+ */
+@Component
+public class FomcWeekRule implements OpportunityRule {
+
+	private final EventCalendar eventCalendar;
+	private final TradeScoutProperties properties;
+
+	public FomcWeekRule(EventCalendar eventCalendar, TradeScoutProperties properties) {
+		this.eventCalendar = eventCalendar;
+		this.properties = properties;
+	}
+
+	@Override
+	public String name() { return "fomc-week"; }
+
+	@Override
+	public int cost() { return COST_IN_MEMORY; }
+
+	@Override
+	public boolean enabled() {
+		return properties.getTrading().getRules().getNoFomcWeek();
+	}
+
+	@Override
+	public RuleResult evaluate(OpportunitySignal signal, RuleContext context) {
+		return eventCalendar.findEvent(MarketEvent.Type.FOMC, signal.symbol(),
+						context.getWeekStart(), context.getWeekEnd())
+				.map(event -> RuleResult.reject(name(),
+						"FOMC week (%s %s)".formatted(event.start(), event.description())))
+				.orElse(RuleResult.pass());
+	}
+}
@@ -0,0 +1,39 @@
+package io.softwarestrategies.tradescout.rules;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+
+/**
+ * Rejects entries on Fridays (no-friday-entries)
+ */
+@Component
+public class FridayEntryRule implements OpportunityRule {
+
+	private final TradeScoutProperties properties;
+
+	public FridayEntryRule(TradeScoutProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public String name() { return "friday-entry"; }
+
+	@Override
+	public int cost() { return COST_TRIVIAL; }
+
+	@Override
+	public boolean enabled() {
+		return properties.getTrading().getRules().getNoFridayEntries();
+	}
+
+	@Override
+	public RuleResult evaluate(OpportunitySignal signal, RuleContext context) {
+		if (context.getEntryDate().getDayOfWeek() == DayOfWeek.FRIDAY) {
+			return RuleResult.reject(name(), "no Friday entries");
+		}
+		return RuleResult.pass();
+	}
+}
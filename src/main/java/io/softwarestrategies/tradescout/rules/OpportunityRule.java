@@ -0,0 +1,34 @@
+package io.softwarestrategies.tradescout.rules;
+
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+
+/**
+ * A filter applied to opportunity signals before alerting.
+ * Rules are evaluated cheapest-first and stop at the first rejection.
+ */
+public interface OpportunityRule {
+
+	// Relative evaluation costs
+	int COST_TRIVIAL = 1;
+	int COST_IN_MEMORY = 10;
+	int COST_DATABASE = 1000;
+
+	/**
+	 * Name used in reject reasons and metrics tags
+	 */
+	String name();
+
+	/**
+	 * Relative cost of evaluating the rule; lower runs earlier
+	 */
+	int cost();
+
+	/**
+	 * Check if the rule is switched on in the configuration
+	 */
+	default boolean enabled() {
+		return true;
+	}
+
+	RuleResult evaluate(OpportunitySignal signal, RuleContext context);
+}
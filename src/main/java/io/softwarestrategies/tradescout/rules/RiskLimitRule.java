@@ -0,0 +1,26 @@
+package io.softwarestrategies.tradescout.rules;
+
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects all entries while a risk limit (trade counts, losses) is reached.
+ * The database check runs once per scan through the rule context.
+ */
+@Component
+public class RiskLimitRule implements OpportunityRule {
+
+	@Override
+	public String name() { return "risk-limits"; }
+
+	@Override
+	public int cost() { return COST_DATABASE; }
+
+	@Override
+	public RuleResult evaluate(OpportunitySignal signal, RuleContext context) {
+		if (!context.canTakeNewTrade()) {
+			return RuleResult.reject(name(), "risk limits reached");
+		}
+		return RuleResult.pass();
+	}
+}
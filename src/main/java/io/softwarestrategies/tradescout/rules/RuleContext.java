@@ -0,0 +1,50 @@
+package io.softwarestrategies.tradescout.rules;
+
+import io.softwarestrategies.tradescout.service.RiskManagementService;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * State shared by all rule evaluations of one scan.
+ * Signal-independent checks (like the database-backed risk limits) run at most once per scan.
+ */
+public class RuleContext {
+
+	private final LocalDate entryDate;
+	private final LocalDate weekStart;
+	private final LocalDate weekEnd;
+	private final RiskManagementService riskManagementService;
+
+	private Boolean canTakeNewTrade;
+
+	public RuleContext(LocalDate entryDate, RiskManagementService riskManagementService) {
+		this.entryDate = entryDate;
+		this.weekStart = entryDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		this.weekEnd = weekStart.plusDays(4);
+		this.riskManagementService = riskManagementService;
+	}
+
+	public LocalDate getEntryDate() { return entryDate; }
+
+	/**
+	 * Monday of the entry's trading week
+	 */
+	public LocalDate getWeekStart() { return weekStart; }
+
+	/**
+	 * Friday of the entry's trading week
+	 */
+	public LocalDate getWeekEnd() { return weekEnd; }
+
+	/**
+	 * Risk limit check, evaluated on first use and reused for the rest of the scan
+	 */
+	public synchronized boolean canTakeNewTrade() {
+		if (canTakeNewTrade == null) {
+			canTakeNewTrade = riskManagementService.canTakeNewTrade();
+		}
+		return canTakeNewTrade;
+	}
+}
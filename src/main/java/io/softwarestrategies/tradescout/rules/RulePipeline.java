@@ -0,0 +1,85 @@
+package io.softwarestrategies.tradescout.rules;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.service.RiskManagementService;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates all opportunity rules against a signal, cheapest first, stopping at the first rejection.
+ * Records per-rule latency (tradescout.rules.latency) and rejects (tradescout.rules.rejects).
+ */
+@Component
+public class RulePipeline {
+
+	private static final Logger log = LoggerFactory.getLogger(RulePipeline.class);
+
+	private final List<InstrumentedRule> rules;
+	private final RiskManagementService riskManagementService;
+	private final MarketHours marketHours;
+
+	public RulePipeline(
+			List<OpportunityRule> rules,
+			RiskManagementService riskManagementService,
+			MeterRegistry meterRegistry,
+			MarketHours marketHours) {
+		this.riskManagementService = riskManagementService;
+		this.marketHours = marketHours;
+		this.rules = rules.stream()
+				.sorted(Comparator.comparingInt(OpportunityRule::cost))
+				.map(rule -> new InstrumentedRule(
+						rule,
+						Timer.builder("tradescout.rules.latency")
+								.description("Opportunity rule evaluation time")
+								.tag("rule", rule.name())
+								.register(meterRegistry),
+						Counter.builder("tradescout.rules.rejects")
+								.description("Signals rejected by an opportunity rule")
+								.tag("rule", rule.name())
+								.register(meterRegistry)))
+				.toList();
+
+		log.info("Opportunity rules (evaluation order): {}",
+				this.rules.stream().map(r -> r.rule().name()).toList());
+	}
+
+	/**
+	 * Create the shared context for one scan
+	 */
+	public RuleContext newContext() {
+		return new RuleContext(marketHours.today(), riskManagementService);
+	}
+
+	/**
+	 * Evaluate the enabled rules against a signal
+	 */
+	public RuleResult evaluate(OpportunitySignal signal, RuleContext context) {
+		for (var instrumented : rules) {
+			var rule = instrumented.rule();
+			if (!rule.enabled()) {
+				continue;
+			}
+
+			var start = System.nanoTime();
+			var result = rule.evaluate(signal, context);
+			instrumented.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+			if (!result.passed()) {
+				instrumented.rejects().increment();
+				return result;
+			}
+		}
+		return RuleResult.pass();
+	}
+
+	private record InstrumentedRule(OpportunityRule rule, Timer latency, Counter rejects) {}
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package io.softwarestrategies.tradescout.rules;
+
+/**
+ * Outcome of evaluating opportunity rules against a signal.
+ * A rejection names the rule and why it rejected.
+ */
+public record RuleResult(
+		boolean passed,
+		String rule,
+		String reason
+) {
+
+	private static final RuleResult PASSED = new RuleResult(true, null, null);
+
+	public static RuleResult pass() {
+		return PASSED;
+	}
+
+	public static RuleResult reject(String rule, String reason) {
+		return new RuleResult(false, rule, reason);
+	}
+}
@@ -1,6 +1,9 @@
 package io.softwarestrategies.tradescout.scheduler;
 
-import io.softwarestrategies.tradescout.service.MarketDataService;
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.JobType;
+import io.softwarestrategies.tradescout.service.ShardedJobService;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -8,21 +11,32 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+
 /**
- * Quartz job that runs daily maintenance tasks
- * - Updates today's stock data
- * - Recalculates volatility metrics
- * - Cleans up old data
+ * Quartz job that coordinates daily maintenance.
+ *
+ * Creates (or resumes) the day's checkpointed run and fans the unfinished symbol
+ * shards out as {@link ShardJob} executions across the scheduler cluster:
+ * - Updates today's stock data (per shard)
+ * - Recalculates volatility metrics (per shard)
+ * - Cleans up old data and recalculates time-of-day baselines (once all shards finish)
  */
 @Component
+@DisallowConcurrentExecution
 public class DailyMaintenanceJob implements Job {
 
 	private static final Logger log = LoggerFactory.getLogger(DailyMaintenanceJob.class);
 
-	private final MarketDataService marketDataService;
+	private final ShardedJobService shardedJobService;
+	private final TradeScoutProperties properties;
 
-	public DailyMaintenanceJob(MarketDataService marketDataService) {
-		this.marketDataService = marketDataService;
+	public DailyMaintenanceJob(
+			ShardedJobService shardedJobService,
+			TradeScoutProperties properties) {
+		this.shardedJobService = shardedJobService;
+		this.properties = properties;
 	}
 
 	@Override
@@ -31,23 +45,14 @@ public class DailyMaintenanceJob implements Job {
 		log.info("Starting Daily Maintenance Job");
 		log.info("═══════════════════════════════════════════════════════");
 
-		var startTime = System.currentTimeMillis();
-
 		try {
-			// Update today's market data
-			log.info("Step 1: Updating today's market data");
-			marketDataService.updateTodaysData();
-
-			// Recalculate volatility metrics
-			log.info("Step 2: Recalculating volatility metrics");
-			marketDataService.calculateMetricsForAll();
-
-			// Clean up old data (keep 365 days)
-			log.info("Step 3: Cleaning up old data");
-			marketDataService.cleanupOldData(365);
+			// A manual trigger may name the run to resume, otherwise it is today's run
+			var runKey = context.getMergedJobDataMap().containsKey(ShardJob.RUN_KEY)
+					? context.getMergedJobDataMap().getString(ShardJob.RUN_KEY)
+					: LocalDate.now(ZoneId.of(
+							properties.getTrading().getSchedule().getDailyMaintenanceTimezone())).toString();
 
-			var duration = (System.currentTimeMillis() - startTime) / 1000;
-			log.info("Daily maintenance complete in {}s", duration);
+			shardedJobService.dispatch(JobType.DAILY_MAINTENANCE, runKey);
 
 		} catch (Exception e) {
 			log.error("Daily maintenance job failed", e);
@@ -0,0 +1,65 @@
+package io.softwarestrategies.tradescout.scheduler;
+
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.JobType;
+import io.softwarestrategies.tradescout.service.ShardedJobService;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Quartz job that runs the per-symbol stages of one shard of a sharded job run.
+ * In a clustered scheduler each shard fires on whichever node is free.
+ * The last shard to finish also runs the whole-run stages. The job requests recovery, so
+ * a shard cut off by a node failure is re-fired on a surviving node.
+ */
+@Component
+public class ShardJob implements Job {
+
+	private static final Logger log = LoggerFactory.getLogger(ShardJob.class);
+
+	public static final String JOB_NAME = "shardJob";
+	public static final String JOB_TYPE = "jobType";
+	public static final String RUN_KEY = "runKey";
+	public static final String SHARD_INDEX = "shardIndex";
+
+	private final ShardedJobService shardedJobService;
+
+	public ShardJob(ShardedJobService shardedJobService) {
+		this.shardedJobService = shardedJobService;
+	}
+
+	@Override
+	public void execute(JobExecutionContext context) throws JobExecutionException {
+		var data = context.getMergedJobDataMap();
+		var jobType = JobType.valueOf(data.getString(JOB_TYPE));
+		var runKey = data.getString(RUN_KEY);
+		var shardIndex = data.getInt(SHARD_INDEX);
+
+		try {
+			var owner = context.getScheduler().getSchedulerInstanceId();
+			var startTime = System.currentTimeMillis();
+
+			log.info("{} run {} shard {} starting on {}", jobType, runKey, shardIndex, owner);
+
+			var recovering = context.isRecovering();
+			if (recovering) {
+				log.warn("{} run {} shard {} recovered from a failed node", jobType, runKey, shardIndex);
+			}
+
+			if (shardedJobService.runShard(jobType, runKey, shardIndex, owner, recovering)) {
+				log.info("{} run {} shard {} complete in {}s",
+						jobType, runKey, shardIndex, (System.currentTimeMillis() - startTime) / 1000);
+				shardedJobService.finalizeRun(jobType, runKey, owner);
+			} else {
+				log.warn("{} run {} shard {} incomplete; rerun the job to resume", jobType, runKey, shardIndex);
+			}
+
+		} catch (Exception e) {
+			log.error("{} shard {} of run {} failed", jobType, shardIndex, runKey, e);
+			throw new JobExecutionException(e);
+		}
+	}
+}
\ No newline at end of file
@@ -1,24 +1,47 @@
 package io.softwarestrategies.tradescout.service;
 
 import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.RobustMetrics;
+import io.softwarestrategies.tradescout.domain.SignalRecord;
 import io.softwarestrategies.tradescout.domain.VolatilityMetrics;
 import io.softwarestrategies.tradescout.dto.OpportunitySignal;
 import io.softwarestrategies.tradescout.repository.VolatilityMetricsRepository;
+import io.softwarestrategies.tradescout.strategy.MarketSnapshot;
+import io.softwarestrategies.tradescout.strategy.SignalStrategy;
+import io.softwarestrategies.tradescout.util.MarketHours;
 import io.softwarestrategies.tradescout.util.StatisticsUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import yahoofinance.Stock;
 import yahoofinance.YahooFinance;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service for detecting unusual market movements (anomalies)
- * that could represent trading opportunities
+ * that could represent trading opportunities.
+ *
+ * Each scan fetches quotes for all symbols in one batch, reads metrics from a
+ * short-lived in-memory cache, loads a {@link MarketSnapshot} per symbol and runs
+ * every enabled {@link SignalStrategy} over it, so adding strategies adds no I/O.
+ *
+ * With market-relative scoring, the benchmark moves are read from the same batch once
+ * per scan. A symbol whose move its nightly factor loading explains (residual z-score
+ * above the configured maximum) is not scored by strategies keyed on the direction of
+ * the move ({@link SignalStrategy#marketRelative()}); range and reversal strategies still run.
+ *
+ * Every scored symbol is recorded in the scan history, handed to the
+ * {@link SignalHistoryWriter} at the end of the scan and written off the scan thread.
  */
 @Service
 public class AnomalyDetectionService {
@@ -26,182 +49,230 @@ public class AnomalyDetectionService {
 	private static final Logger log = LoggerFactory.getLogger(AnomalyDetectionService.class);
 
 	private final VolatilityMetricsRepository metricsRepository;
+	private final IntradayDataService intradayDataService;
+	private final RobustStatisticsService robustStatisticsService;
+	private final MarketFactorService marketFactorService;
+	private final SignalHistoryWriter signalHistoryWriter;
 	private final StatisticsUtil statisticsUtil;
+	private final MarketHours marketHours;
+	private final List<SignalStrategy> strategies;
 	private final TradeScoutProperties properties;
 
+	private volatile MetricsCache metricsCache = new MetricsCache(Map.of(), Set.of(), Instant.EPOCH);
+
 	public AnomalyDetectionService(
 			VolatilityMetricsRepository metricsRepository,
+			IntradayDataService intradayDataService,
+			RobustStatisticsService robustStatisticsService,
+			MarketFactorService marketFactorService,
+			SignalHistoryWriter signalHistoryWriter,
 			StatisticsUtil statisticsUtil,
+			MarketHours marketHours,
+			List<SignalStrategy> strategies,
 			TradeScoutProperties properties) {
 		this.metricsRepository = metricsRepository;
+		this.intradayDataService = intradayDataService;
+		this.robustStatisticsService = robustStatisticsService;
+		this.marketFactorService = marketFactorService;
+		this.signalHistoryWriter = signalHistoryWriter;
 		this.statisticsUtil = statisticsUtil;
+		this.marketHours = marketHours;
 		this.properties = properties;
+
+		var enabled = properties.getTrading().getDetection().getStrategies();
+		this.strategies = strategies.stream()
+				.filter(strategy -> enabled == null || enabled.contains(strategy.name()))
+				.toList();
+
+		log.info("Signal strategies enabled: {}",
+				this.strategies.stream().map(SignalStrategy::name).toList());
 	}
 
 	/**
 	 * Scan all watchlist stocks for opportunities
 	 */
 	public List<OpportunitySignal> scanForOpportunities() {
-		var watchlist = properties.getTrading().getWatchlist();
+		return scanForOpportunities(properties.getTrading().getWatchlist());
+	}
+
+	/**
+	 * Scan the given symbols for trading opportunities.
+	 * A symbol may yield one signal per strategy; results are ordered by confidence, highest first.
+	 *
+	 * Scoring reuses one snapshot and stays on primitives; signals, reasoning text and
+	 * BigDecimals are only created for the symbol/strategy pairs that pass.
+	 */
+	public List<OpportunitySignal> scanForOpportunities(List<String> watchlist) {
 		var opportunities = new ArrayList<OpportunitySignal>();
 
 		log.info("Scanning {} stocks for opportunities", watchlist.size());
 
-		for (var symbol : watchlist) {
-			try {
-				var signal = analyzeStock(symbol);
-				if (signal != null && signal.isOpportunity()) {
-					opportunities.add(signal);
-					log.info("Opportunity detected: {} ({}% confidence)",
-							symbol, String.format("%.0f", signal.confidence()));
+		if (watchlist.isEmpty()) {
+			return opportunities;
+		}
+
+		// Benchmarks ride along in the same batch request
+		var relative = properties.getTrading().getRelative();
+		var fetch = new LinkedHashSet<>(watchlist);
+		if (relative.getEnabled()) {
+			fetch.add(relative.getMarketBenchmark());
+			fetch.add(relative.getSectorBenchmark());
+		}
+
+		Map<String, Stock> stocks;
+		try {
+			stocks = YahooFinance.get(fetch.toArray(String[]::new));
+		} catch (Exception e) {
+			log.error("Error fetching quotes for {} symbols: {}", watchlist.size(), e.getMessage());
+			return opportunities;
+		}
+
+		var metricsBySymbol = metricsFor(watchlist);
+		var now = Instant.now();
+		var minuteOfSession = marketHours.minuteOfSession(now);
+		var minRobustSamples = properties.getTrading().getRobust().getMinSamples();
+		var snapshot = new MarketSnapshot();
+
+		// Benchmark moves, once per scan (NaN disables relative scoring for this scan)
+		var marketLogReturn = relative.getEnabled() ? logChange(stocks.get(relative.getMarketBenchmark())) : Double.NaN;
+		var sectorLogReturn = logChange(stocks.get(relative.getSectorBenchmark()));
+		var sectorResidual = Double.isNaN(sectorLogReturn)
+				? 0.0 : marketFactorService.sectorResidual(marketLogReturn, sectorLogReturn);
+		var maxResidualZScore = relative.getMaxResidualZscore();
+		var explainedByMarket = 0;
+		var history = new ArrayList<SignalRecord>(watchlist.size());
+
+		for (int i = 0; i < watchlist.size(); i++) {
+			var symbol = watchlist.get(i);
+
+			var stock = stocks.get(symbol);
+			if (stock == null || stock.getQuote() == null) {
+				log.debug("Skipping {} - no quote", symbol);
+				continue;
+			}
+
+			var quote = stock.getQuote();
+			if (quote.getPrice() == null || quote.getOpen() == null || quote.getVolume() == null) {
+				log.debug("Skipping {} - no valid price data", symbol);
+				continue;
+			}
+
+			var metrics = metricsBySymbol.get(symbol);
+			if (metrics == null) {
+				log.debug("No metrics found for {}", symbol);
+				continue;
+			}
+
+			// Daily volume baseline, replaced by the time-of-day baseline when enough intraday history exists
+			var baseline = intradayDataService.findBaseline(symbol, minuteOfSession);
+			double volumeMean = baseline != null ? baseline.avgCumulativeVolume() : metrics.getAvgVolume();
+			double volumeStdDev = baseline != null ? baseline.stddevCumulativeVolume() : metrics.getStddevVolume();
+			var volumeZScore = statisticsUtil.calculateZScore(quote.getVolume(), volumeMean, volumeStdDev);
+
+			// Median/MAD of daily drops, once enough days have been observed
+			var robustDrop = robustStatisticsService.findBaseline(symbol, RobustMetrics.Series.MAX_DROP);
+			if (robustDrop != null && robustDrop.sampleCount() < minRobustSamples) {
+				robustDrop = null;
+			}
+
+			snapshot.load(symbol, quote.getPrice(), quote.getOpen(), quote.getDayHigh(), quote.getDayLow(),
+					quote.getPreviousClose(), quote.getVolume(), metrics, baseline, robustDrop, volumeZScore, now);
+
+			var explained = false;
+			if (!Double.isNaN(marketLogReturn)) {
+				var loading = marketFactorService.getLoading(symbol);
+				if (loading != null) {
+					snapshot.withMarketFactor(loading, loading.expectedLogReturn(marketLogReturn, sectorResidual));
+					explained = snapshot.hasMarketFactor() && snapshot.residualZScore() > maxResidualZScore;
+				}
+			}
+			if (explained) {
+				explainedByMarket++;
+			}
+
+			var firstSignal = opportunities.size();
+			for (int j = 0; j < strategies.size(); j++) {
+				var strategy = strategies.get(j);
+				if (explained && strategy.marketRelative()) {
+					continue;
+				}
+				try {
+					var confidence = strategy.score(snapshot);
+					if (!Double.isNaN(confidence)) {
+						opportunities.add(strategy.materialize(snapshot, confidence));
+						log.info("Opportunity detected: {} [{}] ({}% confidence)",
+								symbol, strategy.name(), String.format("%.0f", confidence));
+					}
+				} catch (Exception e) {
+					log.error("Error evaluating {} for {}: {}", strategy.name(), symbol, e.getMessage());
 				}
-			} catch (Exception e) {
-				log.error("Error analyzing {}: {}", symbol, e.getMessage());
+			}
+
+			if (opportunities.size() == firstSignal) {
+				history.add(snapshot.toHistoryRecord(
+						explained ? SignalRecord.Outcome.MARKET_EXPLAINED : SignalRecord.Outcome.SCORED, null));
+			}
+			for (int k = firstSignal; k < opportunities.size(); k++) {
+				history.add(snapshot.toHistoryRecord(SignalRecord.Outcome.SIGNAL, opportunities.get(k)));
 			}
 		}
 
-		log.info("Scan complete: {} opportunities found", opportunities.size());
+		signalHistoryWriter.submit(history);
+
+		opportunities.sort(Comparator.comparing(OpportunitySignal::confidence).reversed());
+
+		log.info("Scan complete: {} opportunities found, {} symbols' moves explained by the market",
+				opportunities.size(), explainedByMarket);
 		return opportunities;
 	}
 
 	/**
-	 * Analyze a single stock for anomalies
+	 * Log change of a quote from its previous close (NaN without a usable quote)
 	 */
-	public OpportunitySignal analyzeStock(String symbol) throws Exception {
-		// Get current quote
-		var stock = YahooFinance.get(symbol);
-		var quote = stock.getQuote();
-
-		if (quote.getPrice() == null || quote.getOpen() == null) {
-			log.debug("Skipping {} - no valid price data", symbol);
-			return null;
+	private static double logChange(Stock stock) {
+		if (stock == null || stock.getQuote() == null) {
+			return Double.NaN;
 		}
-
-		var currentPrice = quote.getPrice();
-		var todayOpen = quote.getOpen();
-		var todayHigh = quote.getDayHigh();
-		var todayLow = quote.getDayLow();
-		var currentVolume = quote.getVolume();
-
-		// Calculate current drop from open
-		var currentDropPct = currentPrice.subtract(todayOpen)
-				.divide(todayOpen, 4, RoundingMode.HALF_UP)
-				.multiply(BigDecimal.valueOf(100))
-				.doubleValue();
-
-		// Get historical metrics
-		var metricsOpt = metricsRepository.findLatestBySymbol(symbol);
-
-		if (metricsOpt.isEmpty()) {
-			log.debug("No metrics found for {}", symbol);
-			return null;
+		var quote = stock.getQuote();
+		if (quote.getPrice() == null || quote.getPreviousClose() == null || quote.getPreviousClose().signum() <= 0) {
+			return Double.NaN;
 		}
-
-		var metrics = metricsOpt.get();
-
-		// Calculate Z-scores
-		var priceZScore = statisticsUtil.calculateZScore(
-				currentDropPct,
-				metrics.getAvgMaxDropPct(),
-				metrics.getStddevMaxDropPct()
-		);
-
-		var volumeZScore = statisticsUtil.calculateZScore(
-				currentVolume.doubleValue(),
-				metrics.getAvgVolume().doubleValue(),
-				metrics.getStddevVolume().doubleValue()
-		);
-
-		// Determine if this is an opportunity
-		var minPriceZScore = properties.getTrading().getDetection().getMinPriceZscore();
-		var minVolumeZScore = properties.getTrading().getDetection().getMinVolumeZscore();
-		var minConfidence = properties.getTrading().getDetection().getMinConfidence();
-
-		var isUnusualDrop = priceZScore < minPriceZScore;
-		var isLowVolume = volumeZScore < minVolumeZScore;
-
-		// Calculate confidence
-		var confidence = calculateConfidence(priceZScore, volumeZScore, metrics);
-
-		var isOpportunity = isUnusualDrop && isLowVolume && confidence >= minConfidence;
-
-		// Build reasoning
-		var reason = buildReason(currentDropPct, priceZScore, volumeZScore, metrics);
-
-		// Create historical context
-		var historicalContext = new OpportunitySignal.HistoricalContext(
-				metrics.getAvgMaxDropPct(),
-				metrics.getStddevMaxDropPct(),
-				metrics.getAvgVolume(),
-				metrics.getStddevVolume(),
-				metrics.getAvgDailyChangePct()
-		);
-
-		return new OpportunitySignal(
-				symbol,
-				currentPrice,
-				todayOpen,
-				todayHigh,
-				todayLow,
-				currentVolume,
-				currentDropPct,
-				priceZScore,
-				volumeZScore,
-				confidence,
-				isOpportunity,
-				reason,
-				historicalContext,
-				Instant.now()
-		);
+		return Math.log(quote.getPrice().doubleValue() / quote.getPreviousClose().doubleValue());
 	}
 
 	/**
-	 * Calculate confidence score for the signal
+	 * Latest metrics of the detector's lookback, from the in-memory cache.
+	 * The cache is reloaded for the whole watchlist in one query when it expires
+	 * or a symbol it has not looked up yet is requested.
 	 */
-	private double calculateConfidence(double priceZScore, double volumeZScore,
-									   VolatilityMetrics metrics) {
-		var confidence = 0.0;
-
-		// Base confidence on how unusual the price drop is (0-50 points)
-		// -2σ = 0 points, -3σ = 25 points, -4σ = 50 points
-		var priceConfidence = (Math.abs(priceZScore) - 2.0) * 25.0;
-		confidence += Math.max(0, Math.min(50, priceConfidence));
-
-		// Add confidence if volume is low (0-30 points)
-		// -1σ = 10 points, -2σ = 20 points, -3σ = 30 points
-		if (volumeZScore < 0) {
-			var volumeConfidence = Math.abs(volumeZScore) * 10.0;
-			confidence += Math.max(0, Math.min(30, volumeConfidence));
+	private Map<String, VolatilityMetrics> metricsFor(List<String> symbols) {
+		var cache = metricsCache;
+		var maxAge = Duration.ofSeconds(properties.getTrading().getDetection().getMetricsCacheSeconds());
+
+		if (cache.loadedAt().plus(maxAge).isAfter(Instant.now()) && cache.symbols().containsAll(symbols)) {
+			return cache.bySymbol();
 		}
 
-		// Bonus: Recent trend was positive (0-20 points)
-		if (metrics.getAvgDailyChangePct() != null && metrics.getAvgDailyChangePct() > 0) {
-			var trendBonus = Math.min(20, metrics.getAvgDailyChangePct() * 2);
-			confidence += trendBonus;
+		var lookup = new HashSet<>(properties.getTrading().getWatchlist());
+		lookup.addAll(symbols);
+
+		var lookbackDays = properties.getTrading().getDetection().getLookbackDays();
+		var bySymbol = new HashMap<String, VolatilityMetrics>();
+		for (var metrics : metricsRepository.findLatestBySymbols(lookup, lookbackDays)) {
+			bySymbol.put(metrics.getSymbol(), metrics);
 		}
 
-		return Math.max(0, Math.min(100, confidence));
+		metricsCache = new MetricsCache(bySymbol, lookup, Instant.now());
+		log.debug("Metrics cache loaded: {} of {} symbols", bySymbol.size(), lookup.size());
+		return bySymbol;
 	}
 
 	/**
-	 * Build human-readable reasoning for the signal
+	 * Metrics by symbol, with every symbol that was looked up (found or not) and the load time
 	 */
-	private String buildReason(double currentDrop, double priceZScore,
-							   double volumeZScore,
-							   VolatilityMetrics metrics) {
-		return String.format("""
-				Drop: %.2f%% from open
-				Historical avg: %.2f%% ± %.2f%%
-				Price Z-Score: %.2fσ below normal
-				Volume Z-Score: %.2fσ %s average
-				%s
-				""",
-				currentDrop,
-				metrics.getAvgMaxDropPct(), metrics.getStddevMaxDropPct(),
-				priceZScore,
-				volumeZScore,
-				volumeZScore < 0 ? "below" : "above",
-				volumeZScore < 0 ? "Low volume suggests overreaction, not fundamental issue" : ""
-		);
-	}
+	private record MetricsCache(
+			Map<String, VolatilityMetrics> bySymbol,
+			Set<String> symbols,
+			Instant loadedAt
+	) {}
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.dto.BackfillRange;
+import io.softwarestrategies.tradescout.dto.HistoryCoverage;
+import io.softwarestrategies.tradescout.repository.HistoryHoleRepository;
+import io.softwarestrategies.tradescout.repository.StockHistoryRepository;
+import io.softwarestrategies.tradescout.util.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Plans daily history backfills from what is already stored.
+ *
+ * One grouped query returns the first date, last date and row count of every symbol
+ * in the window. Only the sessions outside that coverage, plus interior holes when the
+ * session count shows some, are requested. Nearby holes are coalesced into one request.
+ * Ranges a fetch already came back empty for (before a listing, or gaps the provider
+ * never fills) are recorded as history holes and left out of later plans.
+ */
+@Service
+public class BackfillPlanner {
+
+	private static final Logger log = LoggerFactory.getLogger(BackfillPlanner.class);
+
+	// Holes closer than this are fetched in one request; stored rows inside are skipped on save
+	private static final int COALESCE_WITHIN_DAYS = 30;
+
+	// Sessions after which a bar the provider still has not returned is taken as never coming
+	private static final int SETTLE_SESSIONS = 5;
+
+	private final StockHistoryRepository stockHistoryRepository;
+	private final HistoryHoleRepository historyHoleRepository;
+	private final DateUtil dateUtil;
+
+	public BackfillPlanner(
+			StockHistoryRepository stockHistoryRepository,
+			HistoryHoleRepository historyHoleRepository,
+			DateUtil dateUtil) {
+		this.stockHistoryRepository = stockHistoryRepository;
+		this.historyHoleRepository = historyHoleRepository;
+		this.dateUtil = dateUtil;
+	}
+
+	/**
+	 * Compute the ranges to fetch so every symbol has history for each trading day in [from, to]
+	 */
+	public List<BackfillRange> plan(List<String> symbols, LocalDate from, LocalDate to) {
+		var start = dateUtil.isTradingDay(from) ? from : dateUtil.nextTradingDay(from);
+		if (symbols.isEmpty() || start.isAfter(to)) {
+			return List.of();
+		}
+
+		var coverage = stockHistoryRepository.findCoverage(symbols, start).stream()
+				.collect(Collectors.toMap(HistoryCoverage::symbol, Function.identity()));
+		var holes = historyHoleRepository.findHoles(symbols, start).stream()
+				.collect(Collectors.groupingBy(BackfillRange::symbol));
+
+		var plan = new ArrayList<BackfillRange>();
+		for (var symbol : symbols) {
+			var stored = coverage.get(symbol);
+			var gaps = stored == null
+					? List.of(new BackfillRange(symbol, start, to))
+					: findGaps(stored, start, to);
+			plan.addAll(coalesce(withoutHoles(gaps, holes.getOrDefault(symbol, List.of()))));
+		}
+
+		log.info("Backfill plan for {} symbols over {}..{}: {} ranges",
+				symbols.size(), start, to, plan.size());
+		return plan;
+	}
+
+	private List<BackfillRange> findGaps(HistoryCoverage stored, LocalDate start, LocalDate end) {
+		var symbol = stored.symbol();
+		var gaps = new ArrayList<BackfillRange>();
+
+		if (start.isBefore(stored.firstDate())) {
+			addGap(gaps, symbol, start, dateUtil.previousTradingDay(stored.firstDate()));
+		}
+
+		// Only read individual dates when the count shows holes between first and last
+		var expected = dateUtil.countTradingDays(stored.firstDate(), stored.lastDate());
+		if (stored.days() < expected) {
+			var previous = stored.firstDate();
+			for (var date : stockHistoryRepository.findTradeDates(symbol, stored.firstDate(), stored.lastDate())) {
+				var gapStart = dateUtil.nextTradingDay(previous);
+				if (gapStart.isBefore(date)) {
+					addGap(gaps, symbol, gapStart, dateUtil.previousTradingDay(date));
+				}
+				previous = date;
+			}
+		}
+
+		if (stored.lastDate().isBefore(end)) {
+			addGap(gaps, symbol, dateUtil.nextTradingDay(stored.lastDate()), end);
+		}
+
+		return gaps;
+	}
+
+	/**
+	 * Record the sessions of a fetched range that are still missing, once they are old enough
+	 * that the provider will not fill them later
+	 *
+	 * @param stored dates of the range now stored, including the ones just fetched
+	 */
+	public void recordHoles(BackfillRange range, Set<LocalDate> stored, LocalDate today) {
+		var settled = dateUtil.previousTradingDay(today, SETTLE_SESSIONS);
+		var end = range.to().isAfter(settled) ? settled : range.to();
+
+		var holes = new ArrayList<BackfillRange>();
+		LocalDate holeStart = null;
+		var date = dateUtil.isTradingDay(range.from()) ? range.from() : dateUtil.nextTradingDay(range.from());
+		for (; !date.isAfter(end); date = dateUtil.nextTradingDay(date)) {
+			if (stored.contains(date)) {
+				if (holeStart != null) {
+					holes.add(new BackfillRange(range.symbol(), holeStart, dateUtil.previousTradingDay(date)));
+					holeStart = null;
+				}
+			} else if (holeStart == null) {
+				holeStart = date;
+			}
+		}
+		if (holeStart != null) {
+			holes.add(new BackfillRange(range.symbol(), holeStart, dateUtil.previousTradingDay(date)));
+		}
+
+		if (!holes.isEmpty()) {
+			historyHoleRepository.recordHoles(holes);
+			log.info("{}: {} ranges without provider data recorded as holes", range.symbol(), holes.size());
+		}
+	}
+
+	/**
+	 * Remove the recorded holes from gaps (both sorted by start date)
+	 */
+	private List<BackfillRange> withoutHoles(List<BackfillRange> gaps, List<BackfillRange> holes) {
+		if (holes.isEmpty()) {
+			return gaps;
+		}
+		var remaining = new ArrayList<BackfillRange>();
+		for (var gap : gaps) {
+			var from = gap.from();
+			for (var hole : holes) {
+				if (hole.to().isBefore(from) || hole.from().isAfter(gap.to())) {
+					continue;
+				}
+				if (hole.from().isAfter(from)) {
+					addGap(remaining, gap.symbol(), from, dateUtil.previousTradingDay(hole.from()));
+				}
+				from = dateUtil.nextTradingDay(hole.to());
+			}
+			addGap(remaining, gap.symbol(), from, gap.to());
+		}
+		return remaining;
+	}
+
+	private void addGap(List<BackfillRange> gaps, String symbol, LocalDate from, LocalDate to) {
+		if (!from.isAfter(to)) {
+			gaps.add(new BackfillRange(symbol, from, to));
+		}
+	}
+
+	private List<BackfillRange> coalesce(List<BackfillRange> gaps) {
+		var merged = new ArrayList<BackfillRange>();
+		for (var gap : gaps) {
+			var last = merged.isEmpty() ? null : merged.getLast();
+			if (last != null && ChronoUnit.DAYS.between(last.to(), gap.from()) <= COALESCE_WITHIN_DAYS) {
+				merged.set(merged.size() - 1, new BackfillRange(gap.symbol(), last.from(), gap.to()));
+			} else {
+				merged.add(gap);
+			}
+		}
+		return merged;
+	}
+}
\ No newline at end of file
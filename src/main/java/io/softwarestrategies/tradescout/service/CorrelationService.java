@@ -0,0 +1,120 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.Stage;
+import io.softwarestrategies.tradescout.repository.ReturnsRepository;
+import io.softwarestrategies.tradescout.repository.ShardCheckpointRepository;
+import io.softwarestrategies.tradescout.util.CorrelationEngine;
+import io.softwarestrategies.tradescout.util.CorrelationMatrix;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the watchlist's daily-return correlation matrix in memory, and computes
+ * matrices over other symbol sets (up to every stored symbol) on demand.
+ *
+ * Recomputed once a night (and at startup) from stored closes; risk checks read the
+ * cached matrix and never touch the database. The nightly CORRELATION_MATRIX stage runs
+ * on one node, so every node watches for its completion and recomputes its own copy. The whole-universe matrix is kept until
+ * the next day or a different lookback is requested.
+ */
+@Service
+public class CorrelationService {
+
+	private static final Logger log = LoggerFactory.getLogger(CorrelationService.class);
+
+	private final ReturnsRepository returnsRepository;
+	private final ShardCheckpointRepository checkpointRepository;
+	private final TradeScoutProperties properties;
+
+	private volatile CorrelationMatrix matrix = CorrelationMatrix.empty();
+
+	// Start of the last recomputation on this node
+	private volatile Instant computedAt = Instant.MIN;
+
+	private CorrelationMatrix universeMatrix;
+	private LocalDate universeComputedOn;
+	private int universeLookbackDays;
+
+	public CorrelationService(
+			ReturnsRepository returnsRepository,
+			ShardCheckpointRepository checkpointRepository,
+			TradeScoutProperties properties) {
+		this.returnsRepository = returnsRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.properties = properties;
+	}
+
+	/**
+	 * Recompute the watchlist matrix over the configured lookback of daily closes
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void recalculate() {
+		computedAt = Instant.now();
+		var computed = correlate(properties.getTrading().getWatchlist(),
+				properties.getTrading().getRisk().getCorrelationLookbackDays());
+		if (computed.size() == 0) {
+			log.warn("Not enough history for a watchlist correlation matrix");
+			return;
+		}
+		matrix = computed;
+	}
+
+	/**
+	 * Recompute if the nightly stage completed (on any node) since this node last did
+	 */
+	@Scheduled(fixedDelayString = "${tradescout.trading.maintenance.refresh-poll-seconds:60}",
+			initialDelayString = "${tradescout.trading.maintenance.refresh-poll-seconds:60}",
+			timeUnit = TimeUnit.SECONDS)
+	public void refreshIfRecalculated() {
+		var completed = checkpointRepository.findLastCompletion(Stage.CORRELATION_MATRIX);
+		if (completed != null && completed.isAfter(computedAt)) {
+			log.info("Correlation stage completed at {}; refreshing this node's matrix", completed);
+			recalculate();
+		}
+	}
+
+	public CorrelationMatrix getMatrix() {
+		return matrix;
+	}
+
+	/**
+	 * Correlation matrix of every symbol with stored history, cached for the day
+	 */
+	public synchronized CorrelationMatrix getUniverseMatrix(int lookbackDays) {
+		var today = LocalDate.now();
+		if (universeMatrix == null || !today.equals(universeComputedOn) || lookbackDays != universeLookbackDays) {
+			universeMatrix = correlate(null, lookbackDays);
+			universeComputedOn = today;
+			universeLookbackDays = lookbackDays;
+		}
+		return universeMatrix;
+	}
+
+	/**
+	 * Compute a matrix over the given symbols (every stored symbol when null)
+	 */
+	public CorrelationMatrix correlate(List<String> symbols, int lookbackDays) {
+		var startTime = System.currentTimeMillis();
+		var to = LocalDate.now();
+		var panel = returnsRepository.loadReturns(symbols, to.minusDays(lookbackDays), to);
+		if (panel.size() == 0) {
+			return CorrelationMatrix.empty();
+		}
+
+		var loaded = System.currentTimeMillis();
+		var computed = CorrelationEngine.correlate(panel, panel.dates().get(panel.dates().size() - 1));
+		log.info("Correlation matrix: {} symbols over {} days (load {}ms, compute {}ms)",
+				panel.size(), panel.observations(), loaded - startTime, System.currentTimeMillis() - loaded);
+		return computed;
+	}
+}
\ No newline at end of file
@@ -23,30 +23,36 @@ public class EmailService {
 
 	private final JavaMailSender mailSender;
 	private final TemplateEngine templateEngine;
+	private final ReasoningService reasoningService;
 	private final TradeScoutProperties properties;
 
 	public EmailService(
 			JavaMailSender mailSender,
 			TemplateEngine templateEngine,
+			ReasoningService reasoningService,
 			TradeScoutProperties properties) {
 		this.mailSender = mailSender;
 		this.templateEngine = templateEngine;
+		this.reasoningService = reasoningService;
 		this.properties = properties;
 	}
 
 	/**
 	 * Send opportunity alert email
+	 *
+	 * @return true if the alert was sent, false if alerts are disabled or sending failed
 	 */
-	public void sendOpportunityAlert(OpportunitySignal signal, TradeSetup setup) {
+	public boolean sendOpportunityAlert(OpportunitySignal signal, TradeSetup setup) {
 		if (!properties.getTrading().getEmail().getEnabled()) {
 			log.debug("Email alerts disabled");
-			return;
+			return false;
 		}
 
 		try {
 			var context = new Context();
 			context.setVariable("signal", signal);
 			context.setVariable("setup", setup);
+			context.setVariable("reasoning", reasoningService.renderTradeReasoning(signal, setup));
 			context.setVariable("includeLinks", properties.getTrading().getEmail().getIncludeLinks());
 
 			var htmlContent = templateEngine.process("opportunity-email", context);
@@ -60,9 +66,11 @@ public class EmailService {
 			);
 
 			log.info("Opportunity alert sent for {}", signal.symbol());
+			return true;
 
 		} catch (Exception e) {
 			log.error("Failed to send opportunity alert: {}", e.getMessage());
+			return false;
 		}
 	}
 
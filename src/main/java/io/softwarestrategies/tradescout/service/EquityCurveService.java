@@ -0,0 +1,131 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.PerformanceMetrics;
+import io.softwarestrategies.tradescout.domain.Trade;
+import io.softwarestrategies.tradescout.dto.EquityStats;
+import io.softwarestrategies.tradescout.dto.TradesVersion;
+import io.softwarestrategies.tradescout.event.TradeEvent;
+import io.softwarestrategies.tradescout.repository.TradeRepository;
+import io.softwarestrategies.tradescout.util.EquityCurve;
+import io.softwarestrategies.tradescout.util.TradingCalendar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the account equity curve in memory and answers drawdown and Sharpe queries from it.
+ *
+ * The curve is built once from closed trades and then updated from trade events.
+ * Trades can also be closed outside the application, so each query compares the
+ * closed-trade count and last update with the database and rebuilds on a change.
+ */
+@Service
+public class EquityCurveService {
+
+	private static final Logger log = LoggerFactory.getLogger(EquityCurveService.class);
+
+	private final TradeRepository tradeRepository;
+	private final TradingCalendar tradingCalendar;
+	private final TradeScoutProperties properties;
+
+	private EquityCurve curve;
+	private TradesVersion version;
+
+	public EquityCurveService(
+			TradeRepository tradeRepository,
+			TradingCalendar tradingCalendar,
+			TradeScoutProperties properties) {
+		this.tradeRepository = tradeRepository;
+		this.tradingCalendar = tradingCalendar;
+		this.properties = properties;
+	}
+
+	/**
+	 * Build the curve from every closed trade
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		var closed = tradeRepository.findByStatus(Trade.TradeStatus.CLOSED).stream()
+				.filter(t -> t.getExitDate() != null && t.getPnl() != null)
+				.toList();
+
+		var firstExit = closed.stream()
+				.map(Trade::getExitDate)
+				.min(Comparator.naturalOrder())
+				.orElse(LocalDate.now());
+
+		var rebuilt = new EquityCurve(tradingCalendar, firstExit,
+				properties.getTrading().getInitialCapital().doubleValue());
+		for (var trade : closed) {
+			rebuilt.add(trade.getExitDate(), trade.getPnl().doubleValue());
+		}
+		rebuilt.extendThrough(LocalDate.now());
+
+		curve = rebuilt;
+		version = tradeRepository.findClosedTradesVersion();
+		log.info("Equity curve built from {} closed trades since {}", closed.size(), rebuilt.firstSession());
+	}
+
+	/**
+	 * Fold a closed trade into the curve once its transaction has committed
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public synchronized void onTradeEvent(TradeEvent event) {
+		var trade = event.trade();
+		if (event.type() != TradeEvent.Type.CLOSED || trade.getExitDate() == null || trade.getPnl() == null) {
+			return;
+		}
+
+		// Read the version first: if anything beyond this one trade was closed since the last
+		// check (e.g. on another node), folding in only this trade would hide the others
+		var current = tradeRepository.findClosedTradesVersion();
+		var onlyThisTrade = version != null && current.count() == version.count() + 1;
+		if (curve == null || !onlyThisTrade || !curve.add(trade.getExitDate(), trade.getPnl().doubleValue())) {
+			rebuild();
+			return;
+		}
+		version = current;
+	}
+
+	/**
+	 * Max drawdown and Sharpe ratio of the sessions in [from, to]
+	 */
+	public synchronized EquityStats stats(LocalDate from, LocalDate to) {
+		ensureCurrent();
+		curve.extendThrough(LocalDate.now());
+		return curve.stats(from, to);
+	}
+
+	/**
+	 * Stats of many periods of one type, keyed by period start, with a single freshness check
+	 */
+	public synchronized Map<LocalDate, EquityStats> stats(
+			PerformanceMetrics.PeriodType periodType, Collection<LocalDate> periodStarts) {
+		ensureCurrent();
+		curve.extendThrough(LocalDate.now());
+
+		var stats = new HashMap<LocalDate, EquityStats>();
+		for (var start : periodStarts) {
+			stats.put(start, curve.stats(start, periodType.endOf(start)));
+		}
+		return stats;
+	}
+
+	private void ensureCurrent() {
+		if (curve == null || !Objects.equals(version, tradeRepository.findClosedTradesVersion())) {
+			rebuild();
+		}
+	}
+}
\ No newline at end of file
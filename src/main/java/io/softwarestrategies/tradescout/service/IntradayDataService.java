@@ -0,0 +1,293 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.IntradayBar;
+import io.softwarestrategies.tradescout.domain.IntradayBaseline;
+import io.softwarestrategies.tradescout.repository.IntradayBarRepository;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import yahoofinance.YahooFinance;
+import yahoofinance.quotes.stock.StockQuote;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for ingesting intraday bars and maintaining time-of-day volatility baselines.
+ *
+ * Bars are built from batched quote polls during the regular session and appended
+ * to the day-partitioned intraday_bars table in JDBC batches.
+ */
+@Service
+public class IntradayDataService {
+
+	private static final Logger log = LoggerFactory.getLogger(IntradayDataService.class);
+
+	private final IntradayBarRepository intradayBarRepository;
+	private final MarketHours marketHours;
+	private final TradeScoutProperties properties;
+
+	// Bars currently forming, keyed by symbol (only touched by the polling thread)
+	private final Map<String, BarBuilder> formingBars = new HashMap<>();
+
+	// Baselines per symbol, indexed by bar number within the session
+	private volatile Map<String, IntradayBaseline[]> baselines = Map.of();
+
+	public IntradayDataService(
+			IntradayBarRepository intradayBarRepository,
+			MarketHours marketHours,
+			TradeScoutProperties properties) {
+		this.intradayBarRepository = intradayBarRepository;
+		this.marketHours = marketHours;
+		this.properties = properties;
+	}
+
+	/**
+	 * Poll quotes for the whole watchlist in one request and roll them into bars
+	 */
+	@Scheduled(fixedDelayString = "${tradescout.trading.intraday.poll-seconds:30}",
+			initialDelayString = "${tradescout.trading.intraday.poll-seconds:30}",
+			timeUnit = TimeUnit.SECONDS)
+	public synchronized void pollQuotes() {
+		if (!properties.getTrading().getIntraday().getEnabled()) {
+			return;
+		}
+
+		var now = Instant.now();
+		var minuteOfSession = marketHours.minuteOfSession(now);
+
+		if (minuteOfSession < 0) {
+			// Session closed - flush whatever is still forming
+			if (!formingBars.isEmpty()) {
+				appendBars(flushAll());
+			}
+			return;
+		}
+
+		var watchlist = properties.getTrading().getWatchlist();
+
+		try {
+			var stocks = YahooFinance.get(watchlist.toArray(String[]::new));
+			var completed = new ArrayList<IntradayBar>();
+			var today = marketHours.today();
+
+			for (var symbol : watchlist) {
+				var stock = stocks.get(symbol);
+				if (stock == null || stock.getQuote() == null) {
+					continue;
+				}
+
+				var quote = stock.getQuote();
+				if (quote.getPrice() == null || quote.getVolume() == null) {
+					continue;
+				}
+
+				var completedBar = onQuote(symbol, today, minuteOfSession, quote);
+				if (completedBar != null) {
+					completed.add(completedBar);
+				}
+			}
+
+			appendBars(completed);
+
+		} catch (Exception e) {
+			log.error("Intraday quote poll failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Append a batch of externally sourced bars (bulk loads, vendor files)
+	 */
+	public void appendBars(List<IntradayBar> bars) {
+		if (bars.isEmpty()) {
+			return;
+		}
+		intradayBarRepository.appendBars(bars);
+		log.debug("Appended {} intraday bars", bars.size());
+	}
+
+	/**
+	 * Recalculate time-of-day baselines for all symbols in one set-based pass
+	 */
+	public void calculateBaselines() {
+		var intraday = properties.getTrading().getIntraday();
+		var today = marketHours.today();
+		var lookbackDays = intraday.getBaselineLookbackDays();
+
+		var rows = intradayBarRepository.calculateBaselines(
+				today, lookbackDays, today.minusDays(lookbackDays), today.plusDays(1),
+				intraday.getBarMinutes());
+
+		log.info("Intraday baselines recalculated: {} symbol/minute rows", rows);
+		reloadBaselines();
+	}
+
+	/**
+	 * Load baselines into memory so the detector never queries per symbol
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void reloadBaselines() {
+		if (!properties.getTrading().getIntraday().getEnabled()) {
+			return;
+		}
+
+		var barMinutes = properties.getTrading().getIntraday().getBarMinutes();
+		var slots = marketHours.getSessionMinutes() / barMinutes;
+		var loaded = new HashMap<String, IntradayBaseline[]>();
+
+		for (var baseline : intradayBarRepository.findBaselines(barMinutes)) {
+			var slot = baseline.minuteOfSession() / barMinutes;
+			if (slot < slots) {
+				loaded.computeIfAbsent(baseline.symbol(), s -> new IntradayBaseline[slots])[slot] = baseline;
+			}
+		}
+
+		baselines = loaded;
+		log.debug("Loaded intraday baselines for {} symbols", loaded.size());
+	}
+
+	/**
+	 * Get the baseline for the bar containing the given minute of the session,
+	 * or null if there is not enough history for that time of day
+	 */
+	public IntradayBaseline findBaseline(String symbol, int minuteOfSession) {
+		if (minuteOfSession < 0) {
+			return null;
+		}
+
+		var symbolBaselines = baselines.get(symbol);
+		if (symbolBaselines == null) {
+			return null;
+		}
+
+		var slot = minuteOfSession / properties.getTrading().getIntraday().getBarMinutes();
+		if (slot >= symbolBaselines.length) {
+			return null;
+		}
+
+		var baseline = symbolBaselines[slot];
+		if (baseline == null
+				|| baseline.sampleDays() < properties.getTrading().getIntraday().getMinBaselineDays()) {
+			return null;
+		}
+		return baseline;
+	}
+
+	/**
+	 * Fold a quote into the symbol's forming bar, returning the previous bar if it just completed
+	 */
+	private IntradayBar onQuote(String symbol, LocalDate date, int minuteOfSession, StockQuote quote) {
+		var barMinutes = properties.getTrading().getIntraday().getBarMinutes();
+		var barStart = minuteOfSession / barMinutes * barMinutes;
+
+		var current = formingBars.get(symbol);
+		IntradayBar completed = null;
+
+		if (current != null && (current.minuteOfSession != barStart || !current.date.equals(date))) {
+			completed = current.build(barMinutes);
+			if (current.date.equals(date)) {
+				// After missed polls the skipped bars' volume would land in this one
+				var follows = barStart == current.minuteOfSession + barMinutes;
+				current = new BarBuilder(symbol, date, barStart, current.lastVolume, !follows);
+			} else {
+				current = null;
+			}
+		}
+
+		if (current == null) {
+			if (barStart == 0 && quote.getOpen() != null) {
+				// First bar of the session: the quote's day open, range and volume all fall in it
+				current = new BarBuilder(symbol, date, barStart, 0, false);
+				current.seed(quote.getOpen(), quote.getDayHigh(), quote.getDayLow());
+			} else {
+				// Started mid-session: the range and volume before this quote are unknown
+				current = new BarBuilder(symbol, date, barStart, quote.getVolume(), true);
+			}
+		}
+
+		current.update(quote.getPrice(), quote.getVolume());
+		formingBars.put(symbol, current);
+
+		return completed;
+	}
+
+	private List<IntradayBar> flushAll() {
+		var barMinutes = properties.getTrading().getIntraday().getBarMinutes();
+		var bars = formingBars.values().stream()
+				.map(builder -> builder.build(barMinutes))
+				.toList();
+		formingBars.clear();
+		return bars;
+	}
+
+	/**
+	 * Mutable accumulator for the bar currently forming for one symbol
+	 */
+	private final class BarBuilder {
+		private final String symbol;
+		private final LocalDate date;
+		private final int minuteOfSession;
+		private final long startVolume;
+		private final boolean partial;
+
+		private BigDecimal open;
+		private BigDecimal high;
+		private BigDecimal low;
+		private BigDecimal close;
+		private long lastVolume;
+
+		private BarBuilder(String symbol, LocalDate date, int minuteOfSession, long startVolume, boolean partial) {
+			this.symbol = symbol;
+			this.date = date;
+			this.minuteOfSession = minuteOfSession;
+			this.startVolume = startVolume;
+			this.lastVolume = startVolume;
+			this.partial = partial;
+		}
+
+		private void seed(BigDecimal sessionOpen, BigDecimal dayHigh, BigDecimal dayLow) {
+			open = sessionOpen;
+			high = dayHigh == null ? sessionOpen : dayHigh.max(sessionOpen);
+			low = dayLow == null ? sessionOpen : dayLow.min(sessionOpen);
+		}
+
+		private void update(BigDecimal price, long cumulativeVolume) {
+			if (open == null) {
+				open = price;
+				high = price;
+				low = price;
+			}
+			high = high.max(price);
+			low = low.min(price);
+			close = price;
+			lastVolume = Math.max(lastVolume, cumulativeVolume);
+		}
+
+		private IntradayBar build(int barMinutes) {
+			return new IntradayBar(
+					symbol,
+					date,
+					barMinutes,
+					minuteOfSession,
+					marketHours.sessionInstant(date, minuteOfSession),
+					open,
+					high,
+					low,
+					close,
+					lastVolume - startVolume,
+					partial
+			);
+		}
+	}
+}
\ No newline at end of file
@@ -3,9 +3,12 @@ package io.softwarestrategies.tradescout.service;
 import io.softwarestrategies.tradescout.config.TradeScoutProperties;
 import io.softwarestrategies.tradescout.domain.StockHistory;
 import io.softwarestrategies.tradescout.domain.VolatilityMetrics;
+import io.softwarestrategies.tradescout.dto.BackfillRange;
 import io.softwarestrategies.tradescout.repository.StockHistoryRepository;
 import io.softwarestrategies.tradescout.repository.VolatilityMetricsRepository;
-import io.softwarestrategies.tradescout.util.StatisticsUtil;
+import io.softwarestrategies.tradescout.util.DateUtil;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import io.softwarestrategies.tradescout.util.PercentileTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -18,7 +21,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Service for fetching and storing market data from Yahoo Finance
@@ -30,89 +32,128 @@ public class MarketDataService {
 
 	private final StockHistoryRepository stockHistoryRepository;
 	private final VolatilityMetricsRepository volatilityMetricsRepository;
-	private final StatisticsUtil statisticsUtil;
+	private final PartitionMaintenanceService partitionMaintenanceService;
+	private final BackfillPlanner backfillPlanner;
+	private final DateUtil dateUtil;
+	private final MarketHours marketHours;
 	private final TradeScoutProperties properties;
 
 	public MarketDataService(
 			StockHistoryRepository stockHistoryRepository,
 			VolatilityMetricsRepository volatilityMetricsRepository,
-			StatisticsUtil statisticsUtil,
+			PartitionMaintenanceService partitionMaintenanceService,
+			BackfillPlanner backfillPlanner,
+			DateUtil dateUtil,
+			MarketHours marketHours,
 			TradeScoutProperties properties) {
 		this.stockHistoryRepository = stockHistoryRepository;
 		this.volatilityMetricsRepository = volatilityMetricsRepository;
-		this.statisticsUtil = statisticsUtil;
+		this.partitionMaintenanceService = partitionMaintenanceService;
+		this.backfillPlanner = backfillPlanner;
+		this.dateUtil = dateUtil;
+		this.marketHours = marketHours;
 		this.properties = properties;
 	}
 
 	/**
-	 * Load initial historical data for all watchlist stocks
+	 * Load initial historical data for all watchlist stocks.
+	 * Only missing history is fetched, so re-running on an up-to-date universe is cheap.
 	 */
 	@Transactional
 	public void loadInitialData() {
-		var watchlist = properties.getTrading().getWatchlist();
-		var lookbackDays = properties.getTrading().getDetection().getLookbackDays();
+		var saved = loadHistoryForSymbols(
+				properties.getTrading().getWatchlist(),
+				historyDays());
 
-		log.info("Loading initial data for {} symbols, {} days back",
-				watchlist.size(), lookbackDays);
+		if (saved == 0) {
+			log.info("History already up to date - skipping metrics recalculation");
+			return;
+		}
+
+		// Calculate initial metrics
+		calculateMetricsForAll();
+	}
+
+	/**
+	 * Backfill the history the given symbols are missing in the lookback window.
+	 * Today is left to the daily update.
+	 *
+	 * @return number of new rows stored
+	 */
+	@Transactional
+	public int loadHistoryForSymbols(List<String> symbols, int daysBack) {
+		var today = marketHours.today();
+		var from = today.minusDays(daysBack);
+		var plan = backfillPlanner.plan(symbols, from, dateUtil.previousTradingDay(today));
+
+		if (plan.isEmpty()) {
+			log.info("History for {} symbols is up to date", symbols.size());
+			return 0;
+		}
+
+		partitionMaintenanceService.ensureStockHistoryPartitions(from, today);
 
 		var startTime = System.currentTimeMillis();
-		var successCount = 0;
+		var savedCount = 0;
 		var failCount = 0;
 
-		for (int i = 0; i < watchlist.size(); i++) {
-			var symbol = watchlist.get(i);
-			log.info("[{}/{}] Loading {}", i + 1, watchlist.size(), symbol);
+		for (int i = 0; i < plan.size(); i++) {
+			var range = plan.get(i);
+			log.info("[{}/{}] Loading {} {}..{}", i + 1, plan.size(), range.symbol(), range.from(), range.to());
 
 			try {
-				loadHistoryForSymbol(symbol, lookbackDays);
-				successCount++;
+				savedCount += loadHistoryRange(range);
 
 				// Rate limiting - be nice to Yahoo Finance
 				Thread.sleep(250);
 			} catch (Exception e) {
-				log.error("Failed to load data for {}: {}", symbol, e.getMessage());
+				log.error("Failed to load data for {}: {}", range.symbol(), e.getMessage());
 				failCount++;
 			}
 		}
 
 		var duration = (System.currentTimeMillis() - startTime) / 1000;
-		log.info("Initial data load complete: {} success, {} failed, {}s",
-				successCount, failCount, duration);
-
-		// Calculate initial metrics
-		calculateMetricsForAll();
+		log.info("History load complete: {} ranges, {} new rows, {} failed, {}s",
+				plan.size(), savedCount, failCount, duration);
+		return savedCount;
 	}
 
 	/**
-	 * Load historical data for a single symbol
+	 * Fetch one range of daily history and store the days not already present
+	 *
+	 * @return number of new rows stored
 	 */
 	@Transactional
-	public void loadHistoryForSymbol(String symbol, int daysBack) throws Exception {
-		var from = Calendar.getInstance();
-		from.add(Calendar.DAY_OF_YEAR, -daysBack);
-
-		var to = Calendar.getInstance();
+	public int loadHistoryRange(BackfillRange range) throws Exception {
+		var symbol = range.symbol();
+		var zone = ZoneId.systemDefault();
 
-		log.debug("Fetching {} days of history for {}", daysBack, symbol);
+		// Yahoo treats the end of the range as exclusive
+		var from = GregorianCalendar.from(range.from().atStartOfDay(zone));
+		var to = GregorianCalendar.from(range.to().plusDays(1).atStartOfDay(zone));
 
 		var stock = YahooFinance.get(symbol, from, to, Interval.DAILY);
 		var history = stock.getHistory();
 
+		// One lookup for the whole range instead of one per row
+		var existing = new HashSet<>(stockHistoryRepository.findTradeDates(symbol, range.from(), range.to()));
+
 		if (history == null || history.isEmpty()) {
-			throw new RuntimeException("No data returned for {%s}".formatted(symbol));
+			log.debug("No data returned for {} {}..{}", symbol, range.from(), range.to());
+			// An empty answer for a symbol with no history at all may be transient; otherwise it is a hole
+			if (!stockHistoryRepository.existsBySymbol(symbol)) {
+				return 0;
+			}
+			backfillPlanner.recordHoles(range, existing, marketHours.today());
+			return 0;
 		}
 
-		var saved = 0;
+		var rows = new ArrayList<StockHistory>();
 		for (var quote : history) {
-			var date = LocalDate.ofInstant(
-					quote.getDate().toInstant(),
-					ZoneId.systemDefault()
-			);
+			var date = LocalDate.ofInstant(quote.getDate().toInstant(), zone);
 
-			var existing = stockHistoryRepository.findBySymbolAndTradeDate(symbol, date);
-
-			if (existing.isEmpty()) {
-				var stockHistory = new StockHistory(
+			if (existing.add(date)) {
+				rows.add(new StockHistory(
 						symbol,
 						date,
 						quote.getOpen(),
@@ -120,14 +161,14 @@ public class MarketDataService {
 						quote.getLow(),
 						quote.getClose(),
 						quote.getVolume()
-				);
-
-				stockHistoryRepository.save(stockHistory);
-				saved++;
+				));
 			}
 		}
 
-		log.debug("Saved {} new records for {}", saved, symbol);
+		stockHistoryRepository.saveAll(rows);
+		backfillPlanner.recordHoles(range, existing, marketHours.today());
+		log.debug("Saved {} new records for {}", rows.size(), symbol);
+		return rows.size();
 	}
 
 	/**
@@ -135,14 +176,27 @@ public class MarketDataService {
 	 */
 	@Transactional
 	public void updateTodaysData() {
-		var watchlist = properties.getTrading().getWatchlist();
+		updateTodaysData(properties.getTrading().getWatchlist());
+	}
 
-		log.info("Updating today's data for {} symbols", watchlist.size());
+	/**
+	 * Update today's data for the given symbols
+	 */
+	@Transactional
+	public void updateTodaysData(List<String> symbols) {
+		// The exchange's date, which differs from the server's around midnight in other zones
+		var today = marketHours.today();
+		if (!dateUtil.isTradingDay(today)) {
+			log.info("Exchange closed today - skipping today's data update");
+			return;
+		}
+
+		log.info("Updating today's data for {} symbols", symbols.size());
 
 		var successCount = 0;
 		var skipCount = 0;
 
-		for (var symbol : watchlist) {
+		for (var symbol : symbols) {
 			try {
 				var stock = YahooFinance.get(symbol);
 				var quote = stock.getQuote();
@@ -153,7 +207,6 @@ public class MarketDataService {
 					continue;
 				}
 
-				var today = LocalDate.now();
 				var existing = stockHistoryRepository.findBySymbolAndTradeDate(symbol, today);
 
 				StockHistory stockHistory;
@@ -195,14 +248,21 @@ public class MarketDataService {
 	 */
 	@Transactional
 	public void calculateMetricsForAll() {
-		var watchlist = properties.getTrading().getWatchlist();
-		var lookbackDays = properties.getTrading().getDetection().getLookbackDays();
+		calculateMetricsForSymbols(properties.getTrading().getWatchlist());
+	}
+
+	/**
+	 * Calculate volatility metrics for the given symbols, every configured lookback at once
+	 */
+	@Transactional
+	public void calculateMetricsForSymbols(List<String> symbols) {
+		var lookbacks = metricsLookbacks();
 
-		log.info("Calculating volatility metrics for {} symbols", watchlist.size());
+		log.info("Calculating volatility metrics for {} symbols over lookbacks {}", symbols.size(), lookbacks);
 
-		for (var symbol : watchlist) {
+		for (var symbol : symbols) {
 			try {
-				calculateMetricsForSymbol(symbol, lookbackDays);
+				calculateMetricsForSymbol(symbol, lookbacks);
 			} catch (Exception e) {
 				log.error("Failed to calculate metrics for {}: {}", symbol, e.getMessage());
 			}
@@ -212,99 +272,165 @@ public class MarketDataService {
 	}
 
 	/**
-	 * Calculate volatility metrics for a single symbol
+	 * Calculate volatility metrics for a single symbol over several lookbacks.
+	 *
+	 * The windows are nested (each longer one contains the shorter ones), so one read of the
+	 * longest window, scanned newest first with running sums, yields every window: when the
+	 * scan crosses a window's start date, the sums so far are exactly that window's.
 	 */
 	@Transactional
-	public void calculateMetricsForSymbol(String symbol, int lookbackDays) {
-		var startDate = LocalDate.now().minusDays(lookbackDays);
-		var history = stockHistoryRepository.findRecentHistory(symbol, startDate);
+	public void calculateMetricsForSymbol(String symbol, List<Integer> lookbacks) {
+		var today = marketHours.today();
+		var windows = lookbacks.stream().distinct().sorted().toList();
+		var history = stockHistoryRepository.findRecentHistory(symbol, today.minusDays(windows.getLast()));
 
 		if (history.isEmpty()) {
 			log.warn("No historical data found for {}", symbol);
 			return;
 		}
 
-		// Calculate statistics
-		var dailyRanges = new ArrayList<Double>();
-		var maxDrops = new ArrayList<Double>();
-		var dailyChanges = new ArrayList<Double>();
-		var volumes = new ArrayList<Long>();
-
-		for (var day : history) {
-			dailyRanges.add(day.getDailyRangePercent());
-			maxDrops.add(day.getMaxDropPercent());
-			dailyChanges.add(day.getDailyChangePercent());
-			volumes.add(day.getVolume());
+		var existing = new HashMap<Integer, VolatilityMetrics>();
+		for (var stored : volatilityMetricsRepository.findBySymbolAndCalculationDate(symbol, today)) {
+			existing.put(stored.getLookbackDays(), stored);
 		}
 
-		var metrics = new VolatilityMetrics(symbol, LocalDate.now(), lookbackDays);
-
-		// Price metrics
-		metrics.setAvgDailyRangePct(statisticsUtil.calculateMean(dailyRanges));
-		metrics.setStddevDailyRangePct(statisticsUtil.calculateStandardDeviation(dailyRanges));
-
-		metrics.setAvgMaxDropPct(statisticsUtil.calculateMean(maxDrops));
-		metrics.setStddevMaxDropPct(statisticsUtil.calculateStandardDeviation(maxDrops));
-
-		metrics.setAvgDailyChangePct(statisticsUtil.calculateMean(dailyChanges));
-		metrics.setStddevDailyChangePct(statisticsUtil.calculateStandardDeviation(dailyChanges));
-
-		// Volume metrics
-		var avgVolume = volumes.stream()
-				.mapToLong(Long::longValue)
-				.average()
-				.orElse(0.0);
-		metrics.setAvgVolume((long) avgVolume);
-
-		var volumeDoubles = volumes.stream()
-				.map(Long::doubleValue)
-				.collect(Collectors.toList());
-		var stddevVolume = statisticsUtil.calculateStandardDeviation(volumeDoubles);
-		metrics.setStddevVolume((long) stddevVolume);
-
-		// Save or update
-		var existing = volatilityMetricsRepository.findBySymbolAndCalculationDateAndLookbackDays(
-				symbol, LocalDate.now(), lookbackDays
-		);
-
-		if (existing.isPresent()) {
-			var existingMetrics = existing.get();
-			existingMetrics.setAvgDailyRangePct(metrics.getAvgDailyRangePct());
-			existingMetrics.setStddevDailyRangePct(metrics.getStddevDailyRangePct());
-			existingMetrics.setAvgMaxDropPct(metrics.getAvgMaxDropPct());
-			existingMetrics.setStddevMaxDropPct(metrics.getStddevMaxDropPct());
-			existingMetrics.setAvgDailyChangePct(metrics.getAvgDailyChangePct());
-			existingMetrics.setStddevDailyChangePct(metrics.getStddevDailyChangePct());
-			existingMetrics.setAvgVolume(metrics.getAvgVolume());
-			existingMetrics.setStddevVolume(metrics.getStddevVolume());
-			volatilityMetricsRepository.save(existingMetrics);
-		} else {
-			volatilityMetricsRepository.save(metrics);
+		var results = new ArrayList<VolatilityMetrics>(windows.size());
+		var sums = new WindowSums(history.getFirst(), history.size());
+		var window = 0;
+
+		// History is ordered newest first, so a day's previous close is the next entry
+		for (int d = 0; d < history.size(); d++) {
+			var day = history.get(d);
+			while (window < windows.size() && day.getTradeDate().isBefore(today.minusDays(windows.get(window)))) {
+				results.add(sums.apply(existing.computeIfAbsent(windows.get(window),
+						days -> new VolatilityMetrics(symbol, today, days))));
+				window++;
+			}
+			sums.add(day, d + 1 < history.size() ? history.get(d + 1) : null);
+		}
+		for (; window < windows.size(); window++) {
+			results.add(sums.apply(existing.computeIfAbsent(windows.get(window),
+					days -> new VolatilityMetrics(symbol, today, days))));
 		}
 
-		log.debug("Calculated metrics for {}: avgDrop={}%, stdDev={}%",
-				symbol,
-				String.format("%.2f", metrics.getAvgMaxDropPct()),
-				String.format("%.2f", metrics.getStddevMaxDropPct()));
+		volatilityMetricsRepository.saveAll(results);
+
+		var detectorMetrics = existing.get(properties.getTrading().getDetection().getLookbackDays());
+		if (detectorMetrics != null && detectorMetrics.getAvgMaxDropPct() != null) {
+			log.debug("Calculated metrics for {} ({} lookbacks): avgDrop={}%, stdDev={}%",
+					symbol, results.size(),
+					String.format("%.2f", detectorMetrics.getAvgMaxDropPct()),
+					String.format("%.2f", detectorMetrics.getStddevMaxDropPct()));
+		}
 	}
 
 	/**
-	 * Clean up old historical data beyond retention period
+	 * Lookbacks (calendar days) metrics are calculated for: the configured list plus the detector's own
 	 */
-	@Transactional
-	public void cleanupOldData(int retentionDays) {
-		var cutoffDate = LocalDate.now().minusDays(retentionDays);
+	public List<Integer> metricsLookbacks() {
+		var detection = properties.getTrading().getDetection();
+		var lookbacks = new TreeSet<Integer>();
+		if (detection.getLookbacks() != null) {
+			lookbacks.addAll(detection.getLookbacks());
+		}
+		lookbacks.add(detection.getLookbackDays());
+		return List.copyOf(lookbacks);
+	}
+
+	/**
+	 * Days of daily history needed to calculate every lookback
+	 */
+	public int historyDays() {
+		return metricsLookbacks().getLast();
+	}
 
-		log.info("Cleaning up data older than {}", cutoffDate);
+	/**
+	 * Running count, sum and sum of squares of the daily series behind VolatilityMetrics,
+	 * plus the max-drop values seen so far for the window's percentile table.
+	 * Values are shifted by the first (newest) day's value so the variance does not
+	 * lose precision to large means such as volume. The gap and close-to-close series
+	 * need the previous close, so the oldest day loaded contributes none.
+	 */
+	private static final class WindowSums {
+		private static final int RANGE = 0;
+		private static final int DROP = 1;
+		private static final int CHANGE = 2;
+		private static final int VOLUME = 3;
+		private static final int GAP = 4;
+		private static final int CLOSE_CHANGE = 5;
+		private static final int SERIES = 6;
+
+		private final double[] shift = new double[SERIES];
+		private final double[] sum = new double[SERIES];
+		private final double[] sumSquares = new double[SERIES];
+		private final int[] count = new int[SERIES];
+		private final float[] drops;
+
+		private WindowSums(StockHistory first, int capacity) {
+			values(first, null, shift);
+			shift[GAP] = 0.0;
+			shift[CLOSE_CHANGE] = 0.0;
+			drops = new float[capacity];
+		}
 
-		var symbols = stockHistoryRepository.findAllDistinctSymbols();
+		private void add(StockHistory day, StockHistory previous) {
+			var values = values(day, previous, new double[SERIES]);
+			drops[count[DROP]] = (float) values[DROP];
+			for (int i = 0; i < SERIES; i++) {
+				if (Double.isNaN(values[i])) {
+					continue;
+				}
+				var shifted = values[i] - shift[i];
+				sum[i] += shifted;
+				sumSquares[i] += shifted * shifted;
+				count[i]++;
+			}
+		}
 
-		for (var symbol : symbols) {
-			stockHistoryRepository.deleteBySymbolAndTradeDateBefore(symbol, cutoffDate);
+		private VolatilityMetrics apply(VolatilityMetrics metrics) {
+			metrics.setAvgDailyRangePct(mean(RANGE));
+			metrics.setStddevDailyRangePct(stdDev(RANGE));
+			metrics.setAvgMaxDropPct(mean(DROP));
+			metrics.setStddevMaxDropPct(stdDev(DROP));
+			metrics.setAvgDailyChangePct(mean(CHANGE));
+			metrics.setStddevDailyChangePct(stdDev(CHANGE));
+			metrics.setAvgGapPct(mean(GAP));
+			metrics.setStddevGapPct(stdDev(GAP));
+			metrics.setAvgCloseChangePct(mean(CLOSE_CHANGE));
+			metrics.setStddevCloseChangePct(stdDev(CLOSE_CHANGE));
+			metrics.setAvgVolume((long) mean(VOLUME));
+			metrics.setStddevVolume((long) stdDev(VOLUME));
+			metrics.setMaxDropTable(PercentileTable.of(drops, count[DROP]).toBytes());
+			return metrics;
 		}
 
-		volatilityMetricsRepository.deleteByCalculationDateBefore(cutoffDate.minusDays(30));
+		private double mean(int series) {
+			return count[series] == 0 ? 0.0 : shift[series] + sum[series] / count[series];
+		}
 
-		log.info("Cleanup complete");
+		// Population standard deviation, as StatisticsUtil calculates it
+		private double stdDev(int series) {
+			var n = count[series];
+			if (n < 2) {
+				return 0.0;
+			}
+			var shiftedMean = sum[series] / n;
+			return Math.sqrt(Math.max(0.0, sumSquares[series] / n - shiftedMean * shiftedMean));
+		}
+
+		// Gap and close-to-close change are NaN without a previous close
+		private static double[] values(StockHistory day, StockHistory previous, double[] into) {
+			into[RANGE] = day.getDailyRangePercent();
+			into[DROP] = day.getMaxDropPercent();
+			into[CHANGE] = day.getDailyChangePercent();
+			into[VOLUME] = day.getVolume();
+
+			var previousClose = previous == null ? 0.0 : previous.getClosePrice().doubleValue();
+			into[GAP] = previousClose > 0
+					? (day.getOpenPrice().doubleValue() - previousClose) / previousClose * 100 : Double.NaN;
+			into[CLOSE_CHANGE] = previousClose > 0
+					? (day.getClosePrice().doubleValue() - previousClose) / previousClose * 100 : Double.NaN;
+			return into;
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,205 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.Stage;
+import io.softwarestrategies.tradescout.dto.FactorLoading;
+import io.softwarestrategies.tradescout.repository.ReturnsRepository;
+import io.softwarestrategies.tradescout.repository.ShardCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps each watchlist symbol's market and sector betas in memory.
+ *
+ * Fitted once a night (and at startup) from stored closes. The sector benchmark is
+ * first regressed on the market, and symbols are regressed on the market and that
+ * sector residual; the two factors are uncorrelated in-sample, so each beta is a
+ * single covariance ratio. Scans read the cached loadings and never touch the database.
+ * The nightly MARKET_FACTORS stage runs on one node, so every node watches for its
+ * completion and refits its own loadings, keeping scores the same on every node.
+ */
+@Service
+public class MarketFactorService {
+
+	private static final Logger log = LoggerFactory.getLogger(MarketFactorService.class);
+
+	// Days of aligned returns required before a symbol's loading is trusted
+	private static final int MIN_OBSERVATIONS = 60;
+
+	private final ReturnsRepository returnsRepository;
+	private final ShardCheckpointRepository checkpointRepository;
+	private final TradeScoutProperties properties;
+
+	private volatile Factors factors = new Factors(Map.of(), 0.0, null);
+
+	// Start of the last fit on this node
+	private volatile Instant fittedAt = Instant.MIN;
+
+	public MarketFactorService(
+			ReturnsRepository returnsRepository,
+			ShardCheckpointRepository checkpointRepository,
+			TradeScoutProperties properties) {
+		this.returnsRepository = returnsRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.properties = properties;
+	}
+
+	/**
+	 * Refit every watchlist symbol's loading over the configured lookback
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void recalculate() {
+		fittedAt = Instant.now();
+		var startTime = System.currentTimeMillis();
+		var relative = properties.getTrading().getRelative();
+		var market = relative.getMarketBenchmark();
+		var sector = relative.getSectorBenchmark();
+
+		var symbols = new LinkedHashSet<>(properties.getTrading().getWatchlist());
+		symbols.add(market);
+		symbols.add(sector);
+
+		var to = LocalDate.now();
+		var panel = returnsRepository.loadReturns(symbols, to.minusDays(relative.getLookbackDays()), to);
+		var length = panel.observations();
+		var marketRow = panel.symbols().indexOf(market);
+		if (marketRow < 0 || length < MIN_OBSERVATIONS) {
+			log.warn("Not enough {} history for market factors ({} days)", market, length);
+			return;
+		}
+
+		var values = panel.returns();
+		var m = new double[length];
+		System.arraycopy(values, marketRow * length, m, 0, length);
+
+		// Sector return net of the market; all zeros (no sector factor) without sector history
+		var f = new double[length];
+		var sectorOnMarketBeta = 0.0;
+		var sectorRow = panel.symbols().indexOf(sector);
+		if (sectorRow >= 0) {
+			var s = new double[length];
+			System.arraycopy(values, sectorRow * length, s, 0, length);
+			sectorOnMarketBeta = covariance(s, 0, m) / covariance(m, 0, m);
+			for (int t = 0; t < length; t++) {
+				f[t] = s[t] - sectorOnMarketBeta * m[t];
+			}
+		}
+
+		var marketMean = mean(m, 0, length);
+		var sectorMean = mean(f, 0, length);
+		var marketVariance = covariance(m, 0, m);
+		var sectorVariance = covariance(f, 0, f);
+
+		var loadings = new HashMap<String, FactorLoading>();
+		for (int i = 0; i < panel.size(); i++) {
+			var symbol = panel.symbols().get(i);
+			if (i == marketRow || i == sectorRow) {
+				continue;
+			}
+
+			var offset = i * length;
+			var marketBeta = covariance(values, offset, m) / marketVariance;
+			var sectorBeta = sectorVariance == 0 ? 0.0 : covariance(values, offset, f) / sectorVariance;
+			var alpha = mean(values, offset, length) - marketBeta * marketMean - sectorBeta * sectorMean;
+
+			var residualSquares = 0.0;
+			var totalSquares = 0.0;
+			var symbolMean = mean(values, offset, length);
+			for (int t = 0; t < length; t++) {
+				var residual = values[offset + t] - alpha - marketBeta * m[t] - sectorBeta * f[t];
+				residualSquares += residual * residual;
+				totalSquares += (values[offset + t] - symbolMean) * (values[offset + t] - symbolMean);
+			}
+
+			var residualStdDev = Math.sqrt(residualSquares / (length - 3));
+			if (residualStdDev == 0) {
+				continue;
+			}
+			var rSquared = totalSquares == 0 ? 0.0 : 1 - residualSquares / totalSquares;
+			loadings.put(symbol, new FactorLoading(symbol, alpha, marketBeta, sectorBeta,
+					residualStdDev, rSquared, length));
+		}
+
+		factors = new Factors(Map.copyOf(loadings), sectorOnMarketBeta, panel.dates().get(panel.dates().size() - 1));
+		log.info("Market factors: {} symbols over {} days in {}ms",
+				loadings.size(), length, System.currentTimeMillis() - startTime);
+	}
+
+	/**
+	 * Refit if the nightly stage completed (on any node) since this node last did
+	 */
+	@Scheduled(fixedDelayString = "${tradescout.trading.maintenance.refresh-poll-seconds:60}",
+			initialDelayString = "${tradescout.trading.maintenance.refresh-poll-seconds:60}",
+			timeUnit = TimeUnit.SECONDS)
+	public void refreshIfRecalculated() {
+		var completed = checkpointRepository.findLastCompletion(Stage.MARKET_FACTORS);
+		if (completed != null && completed.isAfter(fittedAt)) {
+			log.info("Market factor stage completed at {}; refitting this node's loadings", completed);
+			recalculate();
+		}
+	}
+
+	/**
+	 * Loading of one symbol, or null if none was fitted
+	 */
+	public FactorLoading getLoading(String symbol) {
+		return factors.loadings().get(symbol);
+	}
+
+	public Map<String, FactorLoading> getLoadings() {
+		return factors.loadings();
+	}
+
+	public LocalDate getAsOf() {
+		return factors.asOf();
+	}
+
+	/**
+	 * Sector benchmark's log return net of what the market return explains
+	 */
+	public double sectorResidual(double marketLogReturn, double sectorLogReturn) {
+		return sectorLogReturn - factors.sectorOnMarketBeta() * marketLogReturn;
+	}
+
+	private static double mean(double[] values, int offset, int length) {
+		var sum = 0.0;
+		for (int t = 0; t < length; t++) {
+			sum += values[offset + t];
+		}
+		return sum / length;
+	}
+
+	/**
+	 * Sample covariance of values[offset..offset+x.length) with x
+	 */
+	private static double covariance(double[] values, int offset, double[] x) {
+		var length = x.length;
+		var meanValues = mean(values, offset, length);
+		var meanX = mean(x, 0, length);
+		var sum = 0.0;
+		for (int t = 0; t < length; t++) {
+			sum += (values[offset + t] - meanValues) * (x[t] - meanX);
+		}
+		return sum / (length - 1);
+	}
+
+	/**
+	 * Fitted loadings with the sector-on-market beta used to orthogonalize the sector factor
+	 */
+	private record Factors(
+			Map<String, FactorLoading> loadings,
+			double sectorOnMarketBeta,
+			LocalDate asOf
+	) {}
+}
\ No newline at end of file
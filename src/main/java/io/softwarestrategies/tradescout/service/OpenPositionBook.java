@@ -0,0 +1,77 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.domain.Trade;
+import io.softwarestrategies.tradescout.dto.TradesVersion;
+import io.softwarestrategies.tradescout.repository.TradeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory book of open positions.
+ *
+ * Every read first compares a cheap version of the trades table (row count and latest
+ * update) with the one the book was loaded at, and reloads the open trades when they
+ * differ. Trades opened or closed by another node are therefore picked up on the next
+ * read; risk checks, performance snapshots and mark-to-market otherwise read positions
+ * from here without loading them.
+ */
+@Component
+public class OpenPositionBook {
+
+	private static final Logger log = LoggerFactory.getLogger(OpenPositionBook.class);
+
+	private final TradeRepository tradeRepository;
+
+	private volatile Map<Long, Trade> positions = Map.of();
+	private TradesVersion version;
+
+	public OpenPositionBook(TradeRepository tradeRepository) {
+		this.tradeRepository = tradeRepository;
+	}
+
+	/**
+	 * Replace the book with the open trades stored in the database
+	 */
+	public synchronized void reload() {
+		version = tradeRepository.findTradesVersion();
+		positions = tradeRepository.findByStatus(Trade.TradeStatus.OPEN).stream()
+				.collect(Collectors.toUnmodifiableMap(Trade::getId, Function.identity()));
+		log.debug("Open position book loaded: {} positions", positions.size());
+	}
+
+	/**
+	 * Open positions, oldest first
+	 */
+	public List<Trade> getPositions() {
+		return ensureCurrent().values().stream()
+				.sorted(Comparator.comparing(Trade::getEntryDate).thenComparing(Trade::getId))
+				.toList();
+	}
+
+	public Optional<Trade> getPosition(Long tradeId) {
+		return Optional.ofNullable(ensureCurrent().get(tradeId));
+	}
+
+	public int count() {
+		return ensureCurrent().size();
+	}
+
+	/**
+	 * Reload if any trade was inserted or updated since the book was loaded, on any node
+	 */
+	private synchronized Map<Long, Trade> ensureCurrent() {
+		if (version == null || !Objects.equals(version, tradeRepository.findTradesVersion())) {
+			reload();
+		}
+		return positions;
+	}
+}
\ No newline at end of file
@@ -1,21 +1,22 @@
 package io.softwarestrategies.tradescout.service;
 
 import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.SignalRecord;
 import io.softwarestrategies.tradescout.dto.OpportunitySignal;
 import io.softwarestrategies.tradescout.dto.TradeSetup;
+import io.softwarestrategies.tradescout.repository.SignalHistoryRepository;
+import io.softwarestrategies.tradescout.rules.AlertCooldownRule;
+import io.softwarestrategies.tradescout.rules.RulePipeline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.DayOfWeek;
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Service for managing trading opportunities and alerts
@@ -25,110 +26,106 @@ public class OpportunityService {
 
 	private static final Logger log = LoggerFactory.getLogger(OpportunityService.class);
 
-	// Track last alert time per symbol to avoid spam
-	private final Map<String, Instant> lastAlertTime = new HashMap<>();
-
 	private final AnomalyDetectionService anomalyDetectionService;
 	private final EmailService emailService;
-	private final RiskManagementService riskManagementService;
+	private final RulePipeline rulePipeline;
+	private final AlertCooldownRule alertCooldownRule;
+	private final SignalHistoryRepository signalHistoryRepository;
 	private final TradeScoutProperties properties;
 
 	public OpportunityService(
 			AnomalyDetectionService anomalyDetectionService,
 			EmailService emailService,
-			RiskManagementService riskManagementService,
+			RulePipeline rulePipeline,
+			AlertCooldownRule alertCooldownRule,
+			SignalHistoryRepository signalHistoryRepository,
 			TradeScoutProperties properties) {
 		this.anomalyDetectionService = anomalyDetectionService;
 		this.emailService = emailService;
-		this.riskManagementService = riskManagementService;
+		this.rulePipeline = rulePipeline;
+		this.alertCooldownRule = alertCooldownRule;
+		this.signalHistoryRepository = signalHistoryRepository;
 		this.properties = properties;
 	}
 
+	/**
+	 * Scan history for the exchange-local dates [from, to], optionally for one symbol
+	 */
+	public List<SignalRecord> getSignalHistory(LocalDate from, LocalDate to, String symbol, int limit) {
+		var zone = ZoneId.of(properties.getTrading().getMarket().getTimezone());
+		return signalHistoryRepository.findBetween(
+				from.atStartOfDay(zone).toInstant(), to.plusDays(1).atStartOfDay(zone).toInstant(), symbol, limit);
+	}
+
 	/**
 	 * Scan for opportunities and send alerts
 	 */
 	public List<OpportunitySignal> scanAndAlert() {
-		log.info("Starting opportunity scan");
+		return scanAndAlert(properties.getTrading().getWatchlist());
+	}
 
-		var opportunities = anomalyDetectionService.scanForOpportunities();
+	/**
+	 * Scan the given symbols for opportunities and send alerts
+	 */
+	public List<OpportunitySignal> scanAndAlert(List<String> symbols) {
+		log.info("Starting opportunity scan of {} symbols", symbols.size());
+
+		var opportunities = anomalyDetectionService.scanForOpportunities(symbols);
 
 		if (opportunities.isEmpty()) {
 			log.info("No opportunities found");
 			return opportunities;
 		}
 
-		// Filter by trading rules
+		// Filter by trading rules, cheapest first; signal-independent checks run once per scan
+		var context = rulePipeline.newContext();
 		var filtered = opportunities.stream()
-				.filter(this::passesRules)
-				.filter(this::shouldAlert)
+				.filter(opportunity -> {
+					var result = rulePipeline.evaluate(opportunity, context);
+					if (!result.passed()) {
+						log.debug("Skipping {} - {}: {}", opportunity.symbol(), result.rule(), result.reason());
+					}
+					return result.passed();
+				})
 				.toList();
 
 		log.info("{} opportunities passed filters", filtered.size());
 
-		// Send alerts
+		// Send alerts - one per symbol, for its highest-confidence strategy
+		var alerted = new HashSet<String>();
 		for (var opportunity : filtered) {
+			if (!alerted.add(opportunity.symbol())) {
+				log.debug("Skipping {} [{}] - symbol already alerted this scan",
+						opportunity.symbol(), opportunity.strategy());
+				continue;
+			}
+			if (!properties.getTrading().getEmail().getEnabled()) {
+				continue;
+			}
+
+			// Claim the alert cluster-wide first, so a scan on another node cannot send it too
+			var alertedAt = alertCooldownRule.startCooldown(opportunity.symbol());
+			if (alertedAt == null) {
+				log.debug("Skipping {} - alert cooldown not claimed", opportunity.symbol());
+				continue;
+			}
+			var sent = false;
 			try {
-				if (properties.getTrading().getEmail().getEnabled()) {
-					var tradeSetup = generateTradeSetup(opportunity);
-					emailService.sendOpportunityAlert(opportunity, tradeSetup);
-					lastAlertTime.put(opportunity.symbol(), Instant.now());
-					log.info("Alert sent for {}", opportunity.symbol());
-				}
+				var tradeSetup = generateTradeSetup(opportunity);
+				sent = emailService.sendOpportunityAlert(opportunity, tradeSetup);
 			} catch (Exception e) {
 				log.error("Failed to send alert for {}: {}",
 						opportunity.symbol(), e.getMessage());
 			}
-		}
-
-		return filtered;
-	}
-
-	/**
-	 * Check if opportunity passes trading rules
-	 */
-	private boolean passesRules(OpportunitySignal signal) {
-		var rules = properties.getTrading().getRules();
-
-		// Check if it's Friday and we don't trade Fridays
-		if (rules.getNoFridayEntries()) {
-			var today = LocalDate.now(ZoneId.of(
-					properties.getTrading().getSchedule().getDailyMaintenanceTimezone()
-			));
-			if (today.getDayOfWeek() == DayOfWeek.FRIDAY) {
-				log.debug("Skipping {} - no Friday entries", signal.symbol());
-				return false;
+			if (sent) {
+				log.info("Alert sent for {}", opportunity.symbol());
+			} else {
+				// Give the cooldown back so this or another node can alert on the next scan
+				alertCooldownRule.cancelCooldown(opportunity.symbol(), alertedAt);
 			}
 		}
 
-		// Check risk management limits
-		if (!riskManagementService.canTakeNewTrade()) {
-			log.debug("Skipping {} - risk limits reached", signal.symbol());
-			return false;
-		}
-
-		return true;
-	}
-
-	/**
-	 * Check if we should alert for this opportunity (cooldown period)
-	 */
-	private boolean shouldAlert(OpportunitySignal signal) {
-		var lastAlert = lastAlertTime.get(signal.symbol());
-
-		if (lastAlert == null) {
-			return true;
-		}
-
-		var cooldownMinutes = properties.getTrading().getEmail().getAlertCooldownMinutes();
-		var minutesSinceLastAlert = (Instant.now().getEpochSecond() - lastAlert.getEpochSecond()) / 60;
-
-		if (minutesSinceLastAlert < cooldownMinutes) {
-			log.debug("Skipping {} - alert cooldown active ({} min remaining)",
-					signal.symbol(), cooldownMinutes - minutesSinceLastAlert);
-			return false;
-		}
-
-		return true;
+		return filtered;
 	}
 
 	/**
@@ -153,32 +150,6 @@ public class OpportunityService {
 		var targetPrice = pricePerShare.add(targetGainPerShare);
 		var stopPrice = pricePerShare.subtract(stopLossPerShare);
 
-		var reasoning = String.format("""
-		Anomaly detected with %.0f%% confidence
-		
-		Analysis:
-		- Price dropped %.2f%% from open
-		- Z-Score: %.2fσ (bottom %.1f%% of days)
-		- Volume: %d (%.2fσ below average)
-		
-		Historical Context:
-		- Typical drop: %.2f%% ± %.2f%%
-		- Average volume: %d
-		
-		This appears to be an overreaction on thin trading volume.
-		Manual review required before executing trade.
-		""",
-				signal.confidence(),
-				signal.currentDropPct(),
-				signal.priceZScore(),
-				getPercentile(signal.priceZScore()),
-				signal.currentVolume(),
-				signal.volumeZScore(),
-				signal.historicalContext().avgMaxDropPct(),
-				signal.historicalContext().stddevMaxDropPct(),
-				signal.historicalContext().avgVolume()
-		);
-
 		return new TradeSetup(
 				signal.symbol(),
 				entryPrice,
@@ -187,8 +158,7 @@ public class OpportunityService {
 				positionSize,
 				stopLoss,
 				targetProfit,
-				signal.confidence(),
-				reasoning
+				signal.confidence()
 		);
 	}
 
@@ -199,15 +169,4 @@ public class OpportunityService {
 		var positionSize = properties.getTrading().getPositionSize();
 		return positionSize.divide(entryPrice, 0, RoundingMode.DOWN).intValue();
 	}
-
-	/**
-	 * Get approximate percentile from Z-score
-	 */
-	private double getPercentile(double zScore) {
-		if (zScore < -3.0) return 0.1;
-		if (zScore < -2.5) return 0.6;
-		if (zScore < -2.0) return 2.5;
-		if (zScore < -1.5) return 7.0;
-		return 16.0;
-	}
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.repository.PartitionRepository;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Service for creating and retiring partitions of the time-partitioned history tables.
+ *
+ * stock_history is partitioned by month and intraday_bars by day, so retention
+ * is a partition drop rather than a row-by-row DELETE.
+ */
+@Service
+public class PartitionMaintenanceService {
+
+	private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+	private static final String STOCK_HISTORY = "stock_history";
+	private static final String STOCK_HISTORY_PREFIX = "stock_history_p";
+	private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+	private static final String INTRADAY_BARS = "intraday_bars";
+	private static final String INTRADAY_BARS_PREFIX = "intraday_bars_p";
+	private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+	private static final int STOCK_HISTORY_MONTHS_AHEAD = 3;
+
+	private final PartitionRepository partitionRepository;
+	private final MarketHours marketHours;
+	private final TradeScoutProperties properties;
+
+	public PartitionMaintenanceService(
+			PartitionRepository partitionRepository,
+			MarketHours marketHours,
+			TradeScoutProperties properties) {
+		this.partitionRepository = partitionRepository;
+		this.marketHours = marketHours;
+		this.properties = properties;
+	}
+
+	/**
+	 * Make sure stock_history has a partition for every month in [from, to]
+	 */
+	public void ensureStockHistoryPartitions(LocalDate from, LocalDate to) {
+		var month = YearMonth.from(from);
+		var lastMonth = YearMonth.from(to);
+
+		while (!month.isAfter(lastMonth)) {
+			partitionRepository.createStockHistoryPartition(month.atDay(1));
+			month = month.plusMonths(1);
+		}
+	}
+
+	/**
+	 * Create upcoming stock_history partitions and drop the months entirely before the cutoff.
+	 * Retention is month-granular: the month containing the cutoff is kept until it fully expires.
+	 */
+	public int maintainStockHistoryPartitions(LocalDate cutoffDate) {
+		var today = marketHours.today();
+		ensureStockHistoryPartitions(today, today.plusMonths(STOCK_HISTORY_MONTHS_AHEAD));
+
+		var dropped = 0;
+		for (var partition : partitionRepository.findPartitionNames(STOCK_HISTORY)) {
+			if (!partition.startsWith(STOCK_HISTORY_PREFIX)) {
+				continue;
+			}
+
+			var month = YearMonth.parse(partition.substring(STOCK_HISTORY_PREFIX.length()), MONTH_FORMAT);
+			if (!month.plusMonths(1).atDay(1).isAfter(cutoffDate)) {
+				partitionRepository.dropPartition(STOCK_HISTORY, partition);
+				log.info("Dropped stock history partition {}", partition);
+				dropped++;
+			}
+		}
+
+		return dropped;
+	}
+
+	/**
+	 * Create upcoming intraday_bars partitions and drop the days past retention
+	 */
+	public int maintainIntradayPartitions() {
+		var intraday = properties.getTrading().getIntraday();
+		var today = marketHours.today();
+
+		for (int i = 0; i <= intraday.getPartitionsAhead(); i++) {
+			partitionRepository.createIntradayBarsPartition(today.plusDays(i));
+		}
+
+		var cutoff = today.minusDays(intraday.getRetentionDays());
+		var dropped = 0;
+
+		for (var partition : partitionRepository.findPartitionNames(INTRADAY_BARS)) {
+			if (!partition.startsWith(INTRADAY_BARS_PREFIX)) {
+				continue;
+			}
+
+			var day = LocalDate.parse(partition.substring(INTRADAY_BARS_PREFIX.length()), DAY_FORMAT);
+			if (day.isBefore(cutoff)) {
+				partitionRepository.dropPartition(INTRADAY_BARS, partition);
+				dropped++;
+			}
+		}
+
+		log.info("Intraday partitions ready through {}, {} expired partitions dropped",
+				today.plusDays(intraday.getPartitionsAhead()), dropped);
+		return dropped;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.PerformanceMetrics;
+import io.softwarestrategies.tradescout.domain.PerformanceMetrics.PeriodType;
+import io.softwarestrategies.tradescout.domain.Trade;
+import io.softwarestrategies.tradescout.event.TradeEvent;
+import io.softwarestrategies.tradescout.repository.PerformanceMetricsRepository;
+import io.softwarestrategies.tradescout.repository.PerformanceRollupRepository;
+import io.softwarestrategies.tradescout.repository.TradeRepository;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import io.softwarestrategies.tradescout.util.TradeStatsAccumulator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Maintains DAILY through ANNUAL performance rollups in performance_metrics.
+ *
+ * Closing a trade recomputes only the five periods containing its exit date. The nightly
+ * refresh rebuilds every period from one read of the closed trades, covering trades that
+ * were entered or edited outside the application. Readers get a few rows per range
+ * instead of scanning trades. Periods that ended before the performance_metrics
+ * retention cutoff are not written, so the refresh does not recreate what retention removed.
+ */
+@Service
+public class PerformanceRollupService {
+
+	private static final Logger log = LoggerFactory.getLogger(PerformanceRollupService.class);
+
+	private final TradeRepository tradeRepository;
+	private final PerformanceMetricsRepository metricsRepository;
+	private final PerformanceRollupRepository rollupRepository;
+	private final PerformanceTrackingService performanceService;
+	private final EquityCurveService equityCurveService;
+	private final MarketHours marketHours;
+	private final TradeScoutProperties properties;
+
+	public PerformanceRollupService(
+			TradeRepository tradeRepository,
+			PerformanceMetricsRepository metricsRepository,
+			PerformanceRollupRepository rollupRepository,
+			PerformanceTrackingService performanceService,
+			EquityCurveService equityCurveService,
+			MarketHours marketHours,
+			TradeScoutProperties properties) {
+		this.tradeRepository = tradeRepository;
+		this.metricsRepository = metricsRepository;
+		this.rollupRepository = rollupRepository;
+		this.performanceService = performanceService;
+		this.equityCurveService = equityCurveService;
+		this.marketHours = marketHours;
+		this.properties = properties;
+	}
+
+	/**
+	 * Update the rollups of a closed trade once its transaction has committed
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void onTradeEvent(TradeEvent event) {
+		var exitDate = event.trade().getExitDate();
+		if (event.type() == TradeEvent.Type.CLOSED && exitDate != null) {
+			refreshPeriodsContaining(exitDate);
+		}
+	}
+
+	/**
+	 * Recompute the period of every type that contains a date
+	 */
+	@Transactional
+	public void refreshPeriodsContaining(LocalDate date) {
+		// The year contains all shorter periods: one read, then filter per period
+		var trades = tradeRepository.findClosedTradesBetween(
+				PeriodType.ANNUAL.startOf(date), PeriodType.ANNUAL.endOf(date));
+
+		var cutoff = retentionCutoff();
+		var rollups = new ArrayList<PerformanceMetrics>();
+		for (var periodType : PeriodType.values()) {
+			var start = periodType.startOf(date);
+			var end = periodType.endOf(date);
+			if (end.isBefore(cutoff)) {
+				continue;
+			}
+			var inPeriod = trades.stream()
+					.filter(t -> t.getPnl() != null
+							&& !t.getExitDate().isBefore(start) && !t.getExitDate().isAfter(end))
+					.toList();
+
+			if (inPeriod.isEmpty()) {
+				rollupRepository.deletePeriod(periodType, start);
+			} else {
+				rollups.add(performanceService.calculateMetrics(periodType, start, end, inPeriod));
+			}
+		}
+		rollupRepository.upsert(rollups);
+	}
+
+	/**
+	 * Rebuild every rollup from all closed trades
+	 *
+	 * @return number of rollup rows written
+	 */
+	@Transactional
+	public int refreshAll() {
+		var startTime = System.currentTimeMillis();
+		var trades = tradeRepository.findByStatus(Trade.TradeStatus.CLOSED).stream()
+				.filter(t -> t.getExitDate() != null && t.getPnl() != null)
+				.toList();
+
+		// One pass over the trades into daily partials; longer periods merge the partials
+		var daily = new TreeMap<LocalDate, TradeStatsAccumulator>();
+		for (var trade : trades) {
+			daily.computeIfAbsent(trade.getExitDate(), d -> new TradeStatsAccumulator()).add(trade);
+		}
+
+		var cutoff = retentionCutoff();
+		var written = 0;
+		for (var periodType : PeriodType.values()) {
+			var byPeriod = new TreeMap<LocalDate, TradeStatsAccumulator>();
+			daily.forEach((date, stats) -> {
+				if (!periodType.endOf(date).isBefore(cutoff)) {
+					byPeriod.computeIfAbsent(periodType.startOf(date), s -> new TradeStatsAccumulator())
+							.merge(stats);
+				}
+			});
+
+			var equity = equityCurveService.stats(periodType, byPeriod.keySet());
+			var rollups = new ArrayList<PerformanceMetrics>(byPeriod.size());
+			byPeriod.forEach((start, stats) -> rollups.add(performanceService.calculateMetrics(
+					periodType, start, periodType.endOf(start), stats, equity.get(start))));
+
+			rollupRepository.upsert(rollups);
+			rollupRepository.deleteOtherPeriods(periodType, byPeriod.keySet());
+			written += rollups.size();
+		}
+
+		log.info("Refreshed {} performance rollups from {} closed trades in {}ms",
+				written, trades.size(), System.currentTimeMillis() - startTime);
+		return written;
+	}
+
+	/**
+	 * Oldest period end kept by retention (same cutoff as RetentionService)
+	 */
+	private LocalDate retentionCutoff() {
+		return marketHours.today().minusDays(
+				properties.getTrading().getRetention().getPerformanceMetricsDays());
+	}
+
+	/**
+	 * Stored rollups of one type whose period starts in [from, to]
+	 */
+	public List<PerformanceMetrics> getRollups(PeriodType periodType, LocalDate from, LocalDate to) {
+		return metricsRepository.findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+				periodType, periodType.startOf(from), to);
+	}
+}
\ No newline at end of file
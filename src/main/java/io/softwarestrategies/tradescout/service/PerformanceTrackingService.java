@@ -3,21 +3,27 @@ package io.softwarestrategies.tradescout.service;
 import io.softwarestrategies.tradescout.config.TradeScoutProperties;
 import io.softwarestrategies.tradescout.domain.PerformanceMetrics;
 import io.softwarestrategies.tradescout.domain.Trade;
+import io.softwarestrategies.tradescout.dto.EquityStats;
 import io.softwarestrategies.tradescout.dto.PerformanceSnapshot;
 import io.softwarestrategies.tradescout.dto.QuarterlyReport;
+import io.softwarestrategies.tradescout.dto.TradesVersion;
 import io.softwarestrategies.tradescout.repository.PerformanceMetricsRepository;
+import io.softwarestrategies.tradescout.repository.PerformanceRollupRepository;
 import io.softwarestrategies.tradescout.repository.TradeRepository;
 import io.softwarestrategies.tradescout.util.DateUtil;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import io.softwarestrategies.tradescout.util.TradeStatsAccumulator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for tracking and analyzing trading performance
@@ -29,17 +35,34 @@ public class PerformanceTrackingService {
 
 	private final TradeRepository tradeRepository;
 	private final PerformanceMetricsRepository metricsRepository;
+	private final PerformanceRollupRepository rollupRepository;
 	private final DateUtil dateUtil;
+	private final MarketHours marketHours;
+	private final EquityCurveService equityCurveService;
+	private final OpenPositionBook openPositionBook;
 	private final TradeScoutProperties properties;
 
+	// Quarterly reports by quarter start, each with the closed-trades version it was built from
+	private final Map<LocalDate, CachedReport> quarterlyReports = new ConcurrentHashMap<>();
+
+	private record CachedReport(TradesVersion version, QuarterlyReport report) {}
+
 	public PerformanceTrackingService(
 			TradeRepository tradeRepository,
 			PerformanceMetricsRepository metricsRepository,
+			PerformanceRollupRepository rollupRepository,
 			DateUtil dateUtil,
+			MarketHours marketHours,
+			EquityCurveService equityCurveService,
+			OpenPositionBook openPositionBook,
 			TradeScoutProperties properties) {
 		this.tradeRepository = tradeRepository;
 		this.metricsRepository = metricsRepository;
+		this.rollupRepository = rollupRepository;
 		this.dateUtil = dateUtil;
+		this.marketHours = marketHours;
+		this.equityCurveService = equityCurveService;
+		this.openPositionBook = openPositionBook;
 		this.properties = properties;
 	}
 
@@ -69,11 +92,11 @@ public class PerformanceTrackingService {
 		var winRate = closedTrades.isEmpty() ? 0.0 :
 				(double) winners / closedTrades.size() * 100.0;
 
-		var openTrades = (int) tradeRepository.countOpenTrades();
+		var openTrades = openPositionBook.count();
 
 		// Calculate if on pace for annual target
 		var targetPercent = properties.getTrading().getAnnualTargetPercent();
-		var daysIntoYear = LocalDate.now().getDayOfYear();
+		var daysIntoYear = marketHours.today().getDayOfYear();
 		var expectedReturn = (targetPercent / 365.0) * daysIntoYear;
 		var onPace = returnPercent >= expectedReturn;
 
@@ -82,7 +105,7 @@ public class PerformanceTrackingService {
 		var status = determineStatus(returnPercent, winRate, onPace);
 
 		return new PerformanceSnapshot(
-				LocalDate.now(),
+				marketHours.today(),
 				currentCapital,
 				totalPnL,
 				returnPercent,
@@ -96,13 +119,28 @@ public class PerformanceTrackingService {
 	}
 
 	/**
-	 * Generate quarterly report
+	 * Get the current quarter's report, generating it only if closed trades changed since the last one.
+	 *
+	 * Trades can be closed on other nodes or outside the application, so the cache is checked
+	 * against the database closed-trades version rather than local trade events.
 	 */
-	@Transactional
 	public QuarterlyReport generateQuarterlyReport() {
-		var today = LocalDate.now();
-		var quarterStart = dateUtil.getQuarterStart(today);
-		var quarterEnd = dateUtil.getQuarterEnd(today);
+		var quarterStart = dateUtil.getQuarterStart(marketHours.today());
+
+		// Read before building: a trade closed during generation leaves the entry stale for the next call
+		var version = tradeRepository.findClosedTradesVersion();
+		var cached = quarterlyReports.get(quarterStart);
+		if (cached != null && cached.version().equals(version)) {
+			return cached.report();
+		}
+
+		var report = buildQuarterlyReport(quarterStart);
+		quarterlyReports.put(quarterStart, new CachedReport(version, report));
+		return report;
+	}
+
+	private QuarterlyReport buildQuarterlyReport(LocalDate quarterStart) {
+		var quarterEnd = dateUtil.getQuarterEnd(quarterStart);
 
 		log.info("Generating quarterly report: {} to {}", quarterStart, quarterEnd);
 
@@ -117,8 +155,12 @@ public class PerformanceTrackingService {
 				trades
 		);
 
-		// Save metrics
-		metricsRepository.save(metrics);
+		// Replace the quarter's rollup row; an upsert, so regenerating never adds rows
+		if (!trades.isEmpty()) {
+			rollupRepository.upsert(List.of(metrics));
+			metrics = metricsRepository.findByPeriodTypeAndPeriodStart(
+					PerformanceMetrics.PeriodType.QUARTERLY, quarterStart).orElse(metrics);
+		}
 
 		// Generate recommendations
 		var recommendations = generateRecommendations(metrics, trades);
@@ -137,96 +179,67 @@ public class PerformanceTrackingService {
 	/**
 	 * Calculate performance metrics for a period
 	 */
-	private PerformanceMetrics calculateMetrics(
+	public PerformanceMetrics calculateMetrics(
 			PerformanceMetrics.PeriodType periodType,
 			LocalDate periodStart,
 			LocalDate periodEnd,
 			List<Trade> trades) {
+		return calculateMetrics(periodType, periodStart, periodEnd, TradeStatsAccumulator.of(trades),
+				trades.isEmpty() ? null : equityCurveService.stats(periodStart, periodEnd));
+	}
+
+	/**
+	 * Calculate performance metrics for a period from accumulated trade stats and its equity stats
+	 */
+	public PerformanceMetrics calculateMetrics(
+			PerformanceMetrics.PeriodType periodType,
+			LocalDate periodStart,
+			LocalDate periodEnd,
+			TradeStatsAccumulator stats,
+			EquityStats equity) {
 
 		var metrics = new PerformanceMetrics(periodType, periodStart, periodEnd);
 
-		if (trades.isEmpty()) {
+		if (stats.getTrades() == 0) {
 			return metrics;
 		}
 
 		// Basic stats
-		metrics.setTotalTrades(trades.size());
-
-		var winners = trades.stream().filter(Trade::isWinner).toList();
-		var losers = trades.stream().filter(Trade::isLoser).toList();
-
-		metrics.setWinningTrades(winners.size());
-		metrics.setLosingTrades(losers.size());
-		metrics.setWinRate((double) winners.size() / trades.size() * 100.0);
+		metrics.setTotalTrades((int) stats.getTrades());
+		metrics.setWinningTrades((int) stats.getWinners());
+		metrics.setLosingTrades((int) stats.getLosers());
+		metrics.setWinRate(stats.getWinRate());
 
 		// P&L calculations
-		var totalPnL = trades.stream()
-				.map(Trade::getPnl)
-				.filter(pnl -> pnl != null)
-				.reduce(BigDecimal.ZERO, BigDecimal::add);
+		var totalPnL = stats.getTotalPnl();
 		metrics.setTotalPnl(totalPnL);
 
-		var initialCapital = properties.getTrading().getInitialCapital();
-		metrics.setStartingCapital(initialCapital);
-		metrics.setEndingCapital(initialCapital.add(totalPnL));
+		var startingCapital = BigDecimal.valueOf(equity.startingEquity()).setScale(2, RoundingMode.HALF_UP);
+		metrics.setStartingCapital(startingCapital);
+		metrics.setEndingCapital(startingCapital.add(totalPnL));
 
 		var returnPercent = totalPnL
-				.divide(initialCapital, 4, RoundingMode.HALF_UP)
+				.divide(startingCapital, 4, RoundingMode.HALF_UP)
 				.multiply(BigDecimal.valueOf(100))
 				.doubleValue();
 		metrics.setReturnPercent(returnPercent);
 
-		// Win/Loss averages
-		if (!winners.isEmpty()) {
-			var avgWin = winners.stream()
-					.map(Trade::getPnl)
-					.reduce(BigDecimal.ZERO, BigDecimal::add)
-					.divide(BigDecimal.valueOf(winners.size()), 2, RoundingMode.HALF_UP);
-			metrics.setAvgWin(avgWin);
-
-			var largestWin = winners.stream()
-					.map(Trade::getPnl)
-					.max(BigDecimal::compareTo)
-					.orElse(BigDecimal.ZERO);
-			metrics.setLargestWin(largestWin);
-		}
-
-		if (!losers.isEmpty()) {
-			var avgLoss = losers.stream()
-					.map(Trade::getPnl)
-					.reduce(BigDecimal.ZERO, BigDecimal::add)
-					.divide(BigDecimal.valueOf(losers.size()), 2, RoundingMode.HALF_UP);
-			metrics.setAvgLoss(avgLoss);
-
-			var largestLoss = losers.stream()
-					.map(Trade::getPnl)
-					.min(BigDecimal::compareTo)
-					.orElse(BigDecimal.ZERO);
-			metrics.setLargestLoss(largestLoss);
-		}
-
-		// Profit factor
-		var totalWins = winners.stream()
-				.map(Trade::getPnl)
-				.reduce(BigDecimal.ZERO, BigDecimal::add);
-		var totalLosses = losers.stream()
-				.map(Trade::getPnl)
-				.reduce(BigDecimal.ZERO, BigDecimal::add)
-				.abs();
+		// Win/Loss averages, extremes and profit factor
+		metrics.setAvgWin(stats.getAvgWin());
+		metrics.setLargestWin(stats.getLargestWin());
+		metrics.setAvgLoss(stats.getAvgLoss());
+		metrics.setLargestLoss(stats.getLargestLoss());
+		metrics.setProfitFactor(stats.getProfitFactor());
 
-		if (totalLosses.compareTo(BigDecimal.ZERO) > 0) {
-			var profitFactor = totalWins
-					.divide(totalLosses, 2, RoundingMode.HALF_UP)
-					.doubleValue();
-			metrics.setProfitFactor(profitFactor);
-		}
+		// Risk: drawdown and Sharpe over the daily equity curve of the period
+		metrics.setMaxDrawdown(BigDecimal.valueOf(equity.maxDrawdown()).setScale(2, RoundingMode.HALF_UP));
+		metrics.setMaxDrawdownPercent(equity.maxDrawdownPercent());
+		metrics.setSharpeRatio(equity.sharpeRatio());
 
 		// Target analysis
-		var targetPercent = properties.getTrading().getQuarterlyTargetPercent();
-		metrics.setOnPaceForAnnualTarget(returnPercent >= targetPercent);
-
-		var projectedAnnual = returnPercent * 4; // Quarterly * 4 = Annual
+		var projectedAnnual = returnPercent * periodType.getPeriodsPerYear();
 		metrics.setProjectedAnnualReturn(projectedAnnual);
+		metrics.setOnPaceForAnnualTarget(projectedAnnual >= properties.getTrading().getAnnualTargetPercent());
 
 		return metrics;
 	}
@@ -295,7 +308,7 @@ public class PerformanceTrackingService {
 		var onPace = projectedAnnual >= annualTarget;
 
 		// Calculate needed monthly return for rest of year
-		var currentQuarter = (LocalDate.now().getMonthValue() - 1) / 3;
+		var currentQuarter = (marketHours.today().getMonthValue() - 1) / 3;
 		var remainingQuarters = 4 - currentQuarter - 1;
 		var neededReturn = annualTarget - currentReturn;
 		var neededMonthly = remainingQuarters > 0 ?
@@ -0,0 +1,252 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.Trade;
+import io.softwarestrategies.tradescout.dto.PositionMark;
+import io.softwarestrategies.tradescout.repository.LeaseRepository;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import yahoofinance.Stock;
+import yahoofinance.YahooFinance;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks open positions to market and watches their stop and target levels.
+ *
+ * Each poll fetches quotes for all symbols in the position book in one request. Levels
+ * are held as whole cents per position (rebuilt only when the trade changes), so marking
+ * and breach checks are long arithmetic. A breached position is closed at the last price
+ * when auto-close is enabled, otherwise it is flagged once and reported in the marks.
+ *
+ * Every node marks positions for its own API, but only the node holding the monitor
+ * lease acts on breaches, and a close that loses a race with another close fails on
+ * the trade's version instead of closing it twice.
+ */
+@Service
+public class PositionMonitorService {
+
+	private static final Logger log = LoggerFactory.getLogger(PositionMonitorService.class);
+
+	private static final String LEASE = "position-monitor";
+
+	// Polls the lease outlives, so a node that stops polling hands it over quickly
+	private static final int LEASE_POLLS = 3;
+
+	private final OpenPositionBook openPositionBook;
+	private final TradeService tradeService;
+	private final LeaseRepository leaseRepository;
+	private final MarketHours marketHours;
+	private final TradeScoutProperties properties;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	// Fixed-point levels per trade id (only touched by the polling thread)
+	private final Map<Long, Levels> levels = new HashMap<>();
+
+	// Trades whose breach has already been reported
+	private final Set<Long> flagged = new HashSet<>();
+
+	private volatile List<PositionMark> marks = List.of();
+
+	public PositionMonitorService(
+			OpenPositionBook openPositionBook,
+			TradeService tradeService,
+			LeaseRepository leaseRepository,
+			MarketHours marketHours,
+			TradeScoutProperties properties) {
+		this.openPositionBook = openPositionBook;
+		this.tradeService = tradeService;
+		this.leaseRepository = leaseRepository;
+		this.marketHours = marketHours;
+		this.properties = properties;
+	}
+
+	/**
+	 * Poll quotes for every open position in one request, mark them and act on breaches
+	 */
+	@Scheduled(fixedDelayString = "${tradescout.trading.monitor.poll-seconds:5}",
+			initialDelayString = "${tradescout.trading.monitor.poll-seconds:5}",
+			timeUnit = TimeUnit.SECONDS)
+	public synchronized void pollPositions() {
+		var monitor = properties.getTrading().getMonitor();
+		var now = Instant.now();
+		if (!monitor.getEnabled() || !marketHours.isOpen(now)) {
+			return;
+		}
+
+		var positions = openPositionBook.getPositions();
+		if (positions.isEmpty()) {
+			marks = List.of();
+			levels.clear();
+			flagged.clear();
+			return;
+		}
+
+		var symbols = new LinkedHashSet<String>();
+		for (var position : positions) {
+			symbols.add(position.getSymbol());
+		}
+
+		Map<String, Stock> stocks;
+		try {
+			stocks = YahooFinance.get(symbols.toArray(String[]::new));
+		} catch (Exception e) {
+			log.error("Position quote poll failed: {}", e.getMessage());
+			return;
+		}
+
+		// Last price per symbol in cents, converted once per symbol
+		var lastCents = new HashMap<String, Long>(symbols.size() * 2);
+		for (var symbol : symbols) {
+			var stock = stocks.get(symbol);
+			if (stock != null && stock.getQuote() != null && stock.getQuote().getPrice() != null) {
+				lastCents.put(symbol, toCents(stock.getQuote().getPrice()));
+			}
+		}
+
+		var updated = new ArrayList<PositionMark>(positions.size());
+		var breached = new ArrayList<PositionMark>();
+		var open = new HashSet<Long>(positions.size() * 2);
+
+		for (var position : positions) {
+			open.add(position.getId());
+			var price = lastCents.get(position.getSymbol());
+			if (price == null) {
+				continue;
+			}
+
+			var level = levelsFor(position);
+			var mark = level.mark(position, price, now);
+			updated.add(mark);
+			if (mark.breach() != null) {
+				breached.add(mark);
+			}
+		}
+
+		levels.keySet().retainAll(open);
+		flagged.retainAll(open);
+		marks = List.copyOf(updated);
+
+		if (breached.isEmpty() || !holdsLease(monitor)) {
+			return;
+		}
+		for (var mark : breached) {
+			onBreach(mark, monitor.getAutoClose());
+		}
+	}
+
+	/**
+	 * Latest marks of the open positions
+	 */
+	public List<PositionMark> getMarks() {
+		return marks;
+	}
+
+	/**
+	 * Total unrealized P&L of the latest marks
+	 */
+	public BigDecimal getUnrealizedPnl() {
+		var cents = 0L;
+		for (var mark : marks) {
+			cents += mark.unrealizedPnl().movePointRight(2).longValue();
+		}
+		return BigDecimal.valueOf(cents, 2);
+	}
+
+	private void onBreach(PositionMark mark, boolean autoClose) {
+		if (autoClose) {
+			try {
+				tradeService.closeTrade(mark.tradeId(), mark.lastPrice(), mark.breach());
+				log.info("Auto-closed trade {} ({}) on {} at ${}",
+						mark.tradeId(), mark.symbol(), mark.breach(), mark.lastPrice());
+			} catch (OptimisticLockingFailureException | IllegalStateException e) {
+				log.info("Trade {} ({}) was already closed elsewhere", mark.tradeId(), mark.symbol());
+			} catch (RuntimeException e) {
+				log.error("Auto-close of trade {} failed: {}", mark.tradeId(), e.getMessage());
+			}
+		} else if (flagged.add(mark.tradeId())) {
+			log.warn("Trade {} ({}) breached: {} at ${}, unrealized P&L ${}",
+					mark.tradeId(), mark.symbol(), mark.breach(), mark.lastPrice(), mark.unrealizedPnl());
+		}
+	}
+
+	/**
+	 * Take or renew the cluster-wide lease for acting on breaches
+	 */
+	private boolean holdsLease(TradeScoutProperties.Monitor monitor) {
+		try {
+			return leaseRepository.tryAcquire(LEASE, nodeId,
+					Duration.ofSeconds((long) monitor.getPollSeconds() * LEASE_POLLS));
+		} catch (DataAccessException e) {
+			log.error("Position monitor lease check failed: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	private Levels levelsFor(Trade position) {
+		var level = levels.get(position.getId());
+		// The book replaces the trade instance on every committed change
+		if (level == null || level.trade != position) {
+			level = new Levels(position);
+			levels.put(position.getId(), level);
+		}
+		return level;
+	}
+
+	private static long toCents(BigDecimal price) {
+		return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+	}
+
+	/**
+	 * Entry, target and stop of one position in cents
+	 */
+	private static final class Levels {
+		private final Trade trade;
+		private final long entryCents;
+		private final long targetCents;
+		private final long stopCents;
+		private final long size;
+
+		private Levels(Trade trade) {
+			this.trade = trade;
+			this.entryCents = toCents(trade.getEntryPrice());
+			this.targetCents = toCents(trade.getTargetPrice());
+			this.stopCents = toCents(trade.getStopPrice());
+			this.size = trade.getPositionSize();
+		}
+
+		private PositionMark mark(Trade position, long priceCents, Instant now) {
+			var pnlCents = (priceCents - entryCents) * size;
+			var pnlPercent = entryCents == 0 ? 0.0 : (priceCents - entryCents) * 100.0 / entryCents;
+
+			Trade.ExitReason breach = null;
+			if (priceCents <= stopCents) {
+				breach = Trade.ExitReason.STOP_HIT;
+			} else if (priceCents >= targetCents) {
+				breach = Trade.ExitReason.TARGET_HIT;
+			}
+
+			return new PositionMark(position.getId(), position.getSymbol(), position.getPositionSize(),
+					position.getEntryPrice(), BigDecimal.valueOf(priceCents, 2), BigDecimal.valueOf(pnlCents, 2),
+					pnlPercent, breach, now);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.dto.TradeSetup;
+import io.softwarestrategies.tradescout.strategy.SignalStrategy;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders reasoning text for signals and trade setups from their structured fields.
+ * Text is only built when a client asks for a verbose view or an email is sent,
+ * so scans and regular API responses carry numbers only.
+ */
+@Service
+public class ReasoningService {
+
+	private final Map<String, SignalStrategy> strategies = new HashMap<>();
+
+	public ReasoningService(List<SignalStrategy> strategies) {
+		strategies.forEach(strategy -> this.strategies.put(strategy.name(), strategy));
+	}
+
+	/**
+	 * Strategy-specific explanation of why the signal fired
+	 */
+	public String renderReason(OpportunitySignal signal) {
+		var strategy = strategies.get(signal.strategy());
+		return strategy == null ? "" : strategy.renderReason(signal);
+	}
+
+	/**
+	 * Full trade-setup reasoning: the signal's analysis plus historical context
+	 */
+	public String renderTradeReasoning(OpportunitySignal signal, TradeSetup setup) {
+		var history = signal.historicalContext();
+
+		return String.format("""
+		Anomaly detected with %.0f%% confidence
+		Strategy: %s
+		
+		Analysis:
+		- Price moved %.2f%% from open
+		- Z-Score: %.2fσ (%s)
+		- Volume: %d (%.2fσ vs average)
+		%s
+		Historical Context:
+		- Typical drop: %.2f%% ± %.2f%%
+		- Average volume: %d
+		
+		Risk: $%s to stop, $%s target (%.2f reward/risk)
+		Manual review required before executing trade.
+		""",
+				signal.confidence(),
+				signal.strategy(),
+				signal.currentDropPct(),
+				signal.priceZScore(),
+				signal.dropPercentile() == null
+						? "no percentile table"
+						: String.format("bottom %.1f%% of days", signal.dropPercentile()),
+				signal.currentVolume(),
+				signal.volumeZScore(),
+				renderReason(signal),
+				history.avgMaxDropPct(),
+				history.stddevMaxDropPct(),
+				history.avgVolume(),
+				setup.riskAmount(),
+				setup.profitTarget(),
+				setup.getRiskRewardRatio()
+		);
+	}
+}
\ No newline at end of file
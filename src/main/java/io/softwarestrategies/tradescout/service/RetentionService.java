@@ -0,0 +1,135 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.repository.RetentionRepository;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Service that enforces per-table retention horizons.
+ *
+ * Partitioned tables (stock_history, intraday_bars) are retired by dropping partitions.
+ * Everything else is deleted in small set-based batches with a pause between batches,
+ * and the sweep stops when the market opens so a large backlog never holds locks during
+ * trading hours. An interrupted sweep simply continues on the next run.
+ */
+@Service
+public class RetentionService {
+
+	private static final Logger log = LoggerFactory.getLogger(RetentionService.class);
+
+	/**
+	 * A table cleaned by batched deletes, with the column its age is measured by
+	 */
+	private record BatchedTarget(
+			String table,
+			String dateColumn,
+			Function<TradeScoutProperties.Retention, Integer> retentionDays
+	) {}
+
+	private static final List<BatchedTarget> BATCHED_TARGETS = List.of(
+			new BatchedTarget("volatility_metrics", "calculation_date",
+					TradeScoutProperties.Retention::getVolatilityMetricsDays),
+			new BatchedTarget("performance_metrics", "period_end",
+					TradeScoutProperties.Retention::getPerformanceMetricsDays),
+			new BatchedTarget("signals", "scanned_at",
+					TradeScoutProperties.Retention::getSignalHistoryDays),
+			new BatchedTarget("history_holes", "to_date",
+					TradeScoutProperties.Retention::getStockHistoryDays),
+			new BatchedTarget("shard_checkpoints", "created_at",
+					TradeScoutProperties.Retention::getShardCheckpointDays)
+	);
+
+	private final RetentionRepository retentionRepository;
+	private final PartitionMaintenanceService partitionMaintenanceService;
+	private final MarketHours marketHours;
+	private final TradeScoutProperties properties;
+
+	public RetentionService(
+			RetentionRepository retentionRepository,
+			PartitionMaintenanceService partitionMaintenanceService,
+			MarketHours marketHours,
+			TradeScoutProperties properties) {
+		this.retentionRepository = retentionRepository;
+		this.partitionMaintenanceService = partitionMaintenanceService;
+		this.marketHours = marketHours;
+		this.properties = properties;
+	}
+
+	/**
+	 * Apply retention to every history table
+	 */
+	public void runRetention() {
+		var retention = properties.getTrading().getRetention();
+		var today = marketHours.today();
+
+		log.info("Starting retention sweep");
+
+		var stockHistoryCutoff = today.minusDays(retention.getStockHistoryDays());
+		var droppedMonths = partitionMaintenanceService.maintainStockHistoryPartitions(stockHistoryCutoff);
+		log.info("stock_history: {} monthly partitions dropped (cutoff {})", droppedMonths, stockHistoryCutoff);
+
+		if (properties.getTrading().getIntraday().getEnabled()) {
+			partitionMaintenanceService.maintainIntradayPartitions();
+		}
+
+		for (var target : BATCHED_TARGETS) {
+			var cutoff = today.minusDays(target.retentionDays().apply(retention));
+			var completed = deleteInBatches(target, cutoff);
+			if (!completed) {
+				log.warn("Retention sweep paused for market hours; remaining rows will be removed on the next run");
+				return;
+			}
+		}
+
+		log.info("Retention sweep complete");
+	}
+
+	/**
+	 * Delete expired rows batch by batch until none are left
+	 *
+	 * @return false if the sweep was stopped before finishing
+	 */
+	private boolean deleteInBatches(BatchedTarget target, LocalDate cutoff) {
+		var retention = properties.getTrading().getRetention();
+		var batchSize = retention.getBatchSize();
+		var totalDeleted = 0L;
+		var batches = 0;
+
+		while (true) {
+			if (!retention.getAllowDuringMarketHours() && marketHours.isOpen(Instant.now())) {
+				log.info("{}: stopping after {} rows, market is open", target.table(), totalDeleted);
+				return false;
+			}
+
+			var deleted = retentionRepository.deleteBatch(
+					target.table(), target.dateColumn(), cutoff, batchSize);
+			totalDeleted += deleted;
+			batches++;
+
+			if (deleted < batchSize) {
+				break;
+			}
+
+			log.debug("{}: {} rows deleted so far ({} batches)", target.table(), totalDeleted, batches);
+
+			try {
+				Thread.sleep(retention.getBatchPauseMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		log.info("{}: {} rows older than {} deleted in {} batches",
+				target.table(), totalDeleted, cutoff, batches);
+		return true;
+	}
+}
\ No newline at end of file
@@ -3,14 +3,17 @@ package io.softwarestrategies.tradescout.service;
 import io.softwarestrategies.tradescout.config.TradeScoutProperties;
 import io.softwarestrategies.tradescout.domain.Trade;
 import io.softwarestrategies.tradescout.repository.TradeRepository;
+import io.softwarestrategies.tradescout.util.MarketHours;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Service for enforcing risk management rules
@@ -21,12 +24,21 @@ public class RiskManagementService {
 	private static final Logger log = LoggerFactory.getLogger(RiskManagementService.class);
 
 	private final TradeRepository tradeRepository;
+	private final OpenPositionBook openPositionBook;
+	private final CorrelationService correlationService;
+	private final MarketHours marketHours;
 	private final TradeScoutProperties properties;
 
 	public RiskManagementService(
 			TradeRepository tradeRepository,
+			OpenPositionBook openPositionBook,
+			CorrelationService correlationService,
+			MarketHours marketHours,
 			TradeScoutProperties properties) {
 		this.tradeRepository = tradeRepository;
+		this.openPositionBook = openPositionBook;
+		this.correlationService = correlationService;
+		this.marketHours = marketHours;
 		this.properties = properties;
 	}
 
@@ -56,6 +68,10 @@ public class RiskManagementService {
 			reasons.add("Too many consecutive losses");
 		}
 
+		if (!checkOpenPositions()) {
+			reasons.add("Open position limit reached");
+		}
+
 		if (!reasons.isEmpty()) {
 			log.warn("Cannot take new trade: {}", String.join(", ", reasons));
 			return false;
@@ -69,7 +85,7 @@ public class RiskManagementService {
 	 */
 	private boolean checkWeeklyLimit() {
 		var maxTrades = properties.getTrading().getRisk().getMaxTradesPerWeek();
-		var weekStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		var weekStart = marketHours.today().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 		var weekEnd = weekStart.plusDays(6);
 
 		var tradeCount = tradeRepository.countTradesInPeriod(weekStart, weekEnd);
@@ -83,8 +99,8 @@ public class RiskManagementService {
 	 */
 	private boolean checkMonthlyLimit() {
 		var maxTrades = properties.getTrading().getRisk().getMaxTradesPerMonth();
-		var monthStart = LocalDate.now().with(TemporalAdjusters.firstDayOfMonth());
-		var monthEnd = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth());
+		var monthStart = marketHours.today().with(TemporalAdjusters.firstDayOfMonth());
+		var monthEnd = marketHours.today().with(TemporalAdjusters.lastDayOfMonth());
 
 		var tradeCount = tradeRepository.countTradesInPeriod(monthStart, monthEnd);
 
@@ -97,7 +113,7 @@ public class RiskManagementService {
 	 */
 	private boolean checkDailyLoss() {
 		var maxLoss = properties.getTrading().getRisk().getMaxDailyLoss();
-		var today = LocalDate.now();
+		var today = marketHours.today();
 
 		var todayTrades = tradeRepository.findClosedTradesBetween(today, today);
 		var dailyPnL = todayTrades.stream()
@@ -119,8 +135,8 @@ public class RiskManagementService {
 	 */
 	private boolean checkMonthlyLoss() {
 		var maxLoss = properties.getTrading().getRisk().getMaxMonthlyLoss();
-		var monthStart = LocalDate.now().with(TemporalAdjusters.firstDayOfMonth());
-		var monthEnd = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth());
+		var monthStart = marketHours.today().with(TemporalAdjusters.firstDayOfMonth());
+		var monthEnd = marketHours.today().with(TemporalAdjusters.lastDayOfMonth());
 
 		var monthTrades = tradeRepository.findClosedTradesBetween(monthStart, monthEnd);
 		var monthlyPnL = monthTrades.stream()
@@ -167,6 +183,57 @@ public class RiskManagementService {
 		return canTrade;
 	}
 
+	/**
+	 * Check open position limit (read from the position book)
+	 */
+	private boolean checkOpenPositions() {
+		var maxOpen = properties.getTrading().getRisk().getMaxOpenPositions();
+		if (maxOpen == null) {
+			return true;
+		}
+
+		var open = openPositionBook.count();
+		log.debug("Open positions: {} / {}", open, maxOpen);
+		return open < maxOpen;
+	}
+
+	/**
+	 * Check that a new position in the symbol would not pile onto correlated open positions.
+	 * Reads the cached correlation matrix and the position book only.
+	 */
+	public boolean checkCorrelatedExposure(String symbol) {
+		var maxCorrelated = properties.getTrading().getRisk().getMaxCorrelatedPositions();
+		if (maxCorrelated == null) {
+			return true;
+		}
+
+		var correlated = findCorrelatedPositions(symbol);
+		if (correlated.size() >= maxCorrelated) {
+			log.warn("Correlated exposure limit reached for {}: {}", symbol, correlated);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Open positions correlated with a symbol at or above the threshold, as "SYMBOL (0.82)"
+	 */
+	public List<String> findCorrelatedPositions(String symbol) {
+		var threshold = properties.getTrading().getRisk().getCorrelationThreshold();
+		var matrix = correlationService.getMatrix();
+
+		var correlated = new ArrayList<String>();
+		for (var position : openPositionBook.getPositions()) {
+			var correlation = position.getSymbol().equals(symbol)
+					? 1.0
+					: matrix.correlation(symbol, position.getSymbol());
+			if (correlation >= threshold) {
+				correlated.add("%s (%.2f)".formatted(position.getSymbol(), correlation));
+			}
+		}
+		return correlated;
+	}
+
 	/**
 	 * Get current risk status summary
 	 */
@@ -179,6 +246,7 @@ public class RiskManagementService {
 		Daily P&L: $%s
 		Monthly P&L: $%s
 		Consecutive Losses: %d
+		Open Positions: %d / %s
 		Can Trade: %s
 		════════════════════════════════════════
 		""",
@@ -189,24 +257,26 @@ public class RiskManagementService {
 				getDailyPnL(),
 				getMonthlyPnL(),
 				getConsecutiveLosses(),
+				openPositionBook.count(),
+				Objects.toString(properties.getTrading().getRisk().getMaxOpenPositions(), "-"),
 				canTakeNewTrade() ? "YES" : "NO"
 		);
 	}
 
 	private long getWeeklyTradeCount() {
-		var weekStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		var weekStart = marketHours.today().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 		var weekEnd = weekStart.plusDays(6);
 		return tradeRepository.countTradesInPeriod(weekStart, weekEnd);
 	}
 
 	private long getMonthlyTradeCount() {
-		var monthStart = LocalDate.now().with(TemporalAdjusters.firstDayOfMonth());
-		var monthEnd = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth());
+		var monthStart = marketHours.today().with(TemporalAdjusters.firstDayOfMonth());
+		var monthEnd = marketHours.today().with(TemporalAdjusters.lastDayOfMonth());
 		return tradeRepository.countTradesInPeriod(monthStart, monthEnd);
 	}
 
 	private BigDecimal getDailyPnL() {
-		var today = LocalDate.now();
+		var today = marketHours.today();
 		var todayTrades = tradeRepository.findClosedTradesBetween(today, today);
 		return todayTrades.stream()
 				.map(Trade::getPnl)
@@ -215,8 +285,8 @@ public class RiskManagementService {
 	}
 
 	private BigDecimal getMonthlyPnL() {
-		var monthStart = LocalDate.now().with(TemporalAdjusters.firstDayOfMonth());
-		var monthEnd = LocalDate.now().with(TemporalAdjusters.lastDayOfMonth());
+		var monthStart = marketHours.today().with(TemporalAdjusters.firstDayOfMonth());
+		var monthEnd = marketHours.today().with(TemporalAdjusters.lastDayOfMonth());
 		var monthTrades = tradeRepository.findClosedTradesBetween(monthStart, monthEnd);
 		return monthTrades.stream()
 				.map(Trade::getPnl)
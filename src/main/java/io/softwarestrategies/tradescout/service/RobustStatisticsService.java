@@ -0,0 +1,197 @@
+package io.softwarestrategies.tradescout.service;
+
+import com.tdunning.math.stats.MergingDigest;
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.RobustMetrics;
+import io.softwarestrategies.tradescout.domain.RobustMetrics.Series;
+import io.softwarestrategies.tradescout.domain.StockHistory;
+import io.softwarestrategies.tradescout.dto.RobustBaseline;
+import io.softwarestrategies.tradescout.repository.RobustMetricsRepository;
+import io.softwarestrategies.tradescout.repository.StockHistoryRepository;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service maintaining robust per-symbol baselines for fat-tailed daily series.
+ *
+ * Each symbol/series keeps a t-digest quantile sketch in robust_metrics. The sketch is
+ * rebuilt nightly over the detection lookback, so median, MAD and percentile ranks
+ * describe the same window as the other baselines rather than all history since the
+ * first update. Median and MAD are derived when the sketch changes and held in memory,
+ * making robust Z-scores O(1) per signal; percentile ranks read the in-memory sketch,
+ * whose size is bounded by its compression.
+ */
+@Service
+public class RobustStatisticsService {
+
+	private static final Logger log = LoggerFactory.getLogger(RobustStatisticsService.class);
+
+	// Scales MAD to the standard deviation of a normal distribution
+	private static final double MAD_TO_SIGMA = 1.4826;
+
+	private final RobustMetricsRepository robustMetricsRepository;
+	private final StockHistoryRepository stockHistoryRepository;
+	private final MarketHours marketHours;
+	private final TradeScoutProperties properties;
+
+	// Baselines per symbol; each symbol's map is replaced whole, never mutated
+	private final Map<String, Map<Series, RobustBaseline>> baselines = new ConcurrentHashMap<>();
+
+	public RobustStatisticsService(
+			RobustMetricsRepository robustMetricsRepository,
+			StockHistoryRepository stockHistoryRepository,
+			MarketHours marketHours,
+			TradeScoutProperties properties) {
+		this.robustMetricsRepository = robustMetricsRepository;
+		this.stockHistoryRepository = stockHistoryRepository;
+		this.marketHours = marketHours;
+		this.properties = properties;
+	}
+
+	/**
+	 * Rebuild the sketches of each symbol with days stored since the last update
+	 * over the lookback window
+	 */
+	@Transactional
+	public void updateForSymbols(List<String> symbols) {
+		if (!properties.getTrading().getRobust().getEnabled()) {
+			return;
+		}
+
+		var stored = new HashMap<String, Map<Series, RobustMetrics>>();
+		for (var metrics : robustMetricsRepository.findBySymbolIn(symbols)) {
+			stored.computeIfAbsent(metrics.getSymbol(), s -> new EnumMap<>(Series.class))
+					.put(metrics.getSeries(), metrics);
+		}
+
+		var today = marketHours.today();
+		var historyDays = properties.getTrading().getDetection().getLookbackDays();
+		var updated = new ArrayList<RobustMetrics>();
+
+		for (var symbol : symbols) {
+			var series = stored.getOrDefault(symbol, Map.of());
+
+			// All series of a symbol advance together, so any of them tells the last day seen
+			var lastSeen = series.values().stream()
+					.map(RobustMetrics::getLastTradeDate)
+					.min(LocalDate::compareTo)
+					.orElse(LocalDate.MIN);
+
+			// Repository returns newest first
+			var window = stockHistoryRepository.findRecentHistory(symbol, today.minusDays(historyDays)).reversed();
+			if (window.isEmpty() || !window.getLast().getTradeDate().isAfter(lastSeen)) {
+				continue;
+			}
+
+			for (var s : Series.values()) {
+				var metrics = series.get(s);
+				if (metrics == null) {
+					metrics = new RobustMetrics(symbol, s);
+				}
+				rebuild(metrics, window);
+				updated.add(metrics);
+			}
+		}
+
+		robustMetricsRepository.saveAll(updated);
+		log.info("Robust metrics updated for {} of {} symbols", updated.size() / Series.values().length, symbols.size());
+
+		publish(updated);
+	}
+
+	/**
+	 * Load all stored baselines into memory
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void reloadBaselines() {
+		if (!properties.getTrading().getRobust().getEnabled()) {
+			return;
+		}
+
+		var all = robustMetricsRepository.findAll();
+		publish(all);
+		log.info("Loaded robust baselines for {} symbol series", all.size());
+	}
+
+	/**
+	 * Baseline for a symbol and series, or null if none has been calculated
+	 */
+	public RobustBaseline findBaseline(String symbol, Series series) {
+		var bySeries = baselines.get(symbol);
+		return bySeries == null ? null : bySeries.get(series);
+	}
+
+	/**
+	 * Rebuild the sketch from the window's days, oldest first
+	 */
+	private void rebuild(RobustMetrics metrics, List<StockHistory> window) {
+		var digest = new MergingDigest(properties.getTrading().getRobust().getCompression());
+		for (var day : window) {
+			digest.add(value(metrics.getSeries(), day));
+		}
+
+		digest.compress();
+		var buffer = ByteBuffer.allocate(digest.smallByteSize());
+		digest.asSmallBytes(buffer);
+
+		var median = digest.quantile(0.5);
+		metrics.setDigest(buffer.array());
+		metrics.setSampleCount((long) window.size());
+		metrics.setMedian(median);
+		metrics.setMad(medianAbsoluteDeviation(digest, median) * MAD_TO_SIGMA);
+		metrics.setLastTradeDate(window.getLast().getTradeDate());
+	}
+
+	/**
+	 * MAD from the sketch: the smallest m with P(|X - median| <= m) >= 0.5, by bisection on the CDF
+	 */
+	private double medianAbsoluteDeviation(MergingDigest digest, double median) {
+		var low = 0.0;
+		var high = Math.max(digest.getMax() - median, median - digest.getMin());
+
+		for (int i = 0; i < 50 && high - low > 1e-9; i++) {
+			var mid = (low + high) / 2;
+			if (digest.cdf(median + mid) - digest.cdf(median - mid) >= 0.5) {
+				high = mid;
+			} else {
+				low = mid;
+			}
+		}
+		return high;
+	}
+
+	private void publish(List<RobustMetrics> metrics) {
+		var loaded = new HashMap<String, Map<Series, RobustBaseline>>();
+		for (var m : metrics) {
+			var digest = MergingDigest.fromBytes(ByteBuffer.wrap(m.getDigest()));
+			var baseline = new RobustBaseline(
+					m.getMedian(),
+					m.getMad(),
+					m.getSampleCount(),
+					digest);
+			loaded.computeIfAbsent(m.getSymbol(), s -> new EnumMap<>(Series.class)).put(m.getSeries(), baseline);
+		}
+
+		baselines.putAll(loaded);
+	}
+
+	private static double value(Series series, StockHistory day) {
+		return switch (series) {
+			case MAX_DROP -> day.getMaxDropPercent();
+		};
+	}
+}
\ No newline at end of file
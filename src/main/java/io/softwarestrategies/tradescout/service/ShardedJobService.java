@@ -0,0 +1,298 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint;
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.JobType;
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.Stage;
+import io.softwarestrategies.tradescout.domain.ShardCheckpoint.Status;
+import io.softwarestrategies.tradescout.repository.ShardCheckpointRepository;
+import io.softwarestrategies.tradescout.scheduler.ShardJob;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Staged, sharded batch jobs (daily maintenance, backfills, scans).
+ *
+ * The watchlist is split into symbol shards. Each shard runs the per-symbol stages
+ * of its job independently and is fired as its own Quartz trigger, so in a clustered
+ * scheduler shards are picked up by whichever node is free. Once every shard has
+ * finished, the whole-run stages run exactly once. Every stage of every shard is
+ * checkpointed in shard_checkpoints and claimed atomically, so no symbol is processed
+ * twice and a rerun of the same run key only executes what has not completed yet.
+ */
+@Service
+public class ShardedJobService {
+
+	private static final Logger log = LoggerFactory.getLogger(ShardedJobService.class);
+
+	private final ShardCheckpointRepository checkpointRepository;
+	private final Scheduler scheduler;
+	private final TradeScoutProperties properties;
+
+	private final Map<JobType, Pipeline> pipelines = new EnumMap<>(JobType.class);
+
+	public ShardedJobService(
+			ShardCheckpointRepository checkpointRepository,
+			Scheduler scheduler,
+			MarketDataService marketDataService,
+			OpportunityService opportunityService,
+			RetentionService retentionService,
+			RobustStatisticsService robustStatisticsService,
+			IntradayDataService intradayDataService,
+			PerformanceRollupService performanceRollupService,
+			CorrelationService correlationService,
+			MarketFactorService marketFactorService,
+			TradeScoutProperties properties) {
+		this.checkpointRepository = checkpointRepository;
+		this.scheduler = scheduler;
+		this.properties = properties;
+
+		var maintenance = new Pipeline();
+		maintenance.shardStages.put(Stage.UPDATE_QUOTES, marketDataService::updateTodaysData);
+		maintenance.shardStages.put(Stage.CALCULATE_METRICS, marketDataService::calculateMetricsForSymbols);
+		maintenance.shardStages.put(Stage.UPDATE_ROBUST_METRICS, robustStatisticsService::updateForSymbols);
+		maintenance.globalStages.put(Stage.RETENTION, retentionService::runRetention);
+		maintenance.globalStages.put(Stage.INTRADAY_BASELINES, () -> {
+			if (properties.getTrading().getIntraday().getEnabled()) {
+				intradayDataService.calculateBaselines();
+			}
+		});
+		maintenance.globalStages.put(Stage.PERFORMANCE_ROLLUPS, performanceRollupService::refreshAll);
+		maintenance.globalStages.put(Stage.CORRELATION_MATRIX, correlationService::recalculate);
+		maintenance.globalStages.put(Stage.MARKET_FACTORS, marketFactorService::recalculate);
+		pipelines.put(JobType.DAILY_MAINTENANCE, maintenance);
+
+		var backfill = new Pipeline();
+		backfill.shardStages.put(Stage.LOAD_HISTORY, symbols -> marketDataService.loadHistoryForSymbols(
+				symbols, marketDataService.historyDays()));
+		backfill.shardStages.put(Stage.CALCULATE_METRICS, marketDataService::calculateMetricsForSymbols);
+		backfill.shardStages.put(Stage.UPDATE_ROBUST_METRICS, robustStatisticsService::updateForSymbols);
+		pipelines.put(JobType.BACKFILL, backfill);
+
+		var scan = new Pipeline();
+		scan.shardStages.put(Stage.SCAN_SYMBOLS, opportunityService::scanAndAlert);
+		pipelines.put(JobType.SCAN, scan);
+	}
+
+	/**
+	 * Create (or resume) a run and fire one shard job per unfinished shard.
+	 * If every shard is already complete, the whole-run stages are run directly.
+	 *
+	 * @return number of shards dispatched
+	 */
+	public int dispatch(JobType jobType, String runKey) throws SchedulerException {
+		var unfinishedShards = startRun(jobType, runKey);
+
+		if (unfinishedShards.isEmpty()) {
+			finalizeRun(jobType, runKey, scheduler.getSchedulerInstanceId());
+			return 0;
+		}
+
+		for (var shard : unfinishedShards) {
+			scheduleShard(jobType, runKey, shard);
+		}
+		log.info("Dispatched {} {} shards for run {}", unfinishedShards.size(), jobType, runKey);
+		return unfinishedShards.size();
+	}
+
+	/**
+	 * Create the checkpoints for a run if needed
+	 *
+	 * @return shard indexes that still have unfinished stages
+	 */
+	public List<Integer> startRun(JobType jobType, String runKey) {
+		var pipeline = pipelines.get(jobType);
+		var existing = checkpointRepository.findByJobTypeAndRunKeyOrderByShardIndexAscStageAsc(jobType, runKey);
+
+		// A rerun keeps the shard layout of the original run so checkpoints stay valid
+		var shardCount = existing.stream()
+				.map(ShardCheckpoint::getShardCount)
+				.findFirst()
+				.orElse(properties.getTrading().getMaintenance().getShardCount());
+
+		var missing = new ArrayList<ShardCheckpoint>();
+		for (int shard = 0; shard < shardCount; shard++) {
+			for (var stage : pipeline.shardStages.keySet()) {
+				addIfMissing(existing, missing, jobType, runKey, shard, shardCount, stage);
+			}
+		}
+		for (var stage : pipeline.globalStages.keySet()) {
+			addIfMissing(existing, missing, jobType, runKey, ShardCheckpoint.GLOBAL_SHARD, shardCount, stage);
+		}
+		checkpointRepository.saveAll(missing);
+
+		var unfinished = new TreeSet<Integer>();
+		for (var checkpoint : checkpointRepository.findByJobTypeAndRunKeyOrderByShardIndexAscStageAsc(jobType, runKey)) {
+			if (!checkpoint.isGlobal() && checkpoint.getStatus() != Status.COMPLETED) {
+				unfinished.add(checkpoint.getShardIndex());
+			}
+		}
+
+		log.info("{} run {}: {} shards, {} with unfinished stages",
+				jobType, runKey, shardCount, unfinished.size());
+		return List.copyOf(unfinished);
+	}
+
+	/**
+	 * Run the unfinished stages of one shard
+	 *
+	 * @param recovering true when Quartz re-fires the shard of a node that died, whose
+	 *                   RUNNING claims are taken over instead of waiting for them to go stale
+	 * @return true if every stage of the shard is complete
+	 */
+	public boolean runShard(JobType jobType, String runKey, int shardIndex, String owner, boolean recovering) {
+		for (var entry : pipelines.get(jobType).shardStages.entrySet()) {
+			var checkpoint = findCheckpoint(jobType, runKey, shardIndex, entry.getKey());
+			var symbols = symbolsForShard(shardIndex, checkpoint.getShardCount());
+
+			var completed = runStage(checkpoint, owner, recovering, () -> entry.getValue().accept(symbols));
+			if (!completed) {
+				// Later stages depend on earlier ones for the same shard
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Run the whole-run stages once all shards are complete. Safe to call from every shard;
+	 * checkpoint claims guarantee each stage executes only once.
+	 */
+	public void finalizeRun(JobType jobType, String runKey, String owner) {
+		var remaining = checkpointRepository.countUnfinishedShardStages(jobType, runKey);
+		if (remaining > 0) {
+			log.debug("{} run {}: {} shard stages still pending", jobType, runKey, remaining);
+			return;
+		}
+
+		for (var entry : pipelines.get(jobType).globalStages.entrySet()) {
+			var checkpoint = findCheckpoint(jobType, runKey, ShardCheckpoint.GLOBAL_SHARD, entry.getKey());
+			// Global stages may be held by any live node, so only stale claims are taken over
+			if (!runStage(checkpoint, owner, false, entry.getValue())) {
+				// Failed, or still running on another worker that will carry on from it
+				log.info("{} run {} stopped before {}", jobType, runKey, entry.getKey());
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Get all checkpoints of a run
+	 */
+	public List<ShardCheckpoint> getRun(JobType jobType, String runKey) {
+		return checkpointRepository.findByJobTypeAndRunKeyOrderByShardIndexAscStageAsc(jobType, runKey);
+	}
+
+	/**
+	 * Symbols belonging to a shard. Assignment is a stable hash so every node agrees on it.
+	 */
+	public List<String> symbolsForShard(int shardIndex, int shardCount) {
+		return properties.getTrading().getWatchlist().stream()
+				.filter(symbol -> Math.floorMod(symbol.hashCode(), shardCount) == shardIndex)
+				.toList();
+	}
+
+	/**
+	 * Fire a one-off shard execution now, replacing a leftover trigger from an earlier attempt
+	 */
+	private void scheduleShard(JobType jobType, String runKey, int shard) throws SchedulerException {
+		var triggerKey = TriggerKey.triggerKey("%s-%s-%d".formatted(jobType, runKey, shard), "shards");
+
+		var trigger = TriggerBuilder.newTrigger()
+				.forJob(JobKey.jobKey(ShardJob.JOB_NAME))
+				.withIdentity(triggerKey)
+				.withDescription("%s shard %d for %s".formatted(jobType, shard, runKey))
+				.usingJobData(ShardJob.JOB_TYPE, jobType.name())
+				.usingJobData(ShardJob.RUN_KEY, runKey)
+				.usingJobData(ShardJob.SHARD_INDEX, shard)
+				.startNow()
+				.build();
+
+		if (scheduler.checkExists(triggerKey)) {
+			scheduler.rescheduleJob(triggerKey, trigger);
+		} else {
+			scheduler.scheduleJob(trigger);
+		}
+	}
+
+	/**
+	 * Claim, execute and checkpoint a single stage
+	 *
+	 * @return true if the stage is complete (now or previously)
+	 */
+	private boolean runStage(ShardCheckpoint checkpoint, String owner, boolean recovering, Runnable work) {
+		if (checkpoint.getStatus() == Status.COMPLETED) {
+			log.debug("Skipping completed {}", checkpoint);
+			return true;
+		}
+
+		var now = Instant.now();
+		var staleBefore = recovering ? now : now.minus(Duration.ofMinutes(
+				properties.getTrading().getMaintenance().getStaleClaimMinutes()));
+
+		if (checkpointRepository.claim(checkpoint.getId(), owner, now, staleBefore) == 0) {
+			log.info("Skipping {} - claimed by another worker", checkpoint);
+			return false;
+		}
+
+		var startTime = System.currentTimeMillis();
+		try {
+			work.run();
+			checkpointRepository.markCompleted(checkpoint.getId(), Instant.now());
+			log.info("Completed {} {} {} shard {} in {}ms",
+					checkpoint.getJobType(), checkpoint.getRunKey(), checkpoint.getStage(),
+					checkpoint.getShardIndex(), System.currentTimeMillis() - startTime);
+			return true;
+		} catch (Exception e) {
+			log.error("Failed {}: {}", checkpoint, e.getMessage());
+			checkpointRepository.markFailed(checkpoint.getId(), truncate(e.getMessage()));
+			return false;
+		}
+	}
+
+	private ShardCheckpoint findCheckpoint(JobType jobType, String runKey, int shardIndex, Stage stage) {
+		return checkpointRepository
+				.findByJobTypeAndRunKeyAndShardIndexAndStage(jobType, runKey, shardIndex, stage)
+				.orElseThrow(() -> new IllegalStateException(
+						"No checkpoint for %s %s shard %d stage %s".formatted(jobType, runKey, shardIndex, stage)));
+	}
+
+	private void addIfMissing(List<ShardCheckpoint> existing, List<ShardCheckpoint> missing,
+							  JobType jobType, String runKey, int shardIndex, int shardCount, Stage stage) {
+		var present = existing.stream()
+				.anyMatch(c -> c.getShardIndex() == shardIndex && c.getStage() == stage);
+		if (!present) {
+			missing.add(new ShardCheckpoint(jobType, runKey, shardIndex, shardCount, stage));
+		}
+	}
+
+	private String truncate(String message) {
+		if (message == null) {
+			return null;
+		}
+		return message.length() > 1000 ? message.substring(0, 1000) : message;
+	}
+
+	/**
+	 * Stages of one job type, each map iterating in execution order
+	 */
+	private static final class Pipeline {
+		private final Map<Stage, Consumer<List<String>>> shardStages = new EnumMap<>(Stage.class);
+		private final Map<Stage, Runnable> globalStages = new EnumMap<>(Stage.class);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.SignalRecord;
+import io.softwarestrategies.tradescout.repository.SignalHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends scan history to the signals table off the scan thread.
+ *
+ * Scans hand records to a bounded queue without blocking; a scheduled flush drains it
+ * in JDBC batches. History is best-effort: records that do not fit the queue, or whose
+ * batch fails, are dropped and counted rather than slowing or failing a scan.
+ */
+@Component
+public class SignalHistoryWriter {
+
+	private static final Logger log = LoggerFactory.getLogger(SignalHistoryWriter.class);
+
+	private final SignalHistoryRepository signalHistoryRepository;
+	private final TradeScoutProperties properties;
+	private final BlockingQueue<SignalRecord> queue;
+
+	private final AtomicLong dropped = new AtomicLong();
+
+	public SignalHistoryWriter(SignalHistoryRepository signalHistoryRepository, TradeScoutProperties properties) {
+		this.signalHistoryRepository = signalHistoryRepository;
+		this.properties = properties;
+		this.queue = new ArrayBlockingQueue<>(properties.getTrading().getSignalHistory().getQueueCapacity());
+	}
+
+	/**
+	 * Queue records for the next flush; never blocks
+	 */
+	public void submit(List<SignalRecord> records) {
+		if (!properties.getTrading().getSignalHistory().getEnabled()) {
+			return;
+		}
+		for (var record : records) {
+			if (!queue.offer(record)) {
+				dropped.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Write everything queued so far in batches
+	 */
+	@Scheduled(fixedDelayString = "${tradescout.trading.signal-history.flush-millis:2000}",
+			initialDelayString = "${tradescout.trading.signal-history.flush-millis:2000}")
+	public synchronized void flush() {
+		var batchSize = properties.getTrading().getSignalHistory().getBatchSize();
+		var batch = new ArrayList<SignalRecord>(Math.min(batchSize, queue.size()));
+		var written = 0;
+
+		while (queue.drainTo(batch, batchSize) > 0) {
+			try {
+				signalHistoryRepository.appendSignals(batch);
+				written += batch.size();
+			} catch (DataAccessException e) {
+				log.error("Signal history batch of {} failed: {}", batch.size(), e.getMessage());
+				dropped.addAndGet(batch.size());
+			}
+			batch.clear();
+		}
+
+		var lost = dropped.getAndSet(0);
+		if (lost > 0) {
+			log.warn("Signal history dropped {} records", lost);
+		}
+		if (written > 0) {
+			log.debug("Appended {} signal history records", written);
+		}
+	}
+
+	/**
+	 * Write what is still queued before the data source shuts down
+	 */
+	@EventListener(ContextClosedEvent.class)
+	public void onShutdown() {
+		flush();
+	}
+}
\ No newline at end of file
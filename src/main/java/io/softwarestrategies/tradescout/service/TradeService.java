@@ -0,0 +1,193 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.domain.Trade;
+import io.softwarestrategies.tradescout.dto.OpenTradeRequest;
+import io.softwarestrategies.tradescout.dto.TradeUpdateRequest;
+import io.softwarestrategies.tradescout.event.TradeEvent;
+import io.softwarestrategies.tradescout.repository.TradeRepository;
+import io.softwarestrategies.tradescout.util.MarketHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Service for the trade lifecycle: open, update, close and cancel.
+ *
+ * Every write publishes a TradeEvent; listeners (open position book, equity curve,
+ * rollups, report cache) apply it once the transaction has committed.
+ */
+@Service
+public class TradeService {
+
+	private static final Logger log = LoggerFactory.getLogger(TradeService.class);
+
+	// pg_advisory_xact_lock key serializing trade openings across nodes
+	private static final long TRADE_OPENING_LOCK = 0x7472616465L;
+
+	private final TradeRepository tradeRepository;
+	private final OpenPositionBook openPositionBook;
+	private final RiskManagementService riskManagementService;
+	private final MarketHours marketHours;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public TradeService(
+			TradeRepository tradeRepository,
+			OpenPositionBook openPositionBook,
+			RiskManagementService riskManagementService,
+			MarketHours marketHours,
+			ApplicationEventPublisher eventPublisher) {
+		this.tradeRepository = tradeRepository;
+		this.openPositionBook = openPositionBook;
+		this.riskManagementService = riskManagementService;
+		this.marketHours = marketHours;
+		this.eventPublisher = eventPublisher;
+	}
+
+	/**
+	 * Open a trade at today's date if risk limits allow it
+	 */
+	@Transactional
+	public Trade openTrade(OpenTradeRequest request) {
+		if (request.symbol() == null || request.symbol().isBlank()) {
+			throw new IllegalArgumentException("symbol is required");
+		}
+		if (request.positionSize() == null || request.positionSize() <= 0) {
+			throw new IllegalArgumentException("positionSize must be positive");
+		}
+		validateLevels(request.entryPrice(), request.targetPrice(), request.stopPrice());
+
+		// Hold the opening lock until commit, so no other node can pass the same risk checks
+		// before this trade is visible
+		tradeRepository.lockTradeOpening(TRADE_OPENING_LOCK);
+
+		if (!riskManagementService.canTakeNewTrade()) {
+			throw new IllegalStateException("Risk limits do not allow a new trade");
+		}
+
+		var symbol = request.symbol().trim().toUpperCase();
+		if (!riskManagementService.checkCorrelatedExposure(symbol)) {
+			throw new IllegalStateException("Correlated with open positions: "
+					+ String.join(", ", riskManagementService.findCorrelatedPositions(symbol)));
+		}
+
+		var trade = new Trade(symbol, marketHours.today(),
+				request.entryPrice(), request.targetPrice(), request.stopPrice(), request.positionSize());
+		trade.setEntryReasoning(request.entryReasoning());
+		trade.setConfidenceScore(request.confidenceScore());
+
+		var saved = tradeRepository.save(trade);
+		eventPublisher.publishEvent(new TradeEvent(TradeEvent.Type.OPENED, saved));
+
+		log.info("Opened trade {}: {} x{} @ ${} (target ${}, stop ${})", saved.getId(), saved.getSymbol(),
+				saved.getPositionSize(), saved.getEntryPrice(), saved.getTargetPrice(), saved.getStopPrice());
+		return saved;
+	}
+
+	/**
+	 * Close an open trade at an exit price
+	 */
+	@Transactional
+	public Trade closeTrade(Long tradeId, BigDecimal exitPrice, Trade.ExitReason exitReason) {
+		if (exitPrice == null || exitPrice.signum() <= 0) {
+			throw new IllegalArgumentException("exitPrice must be positive");
+		}
+
+		var trade = findOpenTrade(tradeId);
+		trade.close(exitPrice, exitReason != null ? exitReason : Trade.ExitReason.MANUAL_EXIT);
+
+		var saved = tradeRepository.save(trade);
+		eventPublisher.publishEvent(new TradeEvent(TradeEvent.Type.CLOSED, saved));
+
+		log.info("Closed trade {}: {} @ ${} ({}), P&L ${}", saved.getId(), saved.getSymbol(),
+				saved.getExitPrice(), saved.getExitReason(), saved.getPnl());
+		return saved;
+	}
+
+	/**
+	 * Cancel an open trade that was never filled
+	 */
+	@Transactional
+	public Trade cancelTrade(Long tradeId) {
+		var trade = findOpenTrade(tradeId);
+		trade.cancel();
+
+		var saved = tradeRepository.save(trade);
+		eventPublisher.publishEvent(new TradeEvent(TradeEvent.Type.CANCELLED, saved));
+
+		log.info("Cancelled trade {}: {}", saved.getId(), saved.getSymbol());
+		return saved;
+	}
+
+	/**
+	 * Move the stop/target of an open trade or record lessons learned on any trade
+	 */
+	@Transactional
+	public Trade updateTrade(Long tradeId, TradeUpdateRequest request) {
+		var trade = tradeRepository.findById(tradeId)
+				.orElseThrow(() -> new NoSuchElementException("No trade " + tradeId));
+
+		if (request.targetPrice() != null || request.stopPrice() != null) {
+			if (trade.getStatus() != Trade.TradeStatus.OPEN) {
+				throw new IllegalStateException("Trade " + tradeId + " is " + trade.getStatus());
+			}
+			var target = request.targetPrice() != null ? request.targetPrice() : trade.getTargetPrice();
+			var stop = request.stopPrice() != null ? request.stopPrice() : trade.getStopPrice();
+			validateLevels(trade.getEntryPrice(), target, stop);
+			trade.setTargetPrice(target);
+			trade.setStopPrice(stop);
+		}
+		if (request.lessonsLearned() != null) {
+			trade.setLessonsLearned(request.lessonsLearned());
+		}
+
+		var saved = tradeRepository.save(trade);
+		eventPublisher.publishEvent(new TradeEvent(TradeEvent.Type.UPDATED, saved));
+		return saved;
+	}
+
+	/**
+	 * Open positions from the in-memory book
+	 */
+	public List<Trade> getOpenTrades() {
+		return openPositionBook.getPositions();
+	}
+
+	/**
+	 * Trades with a status, newest first
+	 */
+	public List<Trade> getTrades(Trade.TradeStatus status) {
+		return tradeRepository.findByStatus(status).stream()
+				.sorted((a, b) -> b.getEntryDate().compareTo(a.getEntryDate()))
+				.toList();
+	}
+
+	public Trade getTrade(Long tradeId) {
+		return openPositionBook.getPosition(tradeId)
+				.or(() -> tradeRepository.findById(tradeId))
+				.orElseThrow(() -> new NoSuchElementException("No trade " + tradeId));
+	}
+
+	private Trade findOpenTrade(Long tradeId) {
+		var trade = tradeRepository.findById(tradeId)
+				.orElseThrow(() -> new NoSuchElementException("No trade " + tradeId));
+		if (trade.getStatus() != Trade.TradeStatus.OPEN) {
+			throw new IllegalStateException("Trade " + tradeId + " is " + trade.getStatus());
+		}
+		return trade;
+	}
+
+	private void validateLevels(BigDecimal entry, BigDecimal target, BigDecimal stop) {
+		if (entry == null || target == null || stop == null) {
+			throw new IllegalArgumentException("entryPrice, targetPrice and stopPrice are required");
+		}
+		if (stop.signum() <= 0 || stop.compareTo(entry) >= 0 || target.compareTo(entry) <= 0) {
+			throw new IllegalArgumentException("Levels must satisfy 0 < stop < entry < target");
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package io.softwarestrategies.tradescout.strategy;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.util.StatisticsUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Unusually large opening gap down that is already being bought back:
+ * the price trades above the open and has recovered part of the gap.
+ * The gap is scored against the symbol's distribution of overnight gaps.
+ */
+@Component
+public class GapDownReversalStrategy implements SignalStrategy {
+
+	public static final String NAME = "gap-down-reversal";
+
+	private static final String GAP_PCT = "gapPct";
+	private static final String PREVIOUS_CLOSE = "previousClose";
+	private static final String RECOVERED_PCT = "gapRecoveredPct";
+	private static final String AVG_GAP_PCT = "avgGapPct";
+	private static final String STDDEV_GAP_PCT = "stddevGapPct";
+
+	private final StatisticsUtil statisticsUtil;
+	private final TradeScoutProperties properties;
+
+	public GapDownReversalStrategy(StatisticsUtil statisticsUtil, TradeScoutProperties properties) {
+		this.statisticsUtil = statisticsUtil;
+		this.properties = properties;
+	}
+
+	@Override
+	public String name() { return NAME; }
+
+	@Override
+	public double score(MarketSnapshot snapshot) {
+		var metrics = snapshot.metrics();
+		var gapPct = snapshot.gapPct();
+
+		if (Double.isNaN(gapPct) || gapPct >= 0
+				|| metrics.getAvgGapPct() == null || metrics.getStddevGapPct() == null) {
+			return Double.NaN;
+		}
+
+		var detection = properties.getTrading().getDetection();
+		var gapZScore = gapZScore(snapshot);
+
+		if (gapZScore >= detection.getMinPriceZscore() || snapshot.price() <= snapshot.open()) {
+			return Double.NaN;
+		}
+
+		// Gap size (0-60 points) and recovery so far (0-40 points)
+		var confidence = Math.max(0, Math.min(60, (Math.abs(gapZScore) - 2.0) * 30.0))
+				+ Math.max(0, Math.min(40, recovered(snapshot) * 80.0));
+		confidence = Math.min(100, confidence);
+
+		return confidence >= detection.getMinConfidence() ? confidence : Double.NaN;
+	}
+
+	@Override
+	public OpportunitySignal materialize(MarketSnapshot snapshot, double confidence) {
+		var measures = Map.of(
+				GAP_PCT, snapshot.gapPct(),
+				PREVIOUS_CLOSE, snapshot.previousClose(),
+				RECOVERED_PCT, recovered(snapshot) * 100,
+				AVG_GAP_PCT, snapshot.metrics().getAvgGapPct(),
+				STDDEV_GAP_PCT, snapshot.metrics().getStddevGapPct());
+
+		return snapshot.toSignal(NAME, gapZScore(snapshot), confidence, measures);
+	}
+
+	@Override
+	public String renderReason(OpportunitySignal signal) {
+		var measures = signal.measures();
+
+		return String.format("""
+				Gap: %.2f%% below previous close ($%.2f)
+				Gap Z-Score: %.2fσ vs typical gap %.2f%% ± %.2f%%
+				Reversal: trading %.2f%% above the open, %.0f%% of the gap recovered
+				""",
+				measures.get(GAP_PCT), measures.get(PREVIOUS_CLOSE),
+				signal.priceZScore(), measures.get(AVG_GAP_PCT), measures.get(STDDEV_GAP_PCT),
+				signal.currentDropPct(), measures.get(RECOVERED_PCT));
+	}
+
+	private double gapZScore(MarketSnapshot snapshot) {
+		var metrics = snapshot.metrics();
+		return statisticsUtil.calculateZScore(
+				snapshot.gapPct(), metrics.getAvgGapPct(), metrics.getStddevGapPct());
+	}
+
+	/**
+	 * Share of the gap already recovered (0 = still at the open, 1 = gap filled)
+	 */
+	private double recovered(MarketSnapshot snapshot) {
+		return (snapshot.price() - snapshot.open()) / (snapshot.previousClose() - snapshot.open());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package io.softwarestrategies.tradescout.strategy;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.VolatilityMetrics;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.util.StatisticsUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Unusually large drop from the open on unusually low volume - an overreaction
+ * on thin trading rather than a fundamental move.
+ * The drop is measured against the time-of-day baseline when one exists,
+ * otherwise against the median/MAD of daily drops once enough days are observed.
+ */
+@Component
+public class LowVolumeDropStrategy implements SignalStrategy {
+
+	public static final String NAME = "low-volume-drop";
+
+	private static final String BASELINE_MEAN = "baselineDropPct";
+	private static final String BASELINE_SPREAD = "baselineDropSpreadPct";
+	private static final String ROBUST_PERCENTILE = "robustPercentile";
+	private static final String TIME_OF_DAY = "timeOfDayBaseline";
+
+	private final StatisticsUtil statisticsUtil;
+	private final TradeScoutProperties properties;
+
+	public LowVolumeDropStrategy(StatisticsUtil statisticsUtil, TradeScoutProperties properties) {
+		this.statisticsUtil = statisticsUtil;
+		this.properties = properties;
+	}
+
+	@Override
+	public String name() { return NAME; }
+
+	@Override
+	public boolean marketRelative() { return true; }
+
+	@Override
+	public double score(MarketSnapshot snapshot) {
+		var detection = properties.getTrading().getDetection();
+
+		var priceZScore = priceZScore(snapshot);
+		var volumeZScore = snapshot.volumeZScore();
+
+		if (priceZScore >= detection.getMinPriceZscore() || volumeZScore >= detection.getMinVolumeZscore()) {
+			return Double.NaN;
+		}
+
+		var confidence = calculateConfidence(priceZScore, volumeZScore, snapshot.metrics());
+		return confidence >= detection.getMinConfidence() ? confidence : Double.NaN;
+	}
+
+	@Override
+	public OpportunitySignal materialize(MarketSnapshot snapshot, double confidence) {
+		Map<String, Double> measures;
+		if (usesRobustBaseline(snapshot)) {
+			var robustDrop = snapshot.robustDrop();
+			measures = Map.of(
+					BASELINE_MEAN, robustDrop.median(),
+					BASELINE_SPREAD, robustDrop.mad(),
+					ROBUST_PERCENTILE, robustDrop.percentileRank(snapshot.dropFromOpenPct()));
+		} else {
+			measures = Map.of(
+					BASELINE_MEAN, snapshot.dropMean(),
+					BASELINE_SPREAD, snapshot.dropStdDev(),
+					TIME_OF_DAY, snapshot.hasTimeOfDayBaseline() ? 1.0 : 0.0);
+		}
+
+		return snapshot.toSignal(NAME, priceZScore(snapshot), confidence, measures);
+	}
+
+	@Override
+	public String renderReason(OpportunitySignal signal) {
+		var measures = signal.measures();
+
+		String baseline;
+		if (measures.containsKey(ROBUST_PERCENTILE)) {
+			baseline = String.format("Historical median: %.2f%% ± %.2f%% (MAD), %.1f%% of days dropped further",
+					measures.get(BASELINE_MEAN), measures.get(BASELINE_SPREAD), measures.get(ROBUST_PERCENTILE));
+		} else {
+			baseline = String.format("Historical avg%s: %.2f%% ± %.2f%%",
+					measures.getOrDefault(TIME_OF_DAY, 0.0) > 0 ? " at this time of day" : "",
+					measures.get(BASELINE_MEAN), measures.get(BASELINE_SPREAD));
+		}
+
+		return buildReason(signal.currentDropPct(), signal.priceZScore(), signal.volumeZScore(), baseline);
+	}
+
+	/**
+	 * Time-of-day baseline first; otherwise median/MAD, which fat-tailed drops distort less than mean/stddev
+	 */
+	private boolean usesRobustBaseline(MarketSnapshot snapshot) {
+		return !snapshot.hasTimeOfDayBaseline() && snapshot.hasRobustDropBaseline();
+	}
+
+	private double priceZScore(MarketSnapshot snapshot) {
+		var currentDropPct = snapshot.dropFromOpenPct();
+		return usesRobustBaseline(snapshot)
+				? snapshot.robustDrop().robustZScore(currentDropPct)
+				: statisticsUtil.calculateZScore(currentDropPct, snapshot.dropMean(), snapshot.dropStdDev());
+	}
+
+	/**
+	 * Calculate confidence score for the signal
+	 */
+	private double calculateConfidence(double priceZScore, double volumeZScore,
+									   VolatilityMetrics metrics) {
+		var confidence = 0.0;
+
+		// Base confidence on how unusual the price drop is (0-50 points)
+		// -2σ = 0 points, -3σ = 25 points, -4σ = 50 points
+		var priceConfidence = (Math.abs(priceZScore) - 2.0) * 25.0;
+		confidence += Math.max(0, Math.min(50, priceConfidence));
+
+		// Add confidence if volume is low (0-30 points)
+		// -1σ = 10 points, -2σ = 20 points, -3σ = 30 points
+		if (volumeZScore < 0) {
+			var volumeConfidence = Math.abs(volumeZScore) * 10.0;
+			confidence += Math.max(0, Math.min(30, volumeConfidence));
+		}
+
+		// Bonus: Recent trend was positive (0-20 points)
+		if (metrics.getAvgDailyChangePct() != null && metrics.getAvgDailyChangePct() > 0) {
+			var trendBonus = Math.min(20, metrics.getAvgDailyChangePct() * 2);
+			confidence += trendBonus;
+		}
+
+		return Math.max(0, Math.min(100, confidence));
+	}
+
+	/**
+	 * Build human-readable reasoning for the signal
+	 */
+	private String buildReason(double currentDrop, double priceZScore,
+							   double volumeZScore, String baseline) {
+		return String.format("""
+				Drop: %.2f%% from open
+				%s
+				Price Z-Score: %.2fσ below normal
+				Volume Z-Score: %.2fσ %s average
+				%s
+				""",
+				currentDrop,
+				baseline,
+				priceZScore,
+				volumeZScore,
+				volumeZScore < 0 ? "below" : "above",
+				volumeZScore < 0 ? "Low volume suggests overreaction, not fundamental issue" : ""
+		);
+	}
+}
\ No newline at end of file
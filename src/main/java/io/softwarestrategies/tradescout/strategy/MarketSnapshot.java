@@ -0,0 +1,248 @@
+package io.softwarestrategies.tradescout.strategy;
+
+import io.softwarestrategies.tradescout.domain.IntradayBaseline;
+import io.softwarestrategies.tradescout.domain.SignalRecord;
+import io.softwarestrategies.tradescout.domain.VolatilityMetrics;
+import io.softwarestrategies.tradescout.dto.FactorLoading;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.dto.RobustBaseline;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Quote, metrics and baselines for one symbol at scan time, shared by every strategy
+ * so strategies add CPU, not I/O.
+ *
+ * Prices are held as primitives for scoring; the quote's BigDecimals are only kept by
+ * reference for materializing signals. One instance is reloaded for each symbol of a
+ * scan, so strategies must not retain it beyond a call.
+ */
+public final class MarketSnapshot {
+
+	private String symbol;
+	private BigDecimal quotePrice;
+	private BigDecimal quoteOpen;
+	private BigDecimal quoteHigh;
+	private BigDecimal quoteLow;
+
+	private double price;
+	private double open;
+	private double high;
+	private double low;
+	private double previousClose;
+	private long volume;
+
+	private VolatilityMetrics metrics;
+	private IntradayBaseline baseline;
+	private RobustBaseline robustDrop;
+	private double volumeZScore;
+	private Instant timestamp;
+
+	private FactorLoading factorLoading;
+	private double expectedLogReturn;
+
+	/**
+	 * Point the snapshot at the next symbol. High, low and previous close may be null.
+	 */
+	public MarketSnapshot load(String symbol, BigDecimal price, BigDecimal open, BigDecimal high,
+							   BigDecimal low, BigDecimal previousClose, long volume,
+							   VolatilityMetrics metrics, IntradayBaseline baseline,
+							   RobustBaseline robustDrop, double volumeZScore, Instant timestamp) {
+		this.symbol = symbol;
+		this.quotePrice = price;
+		this.quoteOpen = open;
+		this.quoteHigh = high;
+		this.quoteLow = low;
+		this.price = price.doubleValue();
+		this.open = open.doubleValue();
+		this.high = high == null ? Double.NaN : high.doubleValue();
+		this.low = low == null ? Double.NaN : low.doubleValue();
+		this.previousClose = previousClose == null ? Double.NaN : previousClose.doubleValue();
+		this.volume = volume;
+		this.metrics = metrics;
+		this.baseline = baseline;
+		this.robustDrop = robustDrop;
+		this.volumeZScore = volumeZScore;
+		this.timestamp = timestamp;
+		this.factorLoading = null;
+		this.expectedLogReturn = Double.NaN;
+		return this;
+	}
+
+	/**
+	 * Attach the symbol's factor loading and the log return its factors explain today.
+	 * Must follow {@link #load}; a null loading leaves the snapshot without a market factor.
+	 */
+	public MarketSnapshot withMarketFactor(FactorLoading loading, double expectedLogReturn) {
+		this.factorLoading = loading;
+		this.expectedLogReturn = expectedLogReturn;
+		return this;
+	}
+
+	public String symbol() { return symbol; }
+	public double price() { return price; }
+	public double open() { return open; }
+	public double high() { return high; }
+	public double low() { return low; }
+	public double previousClose() { return previousClose; }
+	public long volume() { return volume; }
+	public VolatilityMetrics metrics() { return metrics; }
+	public IntradayBaseline baseline() { return baseline; }
+	public RobustBaseline robustDrop() { return robustDrop; }
+	public double volumeZScore() { return volumeZScore; }
+
+	/**
+	 * Current price change from today's open, in percent
+	 */
+	public double dropFromOpenPct() {
+		return (price - open) / open * 100;
+	}
+
+	/**
+	 * Current price change from the previous close, in percent (NaN without a previous close)
+	 */
+	public double changePct() {
+		return (price - previousClose) / previousClose * 100;
+	}
+
+	/**
+	 * Opening gap from the previous close, in percent (NaN without a previous close)
+	 */
+	public double gapPct() {
+		return (open - previousClose) / previousClose * 100;
+	}
+
+	/**
+	 * Today's high-low range as a percent of the open (NaN without a high/low)
+	 */
+	public double rangePct() {
+		return (high - low) / open * 100;
+	}
+
+	/**
+	 * Where the price sits in today's range: 0 at the low, 1 at the high
+	 */
+	public double rangePosition() {
+		if (Double.isNaN(high) || Double.isNaN(low) || high == low) {
+			return 0.5;
+		}
+		return (price - low) / (high - low);
+	}
+
+	/**
+	 * Check if the drop baseline comes from time-of-day intraday history
+	 */
+	public boolean hasTimeOfDayBaseline() {
+		return baseline != null;
+	}
+
+	/**
+	 * Check if a median/MAD baseline of daily drops is available
+	 */
+	public boolean hasRobustDropBaseline() {
+		return robustDrop != null;
+	}
+
+	/**
+	 * Check if the move can be measured net of the market and sector benchmarks
+	 */
+	public boolean hasMarketFactor() {
+		return factorLoading != null && !Double.isNaN(expectedLogReturn) && !Double.isNaN(previousClose);
+	}
+
+	public FactorLoading factorLoading() { return factorLoading; }
+
+	/**
+	 * Change from the previous close the benchmarks explain, in percent
+	 */
+	public double expectedChangePct() {
+		return Math.expm1(expectedLogReturn) * 100;
+	}
+
+	/**
+	 * Log change from the previous close net of the explained move, in percent
+	 */
+	public double residualChangePct() {
+		return (Math.log(price / previousClose) - expectedLogReturn) * 100;
+	}
+
+	/**
+	 * Residual change in standard deviations of the symbol's daily residuals
+	 */
+	public double residualZScore() {
+		return (Math.log(price / previousClose) - expectedLogReturn) / factorLoading.residualStdDev();
+	}
+
+	public double dropMean() {
+		return baseline != null ? baseline.avgDropFromOpenPct() : metrics.getAvgMaxDropPct();
+	}
+
+	public double dropStdDev() {
+		return baseline != null ? baseline.stddevDropFromOpenPct() : metrics.getStddevMaxDropPct();
+	}
+
+	/**
+	 * Share of days in the metrics window whose max drop was at or below today's drop,
+	 * in percent (null without a stored table)
+	 */
+	public Double dropPercentile() {
+		var table = metrics.getMaxDropPercentiles();
+		return table == null || table.size() == 0 ? null : table.percentileRank(dropFromOpenPct());
+	}
+
+	/**
+	 * Build the scan-history record of this snapshot, for an emitted signal or (signal null) without one
+	 */
+	public SignalRecord toHistoryRecord(SignalRecord.Outcome outcome, OpportunitySignal signal) {
+		var dropStdDev = dropStdDev();
+		return new SignalRecord(
+				timestamp,
+				symbol,
+				outcome,
+				signal == null ? null : signal.strategy(),
+				signal == null ? null : signal.confidence(),
+				quotePrice,
+				changePct(),
+				dropFromOpenPct(),
+				dropStdDev > 0 ? (dropFromOpenPct() - dropMean()) / dropStdDev : Double.NaN,
+				signal == null ? null : signal.priceZScore(),
+				volumeZScore,
+				hasMarketFactor() ? residualZScore() : Double.NaN,
+				signal == null ? null : signal.measures()
+		);
+	}
+
+	/**
+	 * Build a signal tagged with the emitting strategy
+	 */
+	public OpportunitySignal toSignal(String strategy, double priceZScore, double confidence,
+									  Map<String, Double> measures) {
+		return new OpportunitySignal(
+				symbol,
+				strategy,
+				quotePrice,
+				quoteOpen,
+				quoteHigh,
+				quoteLow,
+				volume,
+				dropFromOpenPct(),
+				priceZScore,
+				dropPercentile(),
+				volumeZScore,
+				confidence,
+				true,
+				measures,
+				new OpportunitySignal.HistoricalContext(
+						metrics.getAvgMaxDropPct(),
+						metrics.getStddevMaxDropPct(),
+						metrics.getAvgVolume(),
+						metrics.getStddevVolume(),
+						metrics.getAvgDailyChangePct(),
+						metrics.getStddevDailyChangePct()
+				),
+				timestamp
+		);
+	}
+}
\ No newline at end of file
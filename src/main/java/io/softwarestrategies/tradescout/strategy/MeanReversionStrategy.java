@@ -0,0 +1,93 @@
+package io.softwarestrategies.tradescout.strategy;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.util.StatisticsUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Unusually large decline from the previous close in a stock whose
+ * recent daily changes have been positive - expected to revert toward the mean.
+ * The decline is scored against the symbol's close-to-close changes.
+ */
+@Component
+public class MeanReversionStrategy implements SignalStrategy {
+
+	public static final String NAME = "mean-reversion";
+
+	private static final String CHANGE_PCT = "changePct";
+	private static final String PREVIOUS_CLOSE = "previousClose";
+	private static final String AVG_CLOSE_CHANGE_PCT = "avgCloseChangePct";
+	private static final String STDDEV_CLOSE_CHANGE_PCT = "stddevCloseChangePct";
+
+	private final StatisticsUtil statisticsUtil;
+	private final TradeScoutProperties properties;
+
+	public MeanReversionStrategy(StatisticsUtil statisticsUtil, TradeScoutProperties properties) {
+		this.statisticsUtil = statisticsUtil;
+		this.properties = properties;
+	}
+
+	@Override
+	public String name() { return NAME; }
+
+	@Override
+	public boolean marketRelative() { return true; }
+
+	@Override
+	public double score(MarketSnapshot snapshot) {
+		var metrics = snapshot.metrics();
+
+		if (Double.isNaN(snapshot.changePct())
+				|| metrics.getAvgCloseChangePct() == null || metrics.getStddevCloseChangePct() == null) {
+			return Double.NaN;
+		}
+
+		var detection = properties.getTrading().getDetection();
+		var changeZScore = changeZScore(snapshot);
+
+		if (changeZScore >= detection.getMinPriceZscore() || metrics.getAvgCloseChangePct() <= 0) {
+			return Double.NaN;
+		}
+
+		// Size of the deviation (0-70 points) and strength of the prior trend (0-30 points)
+		var confidence = Math.max(0, Math.min(70, (Math.abs(changeZScore) - 2.0) * 35.0))
+				+ Math.min(30, metrics.getAvgCloseChangePct() * 3.0);
+		confidence = Math.min(100, confidence);
+
+		return confidence >= detection.getMinConfidence() ? confidence : Double.NaN;
+	}
+
+	@Override
+	public OpportunitySignal materialize(MarketSnapshot snapshot, double confidence) {
+		var measures = Map.of(
+				CHANGE_PCT, snapshot.changePct(),
+				PREVIOUS_CLOSE, snapshot.previousClose(),
+				AVG_CLOSE_CHANGE_PCT, snapshot.metrics().getAvgCloseChangePct(),
+				STDDEV_CLOSE_CHANGE_PCT, snapshot.metrics().getStddevCloseChangePct());
+
+		return snapshot.toSignal(NAME, changeZScore(snapshot), confidence, measures);
+	}
+
+	@Override
+	public String renderReason(OpportunitySignal signal) {
+		var measures = signal.measures();
+
+		return String.format("""
+				Change: %.2f%% from previous close ($%.2f)
+				Typical close-to-close change: %.2f%% ± %.2f%%
+				Change Z-Score: %.2fσ below normal in a positive trend
+				""",
+				measures.get(CHANGE_PCT), measures.get(PREVIOUS_CLOSE),
+				measures.get(AVG_CLOSE_CHANGE_PCT), measures.get(STDDEV_CLOSE_CHANGE_PCT),
+				signal.priceZScore());
+	}
+
+	private double changeZScore(MarketSnapshot snapshot) {
+		var metrics = snapshot.metrics();
+		return statisticsUtil.calculateZScore(
+				snapshot.changePct(), metrics.getAvgCloseChangePct(), metrics.getStddevCloseChangePct());
+	}
+}
\ No newline at end of file
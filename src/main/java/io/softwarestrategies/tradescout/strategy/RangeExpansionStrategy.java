@@ -0,0 +1,98 @@
+package io.softwarestrategies.tradescout.strategy;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import io.softwarestrategies.tradescout.util.StatisticsUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Unusually wide intraday range with the price pinned near the low of the day,
+ * on volume that is not elevated - a flush rather than distribution.
+ */
+@Component
+public class RangeExpansionStrategy implements SignalStrategy {
+
+	public static final String NAME = "range-expansion";
+
+	private static final String RANGE_PCT = "rangePct";
+	private static final String AVG_RANGE_PCT = "avgRangePct";
+	private static final String STDDEV_RANGE_PCT = "stddevRangePct";
+	private static final String RANGE_POSITION_PCT = "rangePositionPct";
+
+	// Price must sit in the bottom quarter of the day's range
+	private static final double MAX_RANGE_POSITION = 0.25;
+
+	private final StatisticsUtil statisticsUtil;
+	private final TradeScoutProperties properties;
+
+	public RangeExpansionStrategy(StatisticsUtil statisticsUtil, TradeScoutProperties properties) {
+		this.statisticsUtil = statisticsUtil;
+		this.properties = properties;
+	}
+
+	@Override
+	public String name() { return NAME; }
+
+	@Override
+	public double score(MarketSnapshot snapshot) {
+		var metrics = snapshot.metrics();
+
+		if (Double.isNaN(snapshot.rangePct())
+				|| metrics.getAvgDailyRangePct() == null || metrics.getStddevDailyRangePct() == null) {
+			return Double.NaN;
+		}
+
+		var detection = properties.getTrading().getDetection();
+		var rangeZScore = rangeZScore(snapshot);
+		var rangePosition = snapshot.rangePosition();
+
+		// Expansion threshold mirrors the drop threshold (e.g. -2.5σ drop -> +2.5σ range)
+		if (rangeZScore < Math.abs(detection.getMinPriceZscore())
+				|| rangePosition > MAX_RANGE_POSITION
+				|| snapshot.volumeZScore() > 0) {
+			return Double.NaN;
+		}
+
+		// Range size (0-60 points) and closeness to the low (0-40 points)
+		var confidence = Math.max(0, Math.min(60, (rangeZScore - 2.0) * 30.0))
+				+ (MAX_RANGE_POSITION - rangePosition) / MAX_RANGE_POSITION * 40.0;
+		confidence = Math.min(100, confidence);
+
+		return confidence >= detection.getMinConfidence() ? confidence : Double.NaN;
+	}
+
+	@Override
+	public OpportunitySignal materialize(MarketSnapshot snapshot, double confidence) {
+		var metrics = snapshot.metrics();
+		var measures = Map.of(
+				RANGE_PCT, snapshot.rangePct(),
+				AVG_RANGE_PCT, metrics.getAvgDailyRangePct(),
+				STDDEV_RANGE_PCT, metrics.getStddevDailyRangePct(),
+				RANGE_POSITION_PCT, snapshot.rangePosition() * 100);
+
+		// Signals carry the range expansion as a negative score, like the other dip strategies
+		return snapshot.toSignal(NAME, -rangeZScore(snapshot), confidence, measures);
+	}
+
+	@Override
+	public String renderReason(OpportunitySignal signal) {
+		var measures = signal.measures();
+
+		return String.format("""
+				Range: %.2f%% of open vs typical %.2f%% ± %.2f%%
+				Range Z-Score: %.2fσ above normal
+				Price at %.0f%% of the day's range, volume %.2fσ vs average
+				""",
+				measures.get(RANGE_PCT), measures.get(AVG_RANGE_PCT), measures.get(STDDEV_RANGE_PCT),
+				-signal.priceZScore(),
+				measures.get(RANGE_POSITION_PCT), signal.volumeZScore());
+	}
+
+	private double rangeZScore(MarketSnapshot snapshot) {
+		var metrics = snapshot.metrics();
+		return statisticsUtil.calculateZScore(
+				snapshot.rangePct(), metrics.getAvgDailyRangePct(), metrics.getStddevDailyRangePct());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package io.softwarestrategies.tradescout.strategy;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Unusually large decline net of the market and sector benchmarks - a stock-specific
+ * move rather than the stock following its index down.
+ * The residual is scored against the volatility of the symbol's daily residuals.
+ */
+@Component
+public class RelativeDropStrategy implements SignalStrategy {
+
+	public static final String NAME = "relative-drop";
+
+	private static final String EXPECTED_CHANGE_PCT = "expectedChangePct";
+	private static final String RESIDUAL_CHANGE_PCT = "residualChangePct";
+	private static final String MARKET_BETA = "marketBeta";
+	private static final String SECTOR_BETA = "sectorBeta";
+
+	private final TradeScoutProperties properties;
+
+	public RelativeDropStrategy(TradeScoutProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public String name() { return NAME; }
+
+	@Override
+	public boolean marketRelative() { return true; }
+
+	@Override
+	public double score(MarketSnapshot snapshot) {
+		if (!snapshot.hasMarketFactor()) {
+			return Double.NaN;
+		}
+
+		var detection = properties.getTrading().getDetection();
+		var residualZScore = snapshot.residualZScore();
+
+		if (residualZScore >= detection.getMinPriceZscore()) {
+			return Double.NaN;
+		}
+
+		// Size of the residual (0-70 points) and low volume (0-30 points)
+		var confidence = Math.max(0, Math.min(70, (Math.abs(residualZScore) - 2.0) * 35.0));
+		if (snapshot.volumeZScore() < 0) {
+			confidence += Math.min(30, Math.abs(snapshot.volumeZScore()) * 10.0);
+		}
+		confidence = Math.min(100, confidence);
+
+		return confidence >= detection.getMinConfidence() ? confidence : Double.NaN;
+	}
+
+	@Override
+	public OpportunitySignal materialize(MarketSnapshot snapshot, double confidence) {
+		var loading = snapshot.factorLoading();
+		var measures = Map.of(
+				EXPECTED_CHANGE_PCT, snapshot.expectedChangePct(),
+				RESIDUAL_CHANGE_PCT, snapshot.residualChangePct(),
+				MARKET_BETA, loading.marketBeta(),
+				SECTOR_BETA, loading.sectorBeta());
+
+		return snapshot.toSignal(NAME, snapshot.residualZScore(), confidence, measures);
+	}
+
+	@Override
+	public String renderReason(OpportunitySignal signal) {
+		var measures = signal.measures();
+
+		return String.format("""
+				Move explained by market/sector: %.2f%% (beta %.2f market, %.2f sector)
+				Residual move: %.2f%% beyond the benchmarks
+				Residual Z-Score: %.2fσ below normal
+				""",
+				measures.get(EXPECTED_CHANGE_PCT), measures.get(MARKET_BETA), measures.get(SECTOR_BETA),
+				measures.get(RESIDUAL_CHANGE_PCT),
+				signal.priceZScore());
+	}
+}
\ No newline at end of file
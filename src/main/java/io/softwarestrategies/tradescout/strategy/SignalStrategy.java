@@ -0,0 +1,46 @@
+package io.softwarestrategies.tradescout.strategy;
+
+import io.softwarestrategies.tradescout.dto.OpportunitySignal;
+
+/**
+ * A signal detector evaluated against the shared per-symbol snapshot.
+ * Implementations must not perform I/O; everything they need is in the snapshot.
+ *
+ * Scoring runs for every symbol of every scan and must stay on primitives:
+ * no strings, boxed numbers or records. Signals are only materialized for
+ * snapshots that scored.
+ */
+public interface SignalStrategy {
+
+	/**
+	 * Tag carried by the signals this strategy emits
+	 */
+	String name();
+
+	/**
+	 * Whether the strategy scores the direction of the day's move. Such strategies are not
+	 * evaluated for a symbol whose move the market and sector benchmarks explain; range and
+	 * reversal strategies keep the default and are always evaluated.
+	 */
+	default boolean marketRelative() {
+		return false;
+	}
+
+	/**
+	 * Score a snapshot without allocating
+	 *
+	 * @return confidence (0-100) if the snapshot meets every threshold of the strategy, otherwise NaN
+	 */
+	double score(MarketSnapshot snapshot);
+
+	/**
+	 * Build the signal, with the measures behind it, for a snapshot that scored
+	 */
+	OpportunitySignal materialize(MarketSnapshot snapshot, double confidence);
+
+	/**
+	 * Render human-readable reasoning from a signal this strategy emitted.
+	 * Only called when text is actually needed (verbose API responses, emails).
+	 */
+	String renderReason(OpportunitySignal signal);
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.dto.CorrelatedPair;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Pairwise correlations of daily returns, packed as the strict upper triangle of a
+ * symmetric matrix in one float array (n(n-1)/2 entries, diagonal implied).
+ *
+ * Lookup by symbol is a hash probe plus an index computation, so risk checks can
+ * query it per open position without allocation. Built by {@link CorrelationEngine}.
+ */
+public final class CorrelationMatrix {
+
+	private final List<String> symbols;
+	private final Map<String, Integer> index;
+	private final float[] packed;
+	private final LocalDate asOf;
+	private final int observations;
+
+	CorrelationMatrix(List<String> symbols, float[] packed, LocalDate asOf, int observations) {
+		this.symbols = List.copyOf(symbols);
+		this.packed = packed;
+		this.asOf = asOf;
+		this.observations = observations;
+		this.index = new HashMap<>(symbols.size() * 2);
+		for (int i = 0; i < symbols.size(); i++) {
+			index.put(symbols.get(i), i);
+		}
+	}
+
+	/**
+	 * Empty matrix: every lookup is unknown
+	 */
+	public static CorrelationMatrix empty() {
+		return new CorrelationMatrix(List.of(), new float[0], null, 0);
+	}
+
+	/**
+	 * Correlation of two symbols, or NaN if either is not in the matrix
+	 */
+	public double correlation(String a, String b) {
+		var i = index.get(a);
+		var j = index.get(b);
+		if (i == null || j == null) {
+			return Double.NaN;
+		}
+		return get(i, j);
+	}
+
+	/**
+	 * Correlation by matrix index
+	 */
+	public double get(int i, int j) {
+		if (i == j) {
+			return 1.0;
+		}
+		var low = Math.min(i, j);
+		var high = Math.max(i, j);
+		return packed[rowOffset(low, symbols.size()) + high - low - 1];
+	}
+
+	/**
+	 * Up to limit pairs with |correlation| of at least threshold, strongest first
+	 */
+	public List<CorrelatedPair> strongestPairs(double threshold, int limit) {
+		if (limit <= 0) {
+			return List.of();
+		}
+
+		// Min-heap of packed indexes by |correlation|, holding the best `limit` seen
+		var heap = new PriorityQueue<Integer>(Comparator.comparingDouble(k -> Math.abs(packed[k])));
+		for (int k = 0; k < packed.length; k++) {
+			var strength = Math.abs(packed[k]);
+			if (strength < threshold) {
+				continue;
+			}
+			if (heap.size() < limit) {
+				heap.add(k);
+			} else if (strength > Math.abs(packed[heap.peek()])) {
+				heap.poll();
+				heap.add(k);
+			}
+		}
+
+		var n = symbols.size();
+		var result = new ArrayList<CorrelatedPair>(heap.size());
+		for (var k : heap) {
+			// Recover (i, j) from the packed index: the last row whose offset is <= k
+			var i = 0;
+			var low = 0;
+			var high = n - 2;
+			while (low <= high) {
+				var mid = (low + high) >>> 1;
+				if (rowOffset(mid, n) <= k) {
+					i = mid;
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			var j = k - rowOffset(i, n) + i + 1;
+			result.add(new CorrelatedPair(symbols.get(i), symbols.get(j), packed[k]));
+		}
+		result.sort(Comparator.comparingDouble((CorrelatedPair pair) -> Math.abs(pair.correlation())).reversed());
+		return result;
+	}
+
+	/**
+	 * Rows of the full symmetric matrix, for serialization
+	 */
+	public double[][] toRows() {
+		var n = symbols.size();
+		var rows = new double[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				rows[i][j] = get(i, j);
+			}
+		}
+		return rows;
+	}
+
+	public List<String> getSymbols() { return symbols; }
+	public LocalDate getAsOf() { return asOf; }
+	public int getObservations() { return observations; }
+
+	public int size() {
+		return symbols.size();
+	}
+
+	// Start of row i's entries (columns i+1..n-1) in the packed array
+	static int rowOffset(int i, int n) {
+		return i * (2 * n - i - 1) / 2;
+	}
+}
\ No newline at end of file
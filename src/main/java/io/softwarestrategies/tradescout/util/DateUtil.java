@@ -12,6 +12,12 @@ import java.time.temporal.TemporalAdjusters;
 @Component
 public class DateUtil {
 
+	private final TradingCalendar tradingCalendar;
+
+	public DateUtil(TradingCalendar tradingCalendar) {
+		this.tradingCalendar = tradingCalendar;
+	}
+
 	/**
 	 * Check if date is a Friday
 	 */
@@ -28,14 +34,31 @@ public class DateUtil {
 	}
 
 	/**
-	 * Get the last trading day (most recent weekday)
+	 * Check if date is a trading day (exchange holidays excluded)
+	 */
+	public boolean isTradingDay(LocalDate date) {
+		return tradingCalendar.isTradingDay(date);
+	}
+
+	/**
+	 * Get the first trading day after a date
+	 */
+	public LocalDate nextTradingDay(LocalDate date) {
+		return tradingCalendar.nextTradingDay(date);
+	}
+
+	/**
+	 * Get the last trading day before a date
+	 */
+	public LocalDate previousTradingDay(LocalDate date) {
+		return tradingCalendar.previousTradingDay(date);
+	}
+
+	/**
+	 * Get the n-th trading day before a date
 	 */
-	public LocalDate getLastTradingDay() {
-		var date = LocalDate.now();
-		while (isWeekend(date)) {
-			date = date.minusDays(1);
-		}
-		return date;
+	public LocalDate previousTradingDay(LocalDate date, int n) {
+		return tradingCalendar.previousSession(date, n);
 	}
 
 	/**
@@ -74,11 +97,9 @@ public class DateUtil {
 	}
 
 	/**
-	 * Count trading days between two dates (excludes weekends)
+	 * Count trading days between two dates, both inclusive (excludes weekends and holidays)
 	 */
 	public long countTradingDays(LocalDate start, LocalDate end) {
-		return start.datesUntil(end.plusDays(1))
-				.filter(date -> !isWeekend(date))
-				.count();
+		return tradingCalendar.countTradingDays(start, end);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,239 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.dto.EquityStats;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Daily equity curve indexed by trading session.
+ *
+ * equity[0] is the starting capital and equity[i + 1] the equity after session i.
+ * Prefix sums of daily returns and squared returns give the Sharpe ratio of any period
+ * in O(1). A segment tree over equity keeps (peak, trough, max drawdown) per node, so the
+ * max drawdown of any period is O(log n).
+ * P&L landing on the latest session is an O(log n) update; backdated P&L recomputes the
+ * tail from that session.
+ */
+public final class EquityCurve {
+
+	private static final int TRADING_DAYS_PER_YEAR = 252;
+	private static final double DAILY_RISK_FREE = 0.02 / TRADING_DAYS_PER_YEAR;
+
+	private final TradingCalendar calendar;
+	private final LocalDate firstSession;
+
+	private double[] pnl;
+	private double[] equity;
+	private double[] returnSums;
+	private double[] returnSquareSums;
+	private int sessions;
+
+	// Segment tree over equity points, leaves at [capacity, 2 * capacity)
+	private int capacity;
+	private double[] peak;
+	private double[] trough;
+	private double[] drawdown;
+	private double[] drawdownPct;
+
+	public EquityCurve(TradingCalendar calendar, LocalDate firstSession, double startingCapital) {
+		this.calendar = calendar;
+		this.firstSession = calendar.lastTradingDayOnOrBefore(firstSession);
+		this.pnl = new double[64];
+		this.equity = new double[65];
+		this.returnSums = new double[65];
+		this.returnSquareSums = new double[65];
+		this.equity[0] = startingCapital;
+		rebuildTree();
+	}
+
+	public LocalDate firstSession() {
+		return firstSession;
+	}
+
+	/**
+	 * Add realized P&L on a date
+	 *
+	 * @return false if the date precedes the first session and the curve must be rebuilt
+	 */
+	public boolean add(LocalDate date, double amount) {
+		var index = sessionIndex(date);
+		if (index < 0) {
+			return false;
+		}
+
+		var tail = index >= sessions - 1;
+		extendTo(index + 1);
+		pnl[index] += amount;
+
+		if (tail) {
+			recompute(index);
+			update(index + 1);
+		} else {
+			recompute(index);
+			rebuildTree();
+		}
+		return true;
+	}
+
+	/**
+	 * Extend the curve with flat sessions through a date
+	 */
+	public void extendThrough(LocalDate date) {
+		var index = sessionIndex(date);
+		if (index >= sessions) {
+			extendTo(index + 1);
+		}
+	}
+
+	/**
+	 * Drawdown and Sharpe ratio for the sessions in [from, to]
+	 */
+	public EquityStats stats(LocalDate from, LocalDate to) {
+		var first = from.isAfter(firstSession) ? firstSessionOnOrAfter(from) : 0;
+		var last = Math.min(sessions - 1, sessionIndex(to));
+
+		if (last < first) {
+			var equityAt = equity[Math.min(first, sessions)];
+			return new EquityStats(from, to, 0, equityAt, equityAt, 0.0, 0.0, 0.0);
+		}
+
+		var n = last - first + 1;
+		var mean = (returnSums[last + 1] - returnSums[first]) / n;
+		var variance = (returnSquareSums[last + 1] - returnSquareSums[first]) / n - mean * mean;
+		var stdDev = Math.sqrt(Math.max(0.0, variance));
+		var sharpe = n < 2 || stdDev == 0 ? 0.0 : (mean - DAILY_RISK_FREE) / stdDev * Math.sqrt(TRADING_DAYS_PER_YEAR);
+
+		// Equity points first..last+1 cover the period, starting from the close before it
+		var range = query(first, last + 1);
+
+		return new EquityStats(from, to, n, equity[first], equity[last + 1],
+				range[2], range[3] * 100, sharpe);
+	}
+
+	/**
+	 * Index of the session on or before a date, -1 before the first session
+	 */
+	private int sessionIndex(LocalDate date) {
+		var session = calendar.lastTradingDayOnOrBefore(date);
+		if (session.isBefore(firstSession)) {
+			return -1;
+		}
+		return (int) calendar.countTradingDays(firstSession, session) - 1;
+	}
+
+	private int firstSessionOnOrAfter(LocalDate date) {
+		var index = sessionIndex(date);
+		return calendar.isTradingDay(date) ? index : index + 1;
+	}
+
+	private void extendTo(int newSessions) {
+		if (newSessions <= sessions) {
+			return;
+		}
+		if (newSessions > pnl.length) {
+			var length = Math.max(newSessions, pnl.length * 2);
+			pnl = Arrays.copyOf(pnl, length);
+			equity = Arrays.copyOf(equity, length + 1);
+			returnSums = Arrays.copyOf(returnSums, length + 1);
+			returnSquareSums = Arrays.copyOf(returnSquareSums, length + 1);
+		}
+
+		var from = sessions;
+		sessions = newSessions;
+		recompute(from);
+
+		if (sessions + 1 > capacity) {
+			rebuildTree();
+		} else {
+			for (int i = from + 1; i <= sessions; i++) {
+				update(i);
+			}
+		}
+	}
+
+	/**
+	 * Recompute equity and return prefixes from a session to the end
+	 */
+	private void recompute(int from) {
+		for (int i = from; i < sessions; i++) {
+			var dailyReturn = equity[i] == 0 ? 0.0 : pnl[i] / equity[i];
+			equity[i + 1] = equity[i] + pnl[i];
+			returnSums[i + 1] = returnSums[i] + dailyReturn;
+			returnSquareSums[i + 1] = returnSquareSums[i] + dailyReturn * dailyReturn;
+		}
+	}
+
+	private void rebuildTree() {
+		var points = sessions + 1;
+		capacity = Integer.highestOneBit(Math.max(1, points - 1)) << 1;
+		peak = new double[2 * capacity];
+		trough = new double[2 * capacity];
+		drawdown = new double[2 * capacity];
+		drawdownPct = new double[2 * capacity];
+
+		for (int i = 0; i < capacity; i++) {
+			setLeaf(capacity + i, i < points ? equity[i] : Double.NaN);
+		}
+		for (int node = capacity - 1; node >= 1; node--) {
+			pull(node);
+		}
+	}
+
+	private void update(int point) {
+		var node = capacity + point;
+		setLeaf(node, equity[point]);
+		for (node >>= 1; node >= 1; node >>= 1) {
+			pull(node);
+		}
+	}
+
+	private void setLeaf(int node, double value) {
+		// NaN marks unused leaves: neutral for peak/trough, no drawdown
+		peak[node] = Double.isNaN(value) ? Double.NEGATIVE_INFINITY : value;
+		trough[node] = Double.isNaN(value) ? Double.POSITIVE_INFINITY : value;
+		drawdown[node] = 0.0;
+		drawdownPct[node] = 0.0;
+	}
+
+	private void pull(int node) {
+		int left = 2 * node;
+		int right = left + 1;
+		peak[node] = Math.max(peak[left], peak[right]);
+		trough[node] = Math.min(trough[left], trough[right]);
+		drawdown[node] = Math.max(Math.max(drawdown[left], drawdown[right]), peak[left] - trough[right]);
+		drawdownPct[node] = Math.max(Math.max(drawdownPct[left], drawdownPct[right]),
+				peak[left] > 0 ? (peak[left] - trough[right]) / peak[left] : 0.0);
+	}
+
+	/**
+	 * Combine nodes covering points [from, to] in order: {peak, trough, drawdown, drawdownPct}
+	 */
+	private double[] query(int from, int to) {
+		var left = new double[]{Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0.0, 0.0};
+		var right = new double[]{Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0.0, 0.0};
+
+		for (int l = from + capacity, r = to + capacity + 1; l < r; l >>= 1, r >>= 1) {
+			if ((l & 1) == 1) {
+				left = combine(left, node(l++));
+			}
+			if ((r & 1) == 1) {
+				right = combine(node(--r), right);
+			}
+		}
+		return combine(left, right);
+	}
+
+	private double[] node(int node) {
+		return new double[]{peak[node], trough[node], drawdown[node], drawdownPct[node]};
+	}
+
+	private static double[] combine(double[] left, double[] right) {
+		return new double[]{
+				Math.max(left[0], right[0]),
+				Math.min(left[1], right[1]),
+				Math.max(Math.max(left[2], right[2]), Math.max(0.0, left[0] - right[1])),
+				Math.max(Math.max(left[3], right[3]), left[0] > 0 ? Math.max(0.0, (left[0] - right[1]) / left[0]) : 0.0)
+		};
+	}
+}
\ No newline at end of file
@@ -0,0 +1,219 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.MarketEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory event calendar (earnings, FOMC) loaded from a local CSV file.
+ *
+ * Events are indexed per type: one interval index per symbol plus one for market-wide
+ * events. Each index keeps events sorted by start date with a running maximum of end
+ * dates, so "does any event overlap [from, to]" is a binary search with no DB or
+ * network access per signal.
+ */
+@Component
+public class EventCalendar {
+
+	private static final Logger log = LoggerFactory.getLogger(EventCalendar.class);
+
+	private final String location;
+
+	private volatile Snapshot snapshot;
+
+	public EventCalendar(TradeScoutProperties properties) {
+		this.location = properties.getTrading().getRules().getEventCalendar();
+		this.snapshot = index(location);
+	}
+
+	/**
+	 * Re-read the event file, replacing the index atomically
+	 *
+	 * @return number of events loaded
+	 */
+	public int reload() {
+		var loaded = index(location);
+		snapshot = loaded;
+		return loaded.events();
+	}
+
+	/**
+	 * Find an event of the given type for the symbol that overlaps [from, to].
+	 * Market-wide events of the type match every symbol.
+	 */
+	public Optional<MarketEvent> findEvent(MarketEvent.Type type, String symbol, LocalDate from, LocalDate to) {
+		var current = snapshot;
+
+		var marketIndex = current.marketWide().get(type);
+		if (marketIndex != null) {
+			var event = marketIndex.findOverlap(from, to);
+			if (event != null) {
+				return Optional.of(event);
+			}
+		}
+
+		var symbols = current.bySymbol().get(type);
+		if (symbols == null || symbol == null) {
+			return Optional.empty();
+		}
+		var symbolIndex = symbols.get(symbol);
+		return symbolIndex == null ? Optional.empty() : Optional.ofNullable(symbolIndex.findOverlap(from, to));
+	}
+
+	/**
+	 * Load the event file and build the per-type indexes
+	 */
+	private static Snapshot index(String location) {
+		var events = loadEvents(location);
+
+		var bySymbol = new EnumMap<MarketEvent.Type, Map<String, List<MarketEvent>>>(MarketEvent.Type.class);
+		var marketWide = new EnumMap<MarketEvent.Type, List<MarketEvent>>(MarketEvent.Type.class);
+
+		for (var event : events) {
+			if (event.isMarketWide()) {
+				marketWide.computeIfAbsent(event.type(), t -> new ArrayList<>()).add(event);
+			} else {
+				bySymbol.computeIfAbsent(event.type(), t -> new HashMap<>())
+						.computeIfAbsent(event.symbol(), s -> new ArrayList<>())
+						.add(event);
+			}
+		}
+
+		var symbolIndexes = new EnumMap<MarketEvent.Type, Map<String, IntervalIndex>>(MarketEvent.Type.class);
+		bySymbol.forEach((type, symbols) -> {
+			var indexes = new HashMap<String, IntervalIndex>();
+			symbols.forEach((symbol, list) -> indexes.put(symbol, new IntervalIndex(list)));
+			symbolIndexes.put(type, indexes);
+		});
+
+		var marketIndexes = new EnumMap<MarketEvent.Type, IntervalIndex>(MarketEvent.Type.class);
+		marketWide.forEach((type, list) -> marketIndexes.put(type, new IntervalIndex(list)));
+
+		log.info("Event calendar loaded from {}: {} events", location, events.size());
+		return new Snapshot(symbolIndexes, marketIndexes, events.size());
+	}
+
+	private static List<MarketEvent> loadEvents(String location) {
+		var events = new ArrayList<MarketEvent>();
+		var resource = new DefaultResourceLoader().getResource(location);
+
+		try (var reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			var lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank() || line.startsWith("#") || line.startsWith("type,")) {
+					continue;
+				}
+
+				try {
+					events.add(parse(line));
+				} catch (RuntimeException e) {
+					log.warn("Skipping invalid event at {}:{} - {}", location, lineNumber, e.getMessage());
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to load event calendar " + location, e);
+		}
+		return events;
+	}
+
+	private static MarketEvent parse(String line) {
+		var fields = line.split(",", 5);
+		if (fields.length < 3) {
+			throw new IllegalArgumentException("expected type,symbol,start[,end[,description]]");
+		}
+
+		var type = MarketEvent.Type.valueOf(fields[0].trim().toUpperCase());
+		var symbol = fields[1].isBlank() ? null : fields[1].trim().toUpperCase();
+		var start = LocalDate.parse(fields[2].trim());
+		var end = fields.length > 3 && !fields[3].isBlank() ? LocalDate.parse(fields[3].trim()) : start;
+		var description = fields.length > 4 ? fields[4].trim() : type.name();
+
+		if (end.isBefore(start)) {
+			throw new IllegalArgumentException("end before start");
+		}
+		return new MarketEvent(type, symbol, start, end, description);
+	}
+
+	private record Snapshot(
+			Map<MarketEvent.Type, Map<String, IntervalIndex>> bySymbol,
+			Map<MarketEvent.Type, IntervalIndex> marketWide,
+			int events
+	) {}
+
+	/**
+	 * Events sorted by start date with a running maximum of end dates (as epoch days)
+	 */
+	private static final class IntervalIndex {
+		private final MarketEvent[] events;
+		private final long[] starts;
+		private final long[] maxEnds;
+
+		private IntervalIndex(List<MarketEvent> list) {
+			this.events = list.stream()
+					.sorted(Comparator.comparing(MarketEvent::start))
+					.toArray(MarketEvent[]::new);
+			this.starts = new long[events.length];
+			this.maxEnds = new long[events.length];
+
+			var maxEnd = Long.MIN_VALUE;
+			for (int i = 0; i < events.length; i++) {
+				starts[i] = events[i].start().toEpochDay();
+				maxEnd = Math.max(maxEnd, events[i].end().toEpochDay());
+				maxEnds[i] = maxEnd;
+			}
+		}
+
+		/**
+		 * Any event overlapping [from, to], or null
+		 */
+		private MarketEvent findOverlap(LocalDate from, LocalDate to) {
+			var fromDay = from.toEpochDay();
+
+			// Last event starting on or before the end of the query
+			var i = lastStartOnOrBefore(to.toEpochDay());
+
+			// Walk back only while some earlier event can still reach the query start
+			for (; i >= 0 && maxEnds[i] >= fromDay; i--) {
+				if (events[i].end().toEpochDay() >= fromDay) {
+					return events[i];
+				}
+			}
+			return null;
+		}
+
+		private int lastStartOnOrBefore(long day) {
+			int low = 0;
+			int high = starts.length - 1;
+			int result = -1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (starts[mid] <= day) {
+					result = mid;
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return result;
+		}
+	}
+}
\ No newline at end of file
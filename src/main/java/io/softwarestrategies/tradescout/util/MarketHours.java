@@ -0,0 +1,92 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Regular trading session hours for the configured exchange
+ */
+@Component
+public class MarketHours {
+
+	private final ZoneId zone;
+	private final LocalTime sessionOpen;
+	private final LocalTime sessionClose;
+	private final DateUtil dateUtil;
+
+	public MarketHours(TradeScoutProperties properties, DateUtil dateUtil) {
+		var market = properties.getTrading().getMarket();
+		this.zone = ZoneId.of(market.getTimezone());
+		this.sessionOpen = LocalTime.parse(market.getSessionOpen());
+		this.sessionClose = LocalTime.parse(market.getSessionClose());
+		this.dateUtil = dateUtil;
+	}
+
+	/**
+	 * Exchange time zone
+	 */
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	/**
+	 * Current date in the exchange time zone
+	 */
+	public LocalDate today() {
+		return LocalDate.now(zone);
+	}
+
+	/**
+	 * Last trading day in the exchange time zone (today if the exchange trades today)
+	 */
+	public LocalDate lastTradingDay() {
+		var today = today();
+		return dateUtil.isTradingDay(today) ? today : dateUtil.previousTradingDay(today);
+	}
+
+	/**
+	 * Length of the regular session in minutes
+	 */
+	public int getSessionMinutes() {
+		return (int) ChronoUnit.MINUTES.between(sessionOpen, sessionClose);
+	}
+
+	/**
+	 * Check if the regular session is open at the given instant
+	 */
+	public boolean isOpen(Instant instant) {
+		var local = instant.atZone(zone);
+		if (!dateUtil.isTradingDay(local.toLocalDate())) {
+			return false;
+		}
+		var time = local.toLocalTime();
+		return !time.isBefore(sessionOpen) && time.isBefore(sessionClose);
+	}
+
+	/**
+	 * Minutes elapsed since the session open, or -1 outside the session
+	 */
+	public int minuteOfSession(Instant instant) {
+		if (!isOpen(instant)) {
+			return -1;
+		}
+		var time = instant.atZone(zone).toLocalTime();
+		return (int) ChronoUnit.MINUTES.between(sessionOpen, time);
+	}
+
+	/**
+	 * Instant at which the given minute of the session starts on a date
+	 */
+	public Instant sessionInstant(LocalDate date, int minuteOfSession) {
+		return ZonedDateTime.of(date, sessionOpen, zone)
+				.plusMinutes(minuteOfSession)
+				.toInstant();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package io.softwarestrategies.tradescout.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Empirical CDF of a daily series as a sorted float array.
+ *
+ * Built once during the nightly metrics run and stored as 4 bytes per day,
+ * so percentile ranks at scoring time are a binary search with no history reads.
+ */
+public final class PercentileTable {
+
+	private final float[] sorted;
+
+	private PercentileTable(float[] sorted) {
+		this.sorted = sorted;
+	}
+
+	/**
+	 * Build a table from the first count values (in any order)
+	 */
+	public static PercentileTable of(float[] values, int count) {
+		var sorted = Arrays.copyOf(values, count);
+		Arrays.sort(sorted);
+		return new PercentileTable(sorted);
+	}
+
+	/**
+	 * Decode a table written by {@link #toBytes()}
+	 */
+	public static PercentileTable fromBytes(byte[] bytes) {
+		var sorted = new float[bytes.length / Float.BYTES];
+		ByteBuffer.wrap(bytes).asFloatBuffer().get(sorted);
+		return new PercentileTable(sorted);
+	}
+
+	public byte[] toBytes() {
+		var buffer = ByteBuffer.allocate(sorted.length * Float.BYTES);
+		buffer.asFloatBuffer().put(sorted);
+		return buffer.array();
+	}
+
+	public int size() {
+		return sorted.length;
+	}
+
+	/**
+	 * Share of days with a value at or below the given one, in percent
+	 */
+	public double percentileRank(double value) {
+		if (sorted.length == 0) {
+			return Double.NaN;
+		}
+
+		// First index holding a value greater than the given one
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] <= value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low * 100.0 / sorted.length;
+	}
+}
\ No newline at end of file
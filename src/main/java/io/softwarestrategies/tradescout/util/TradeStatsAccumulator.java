@@ -0,0 +1,130 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.domain.Trade;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.stream.Collector;
+
+/**
+ * One-pass accumulator of closed-trade statistics in whole cents.
+ *
+ * Counts, sums and extremes are plain longs, so adding a trade does no BigDecimal math
+ * and two partials (per shard, per day, per month) merge in O(1). Amounts are converted
+ * back to BigDecimal only when read.
+ */
+public final class TradeStatsAccumulator {
+
+	private long trades;
+	private long winners;
+	private long losers;
+	private long totalCents;
+	private long winCents;
+	private long lossCents;
+	private long largestWinCents = Long.MIN_VALUE;
+	private long largestLossCents = Long.MAX_VALUE;
+
+	/**
+	 * Accumulate a list of trades
+	 */
+	public static TradeStatsAccumulator of(Collection<Trade> trades) {
+		var stats = new TradeStatsAccumulator();
+		for (var trade : trades) {
+			stats.add(trade);
+		}
+		return stats;
+	}
+
+	/**
+	 * Collector for (parallel) streams: partials are merged per thread
+	 */
+	public static Collector<Trade, ?, TradeStatsAccumulator> collector() {
+		return Collector.of(TradeStatsAccumulator::new, TradeStatsAccumulator::add, TradeStatsAccumulator::merge);
+	}
+
+	/**
+	 * Add one trade. Trades without P&L count toward the total only.
+	 */
+	public void add(Trade trade) {
+		trades++;
+		var pnl = trade.getPnl();
+		if (pnl == null) {
+			return;
+		}
+
+		var cents = pnl.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+		totalCents += cents;
+		if (cents > 0) {
+			winners++;
+			winCents += cents;
+			largestWinCents = Math.max(largestWinCents, cents);
+		} else if (cents < 0) {
+			losers++;
+			lossCents += cents;
+			largestLossCents = Math.min(largestLossCents, cents);
+		}
+	}
+
+	/**
+	 * Fold another partial into this one
+	 *
+	 * @return this accumulator
+	 */
+	public TradeStatsAccumulator merge(TradeStatsAccumulator other) {
+		trades += other.trades;
+		winners += other.winners;
+		losers += other.losers;
+		totalCents += other.totalCents;
+		winCents += other.winCents;
+		lossCents += other.lossCents;
+		largestWinCents = Math.max(largestWinCents, other.largestWinCents);
+		largestLossCents = Math.min(largestLossCents, other.largestLossCents);
+		return this;
+	}
+
+	public long getTrades() { return trades; }
+	public long getWinners() { return winners; }
+	public long getLosers() { return losers; }
+
+	public double getWinRate() {
+		return trades == 0 ? 0.0 : (double) winners / trades * 100.0;
+	}
+
+	public BigDecimal getTotalPnl() { return BigDecimal.valueOf(totalCents, 2); }
+
+	/**
+	 * Average winning trade, or null without winners
+	 */
+	public BigDecimal getAvgWin() {
+		return winners == 0 ? null : average(winCents, winners);
+	}
+
+	/**
+	 * Average losing trade (negative), or null without losers
+	 */
+	public BigDecimal getAvgLoss() {
+		return losers == 0 ? null : average(lossCents, losers);
+	}
+
+	public BigDecimal getLargestWin() {
+		return winners == 0 ? null : BigDecimal.valueOf(largestWinCents, 2);
+	}
+
+	public BigDecimal getLargestLoss() {
+		return losers == 0 ? null : BigDecimal.valueOf(largestLossCents, 2);
+	}
+
+	/**
+	 * Gross wins over gross losses (2 decimals), or null without losses
+	 */
+	public Double getProfitFactor() {
+		return lossCents == 0 ? null : BigDecimal.valueOf(winCents)
+				.divide(BigDecimal.valueOf(-lossCents), 2, RoundingMode.HALF_UP)
+				.doubleValue();
+	}
+
+	private static BigDecimal average(long cents, long count) {
+		return BigDecimal.valueOf(cents, 2).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+	}
+}
\ No newline at end of file
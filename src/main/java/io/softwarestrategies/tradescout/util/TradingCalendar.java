@@ -0,0 +1,206 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.TreeSet;
+
+/**
+ * Exchange trading calendar compiled from the bundled holiday table.
+ *
+ * Every day of the covered years is one bit (set = session). A prefix count of sessions
+ * and a dense array of session days sit alongside, so "is trading day", "sessions between"
+ * and "n-th previous session" are array lookups. Outside the covered years the calendar
+ * falls back to weekdays only.
+ */
+@Component
+public class TradingCalendar {
+
+	private static final Logger log = LoggerFactory.getLogger(TradingCalendar.class);
+
+	private final LocalDate firstDay;
+	private final int spanDays;
+
+	// Bit i set when firstDay + i is a session
+	private final BitSet sessions;
+
+	// sessionsBefore[i] = number of sessions in [firstDay, firstDay + i)
+	private final int[] sessionsBefore;
+
+	// Day offsets of the sessions, in order
+	private final int[] sessionOffsets;
+
+	public TradingCalendar(TradeScoutProperties properties) {
+		var holidays = loadHolidays(properties.getTrading().getMarket().getHolidays());
+
+		this.firstDay = LocalDate.of(holidays.first().getYear(), 1, 1);
+		this.spanDays = (int) ChronoUnit.DAYS.between(firstDay, LocalDate.of(holidays.last().getYear() + 1, 1, 1));
+		this.sessions = new BitSet(spanDays);
+		this.sessionsBefore = new int[spanDays + 1];
+
+		var count = 0;
+		for (int i = 0; i < spanDays; i++) {
+			var date = firstDay.plusDays(i);
+			sessionsBefore[i] = count;
+			if (!isWeekend(date) && !holidays.contains(date)) {
+				sessions.set(i);
+				count++;
+			}
+		}
+		sessionsBefore[spanDays] = count;
+
+		this.sessionOffsets = sessions.stream().toArray();
+
+		log.info("Trading calendar loaded: {} holidays, {} sessions, {}..{}",
+				holidays.size(), count, firstDay, firstDay.plusDays(spanDays - 1));
+	}
+
+	/**
+	 * Check if the exchange holds a regular session on a date
+	 */
+	public boolean isTradingDay(LocalDate date) {
+		var offset = offset(date);
+		return covered(offset) ? sessions.get(offset) : !isWeekend(date);
+	}
+
+	/**
+	 * Count sessions in [start, end], both inclusive
+	 */
+	public long countTradingDays(LocalDate start, LocalDate end) {
+		if (start.isAfter(end)) {
+			return 0;
+		}
+
+		var lastDay = firstDay.plusDays(spanDays - 1);
+		var from = start.isBefore(firstDay) ? firstDay : start;
+		var to = end.isAfter(lastDay) ? lastDay : end;
+
+		long count = 0;
+		if (!from.isAfter(to)) {
+			count += sessionsBefore[offset(to) + 1] - sessionsBefore[offset(from)];
+		}
+
+		// Portions outside the covered years count weekdays
+		if (start.isBefore(firstDay)) {
+			count += countWeekdays(start, end.isBefore(firstDay) ? end : firstDay.minusDays(1));
+		}
+		if (end.isAfter(lastDay)) {
+			count += countWeekdays(start.isAfter(lastDay) ? start : lastDay.plusDays(1), end);
+		}
+		return count;
+	}
+
+	/**
+	 * First session after a date
+	 */
+	public LocalDate nextTradingDay(LocalDate date) {
+		var offset = offset(date);
+		if (covered(offset)) {
+			var rank = sessionsBefore[offset + 1];
+			if (rank < sessionOffsets.length) {
+				return firstDay.plusDays(sessionOffsets[rank]);
+			}
+		}
+
+		var next = date.plusDays(1);
+		while (!isTradingDay(next)) {
+			next = next.plusDays(1);
+		}
+		return next;
+	}
+
+	/**
+	 * Last session before a date
+	 */
+	public LocalDate previousTradingDay(LocalDate date) {
+		return previousSession(date, 1);
+	}
+
+	/**
+	 * The n-th session before a date (n = 1 is the previous session)
+	 */
+	public LocalDate previousSession(LocalDate date, int n) {
+		var offset = offset(date);
+		if (covered(offset)) {
+			var rank = sessionsBefore[offset] - n;
+			if (rank >= 0) {
+				return firstDay.plusDays(sessionOffsets[rank]);
+			}
+		}
+
+		var previous = date;
+		for (int i = 0; i < n; i++) {
+			previous = previous.minusDays(1);
+			while (!isTradingDay(previous)) {
+				previous = previous.minusDays(1);
+			}
+		}
+		return previous;
+	}
+
+	/**
+	 * The date itself if it is a session, otherwise the session before it
+	 */
+	public LocalDate lastTradingDayOnOrBefore(LocalDate date) {
+		return isTradingDay(date) ? date : previousTradingDay(date);
+	}
+
+	private int offset(LocalDate date) {
+		var days = ChronoUnit.DAYS.between(firstDay, date);
+		return days < 0 || days >= spanDays ? -1 : (int) days;
+	}
+
+	private boolean covered(int offset) {
+		return offset >= 0;
+	}
+
+	private static boolean isWeekend(LocalDate date) {
+		var dayOfWeek = date.getDayOfWeek();
+		return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+	}
+
+	private static long countWeekdays(LocalDate start, LocalDate end) {
+		var days = ChronoUnit.DAYS.between(start, end) + 1;
+		var count = days / 7 * 5;
+		for (var date = start.plusDays(days / 7 * 7); !date.isAfter(end); date = date.plusDays(1)) {
+			if (!isWeekend(date)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static TreeSet<LocalDate> loadHolidays(String location) {
+		var holidays = new TreeSet<LocalDate>();
+		var resource = new DefaultResourceLoader().getResource(location);
+
+		try (var reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#") || line.startsWith("date,")) {
+					continue;
+				}
+				holidays.add(LocalDate.parse(line.substring(0, line.indexOf(',')).trim()));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to load holiday calendar " + location, e);
+		}
+
+		if (holidays.isEmpty()) {
+			throw new IllegalStateException("Holiday calendar " + location + " is empty");
+		}
+		return holidays;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+-- TradeScout Signal History
+-- Append-only record of every symbol a scan scored, with the signals it produced
+
+-- No primary key or b-tree indexes: rows are only ever appended and read by time range
+CREATE TABLE signals (
+                         scanned_at TIMESTAMPTZ NOT NULL,
+                         symbol VARCHAR(10) NOT NULL,
+                         outcome VARCHAR(20) NOT NULL,
+                         strategy VARCHAR(30),
+                         confidence DOUBLE PRECISION,
+                         price DECIMAL(10, 2) NOT NULL,
+                         change_pct DOUBLE PRECISION,
+                         drop_from_open_pct DOUBLE PRECISION NOT NULL,
+                         drop_zscore DOUBLE PRECISION,
+                         signal_zscore DOUBLE PRECISION,
+                         volume_zscore DOUBLE PRECISION,
+                         residual_zscore DOUBLE PRECISION,
+                         measures JSONB
+);
+
+-- Rows arrive in scan order, so block ranges of scanned_at are tight and a BRIN index stays tiny
+CREATE INDEX idx_signals_scanned_at ON signals USING BRIN (scanned_at);
+
+COMMENT ON TABLE signals IS 'Scan history: one row per emitted signal, or per scored symbol without one';
+COMMENT ON COLUMN signals.outcome IS 'SIGNAL, SCORED (no strategy fired) or MARKET_EXPLAINED (skipped by relative scoring)';
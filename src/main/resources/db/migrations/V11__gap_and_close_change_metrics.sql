@@ -0,0 +1,11 @@
+-- TradeScout Gap and Close-to-Close Metrics
+-- Baselines for the overnight gap and close-to-close change, which differ from the open-to-close change
+
+ALTER TABLE volatility_metrics
+    ADD COLUMN avg_gap_pct DOUBLE PRECISION,
+    ADD COLUMN stddev_gap_pct DOUBLE PRECISION,
+    ADD COLUMN avg_close_change_pct DOUBLE PRECISION,
+    ADD COLUMN stddev_close_change_pct DOUBLE PRECISION;
+
+COMMENT ON COLUMN volatility_metrics.avg_gap_pct IS 'Mean open vs previous close %, filled by the next metrics calculation';
+COMMENT ON COLUMN volatility_metrics.avg_close_change_pct IS 'Mean close vs previous close %, filled by the next metrics calculation';
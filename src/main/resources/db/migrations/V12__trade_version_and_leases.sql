@@ -0,0 +1,14 @@
+-- TradeScout Trade Versions and Node Leases
+-- Optimistic locking for concurrent trade updates, and time-limited leases that let one node act for the cluster
+
+ALTER TABLE trades
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE leases (
+                        name VARCHAR(50) PRIMARY KEY,
+                        owner VARCHAR(100) NOT NULL,
+                        expires_at TIMESTAMP NOT NULL
+);
+
+COMMENT ON COLUMN trades.version IS 'Optimistic lock version; a stale update of the same trade fails';
+COMMENT ON TABLE leases IS 'Named leases held by one node until expires_at unless renewed';
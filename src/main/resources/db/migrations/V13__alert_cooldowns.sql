@@ -0,0 +1,9 @@
+-- TradeScout Alert Cooldowns
+-- Last alert time per symbol, shared by every node so the cooldown holds across the cluster
+
+CREATE TABLE alert_cooldowns (
+                                 symbol VARCHAR(10) PRIMARY KEY,
+                                 last_alerted_at TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE alert_cooldowns IS 'Last opportunity alert per symbol; claimed with a conditional upsert before sending';
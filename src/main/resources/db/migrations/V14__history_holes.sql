@@ -0,0 +1,13 @@
+-- TradeScout History Holes
+-- Date ranges the data provider has no daily bars for (before a listing, or permanent gaps),
+-- so backfill plans stop requesting them
+
+CREATE TABLE history_holes (
+                               symbol VARCHAR(10) NOT NULL,
+                               from_date DATE NOT NULL,
+                               to_date DATE NOT NULL,
+                               recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                               PRIMARY KEY (symbol, from_date)
+);
+
+COMMENT ON TABLE history_holes IS 'Inclusive date ranges a backfill fetched without getting any bars; skipped by later plans';
@@ -0,0 +1,4 @@
+-- TradeScout Shard Checkpoint Retention
+-- Every scan and backfill run adds checkpoint rows; lets the retention sweep find expired runs
+
+CREATE INDEX idx_shard_checkpoints_created_at ON shard_checkpoints(created_at);
@@ -0,0 +1,10 @@
+-- TradeScout Robust Metrics Cleanup
+-- Only the max-drop sketch is read by anomaly detection; drop the other series and the EWMA state
+
+DELETE FROM robust_metrics WHERE series <> 'MAX_DROP';
+
+ALTER TABLE robust_metrics
+    DROP COLUMN ewma_mean,
+    DROP COLUMN ewma_variance;
+
+COMMENT ON TABLE robust_metrics IS 'Median/MAD sketches per symbol and series';
@@ -0,0 +1,4 @@
+-- TradeScout Partial Intraday Bars
+-- Flags bars missing part of their range or volume so baselines can leave them out
+
+ALTER TABLE intraday_bars ADD COLUMN partial BOOLEAN NOT NULL DEFAULT FALSE;
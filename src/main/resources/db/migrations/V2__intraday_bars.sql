@@ -0,0 +1,50 @@
+-- TradeScout Intraday Schema
+-- Minute-level bars and time-of-day volatility baselines
+
+-- Intraday Bars Table (one partition per trading day)
+CREATE TABLE intraday_bars (
+                               symbol VARCHAR(10) NOT NULL,
+                               bar_date DATE NOT NULL,
+                               bar_minutes SMALLINT NOT NULL,
+                               minute_of_session SMALLINT NOT NULL,
+                               bar_time TIMESTAMPTZ NOT NULL,
+                               open_price DECIMAL(10, 2) NOT NULL,
+                               high_price DECIMAL(10, 2) NOT NULL,
+                               low_price DECIMAL(10, 2) NOT NULL,
+                               close_price DECIMAL(10, 2) NOT NULL,
+                               volume BIGINT NOT NULL,
+                               CONSTRAINT pk_intraday_bars PRIMARY KEY (symbol, bar_date, bar_minutes, minute_of_session)
+) PARTITION BY RANGE (bar_date);
+
+COMMENT ON TABLE intraday_bars IS 'Intraday OHLC bars, range-partitioned by trading day';
+
+-- Creates the daily partition for the given date if it does not exist yet
+CREATE OR REPLACE FUNCTION create_intraday_bars_partition(p_date DATE)
+RETURNS VOID AS $$
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF intraday_bars FOR VALUES FROM (%L) TO (%L)',
+        'intraday_bars_p' || to_char(p_date, 'YYYYMMDD'), p_date, p_date + 1
+    );
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_intraday_bars_partition(CURRENT_DATE + offset_days)
+FROM generate_series(0, 3) AS offset_days;
+
+-- Intraday Volatility Baselines (time-of-day conditioned)
+CREATE TABLE intraday_volatility_baselines (
+                                               symbol VARCHAR(10) NOT NULL,
+                                               bar_minutes SMALLINT NOT NULL,
+                                               minute_of_session SMALLINT NOT NULL,
+                                               calculation_date DATE NOT NULL,
+                                               lookback_days INTEGER NOT NULL,
+                                               sample_days INTEGER NOT NULL,
+                                               avg_drop_from_open_pct DOUBLE PRECISION,
+                                               stddev_drop_from_open_pct DOUBLE PRECISION,
+                                               avg_cumulative_volume BIGINT,
+                                               stddev_cumulative_volume BIGINT,
+                                               CONSTRAINT pk_intraday_volatility_baselines PRIMARY KEY (symbol, bar_minutes, minute_of_session)
+);
+
+COMMENT ON TABLE intraday_volatility_baselines IS 'Drop-from-open and cumulative volume statistics per minute of the session';
@@ -0,0 +1,66 @@
+-- TradeScout Stock History Partitioning
+-- Converts stock_history into a table range-partitioned by month on trade_date,
+-- so retention becomes a partition drop instead of a row-by-row DELETE
+
+-- Keep the id sequence alive while the original table is replaced
+ALTER SEQUENCE stock_history_id_seq OWNED BY NONE;
+
+ALTER TABLE stock_history RENAME TO stock_history_unpartitioned;
+ALTER TABLE stock_history_unpartitioned DROP CONSTRAINT uk_stock_history_symbol_date;
+ALTER TABLE stock_history_unpartitioned DROP CONSTRAINT stock_history_pkey;
+DROP INDEX idx_stock_history_symbol_date;
+DROP INDEX idx_stock_history_date;
+
+-- Stock History Table (one partition per month)
+CREATE TABLE stock_history (
+                               id BIGINT NOT NULL DEFAULT nextval('stock_history_id_seq'),
+                               symbol VARCHAR(10) NOT NULL,
+                               trade_date DATE NOT NULL,
+                               open_price DECIMAL(10, 2) NOT NULL,
+                               high_price DECIMAL(10, 2) NOT NULL,
+                               low_price DECIMAL(10, 2) NOT NULL,
+                               close_price DECIMAL(10, 2) NOT NULL,
+                               volume BIGINT NOT NULL,
+                               created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                               CONSTRAINT stock_history_pkey PRIMARY KEY (id, trade_date),
+                               CONSTRAINT uk_stock_history_symbol_date UNIQUE (symbol, trade_date)
+) PARTITION BY RANGE (trade_date);
+
+CREATE INDEX idx_stock_history_symbol_date ON stock_history(symbol, trade_date);
+CREATE INDEX idx_stock_history_date ON stock_history(trade_date);
+
+COMMENT ON TABLE stock_history IS 'Daily OHLC stock price data, range-partitioned by month';
+
+-- Creates the monthly partition containing the given date if it does not exist yet
+CREATE OR REPLACE FUNCTION create_stock_history_partition(p_date DATE)
+RETURNS VOID AS $$
+DECLARE
+    month_start DATE := date_trunc('month', p_date)::DATE;
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF stock_history FOR VALUES FROM (%L) TO (%L)',
+        'stock_history_p' || to_char(month_start, 'YYYYMM'),
+        month_start, (month_start + INTERVAL '1 month')::DATE
+    );
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for all existing data, the last 13 months and the next 3 months
+SELECT create_stock_history_partition(month_start::DATE)
+FROM generate_series(
+        date_trunc('month', LEAST(
+                (SELECT MIN(trade_date) FROM stock_history_unpartitioned),
+                CURRENT_DATE - INTERVAL '13 months')),
+        date_trunc('month', CURRENT_DATE + INTERVAL '3 months'),
+        INTERVAL '1 month'
+     ) AS month_start;
+
+INSERT INTO stock_history (id, symbol, trade_date, open_price, high_price, low_price,
+                           close_price, volume, created_at)
+SELECT id, symbol, trade_date, open_price, high_price, low_price,
+       close_price, volume, created_at
+FROM stock_history_unpartitioned;
+
+DROP TABLE stock_history_unpartitioned;
+
+ALTER SEQUENCE stock_history_id_seq OWNED BY stock_history.id;
@@ -0,0 +1,5 @@
+-- TradeScout Retention Indexes
+-- Lets batched retention deletes find expired rows without scanning the table
+
+CREATE INDEX idx_volatility_metrics_calculation_date ON volatility_metrics(calculation_date);
+CREATE INDEX idx_performance_metrics_period_end ON performance_metrics(period_end);
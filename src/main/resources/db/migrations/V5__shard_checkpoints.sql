@@ -0,0 +1,23 @@
+-- TradeScout Shard Checkpoints
+-- Per-shard, per-stage progress of sharded batch jobs so reruns resume unfinished work
+
+CREATE TABLE shard_checkpoints (
+                                   id BIGSERIAL PRIMARY KEY,
+                                   job_type VARCHAR(30) NOT NULL,
+                                   run_key VARCHAR(30) NOT NULL,
+                                   shard_index INTEGER NOT NULL,
+                                   shard_count INTEGER NOT NULL,
+                                   stage VARCHAR(30) NOT NULL,
+                                   status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                                   attempts INTEGER NOT NULL DEFAULT 0,
+                                   owner VARCHAR(100),
+                                   started_at TIMESTAMP,
+                                   completed_at TIMESTAMP,
+                                   last_error VARCHAR(1000),
+                                   created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                   CONSTRAINT uk_shard_checkpoints UNIQUE (job_type, run_key, shard_index, stage)
+);
+
+CREATE INDEX idx_shard_checkpoints_run ON shard_checkpoints(job_type, run_key);
+
+COMMENT ON TABLE shard_checkpoints IS 'Checkpoints for sharded, resumable batch jobs';
@@ -0,0 +1,19 @@
+-- TradeScout Robust Metrics
+-- Streaming quantile sketch and EWMA state per symbol and daily series, updated incrementally
+
+CREATE TABLE robust_metrics (
+                                id BIGSERIAL PRIMARY KEY,
+                                symbol VARCHAR(10) NOT NULL,
+                                series VARCHAR(20) NOT NULL,
+                                digest BYTEA NOT NULL,
+                                sample_count BIGINT NOT NULL,
+                                median DOUBLE PRECISION,
+                                mad DOUBLE PRECISION,
+                                ewma_mean DOUBLE PRECISION,
+                                ewma_variance DOUBLE PRECISION,
+                                last_trade_date DATE NOT NULL,
+                                updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                CONSTRAINT uk_robust_metrics UNIQUE (symbol, series)
+);
+
+COMMENT ON TABLE robust_metrics IS 'Median/MAD sketches and EWMA baselines per symbol and series';
@@ -0,0 +1,6 @@
+-- TradeScout Max-Drop Percentile Tables
+-- Sorted daily max-drop % of each metrics window (4-byte floats), for percentile lookups at scoring time
+
+ALTER TABLE volatility_metrics ADD COLUMN max_drop_table BYTEA;
+
+COMMENT ON COLUMN volatility_metrics.max_drop_table IS 'Sorted float32 max-drop % values of the lookback window';
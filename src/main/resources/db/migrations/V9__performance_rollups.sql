@@ -0,0 +1,17 @@
+-- TradeScout Performance Rollups
+-- One performance_metrics row per period type and start, maintained from closed trades
+
+-- Quarterly reports used to insert a new row on every request; keep the latest per period
+DELETE FROM performance_metrics pm
+    USING performance_metrics newer
+WHERE newer.period_type = pm.period_type
+  AND newer.period_start = pm.period_start
+  AND newer.id > pm.id;
+
+ALTER TABLE performance_metrics
+    ADD CONSTRAINT uk_performance_metrics_period UNIQUE (period_type, period_start);
+
+-- Rollup refreshes read closed trades by exit date
+CREATE INDEX idx_trades_closed_exit_date ON trades(exit_date) WHERE status = 'CLOSED';
+
+COMMENT ON TABLE performance_metrics IS 'Daily, weekly, monthly, quarterly and annual rollups of closed trades';
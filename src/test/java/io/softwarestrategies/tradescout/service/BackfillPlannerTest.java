@@ -0,0 +1,238 @@
+package io.softwarestrategies.tradescout.service;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.BackfillRange;
+import io.softwarestrategies.tradescout.dto.HistoryCoverage;
+import io.softwarestrategies.tradescout.repository.HistoryHoleRepository;
+import io.softwarestrategies.tradescout.repository.StockHistoryRepository;
+import io.softwarestrategies.tradescout.util.DateUtil;
+import io.softwarestrategies.tradescout.util.TradingCalendar;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks backfill plans and recorded holes against a naive walk over every session of the window,
+ * with the repositories answering from in-memory stored dates
+ */
+class BackfillPlannerTest {
+
+	private static final LocalDate FROM = LocalDate.of(2023, 1, 7);
+	private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+	private static DateUtil dateUtil;
+
+	private final Map<String, TreeSet<LocalDate>> stored = new HashMap<>();
+	private final List<BackfillRange> holes = new ArrayList<>();
+	private final List<BackfillRange> recorded = new ArrayList<>();
+	private BackfillPlanner planner;
+
+	@BeforeAll
+	static void loadCalendar() {
+		dateUtil = new DateUtil(new TradingCalendar(new TradeScoutProperties()));
+	}
+
+	@Test
+	void planCoversEveryMissingSessionOutsideHoles() {
+		var random = new Random(31);
+		var sessions = sessions(FROM, TO);
+		var symbols = new ArrayList<String>();
+
+		for (int s = 0; s < 40; s++) {
+			var symbol = "S" + s;
+			symbols.add(symbol);
+			if (s % 10 == 9) {
+				// Nothing stored yet
+				continue;
+			}
+
+			// Stored runs with missing stretches between them, some of them known holes
+			var dates = new TreeSet<LocalDate>();
+			var i = random.nextInt(60);
+			while (i < sessions.size()) {
+				var run = 1 + random.nextInt(120);
+				for (int k = i; k < Math.min(i + run, sessions.size()); k++) {
+					dates.add(sessions.get(k));
+				}
+				var missing = 1 + random.nextInt(random.nextBoolean() ? 5 : 60);
+				if (random.nextInt(3) == 0 && i + run < sessions.size()) {
+					var end = Math.min(i + run + missing, sessions.size()) - 1;
+					holes.add(new BackfillRange(symbol, sessions.get(i + run), sessions.get(end)));
+				}
+				i += run + missing;
+			}
+			stored.put(symbol, dates);
+		}
+		createPlanner();
+
+		var plan = planner.plan(symbols, FROM, TO);
+
+		for (var symbol : symbols) {
+			var ranges = plan.stream().filter(r -> r.symbol().equals(symbol)).toList();
+			var needed = new TreeSet<LocalDate>();
+			for (var session : sessions) {
+				if (!isStored(symbol, session) && !inHole(symbol, session)) {
+					needed.add(session);
+				}
+			}
+
+			for (var session : needed) {
+				assertEquals(1, ranges.stream().filter(r -> contains(r, session)).count(), symbol + " " + session);
+			}
+			for (int r = 0; r < ranges.size(); r++) {
+				var range = ranges.get(r);
+				assertTrue(needed.contains(range.from()), symbol + " starts on a needed session " + range);
+				assertTrue(needed.contains(range.to()), symbol + " ends on a needed session " + range);
+				if (r > 0) {
+					assertTrue(ChronoUnit.DAYS.between(ranges.get(r - 1).to(), range.from()) > 30,
+							symbol + " ranges within 30 days are coalesced " + ranges.get(r - 1) + " " + range);
+				}
+			}
+		}
+	}
+
+	@Test
+	void symbolWithoutHistoryGetsTheWholeWindowFromTheFirstSession() {
+		createPlanner();
+
+		// 2023-01-07 is a Saturday
+		var plan = planner.plan(List.of("NEW"), FROM, TO);
+
+		assertEquals(List.of(new BackfillRange("NEW", LocalDate.of(2023, 1, 9), TO)), plan);
+	}
+
+	@Test
+	void recordHolesMatchesNaiveRunsOfMissingSessions() {
+		var random = new Random(47);
+		createPlanner();
+
+		for (int k = 0; k < 300; k++) {
+			var from = FROM.plusDays(random.nextInt(600));
+			var to = from.plusDays(random.nextInt(120));
+			var today = from.plusDays(random.nextInt(150));
+			var dates = new TreeSet<LocalDate>();
+			for (var session : sessions(from, to)) {
+				if (random.nextInt(4) > 0) {
+					dates.add(session);
+				}
+			}
+
+			recorded.clear();
+			planner.recordHoles(new BackfillRange("S", from, to), dates, today);
+
+			assertEquals(naiveHoles("S", from, to, dates, today), recorded, from + ".." + to + " today " + today);
+		}
+	}
+
+	@Test
+	void recentSessionsAreNotRecordedYet() {
+		createPlanner();
+
+		// Nothing stored, but only the sessions five or more before today are settled
+		var today = LocalDate.of(2024, 12, 2);
+		planner.recordHoles(new BackfillRange("S", LocalDate.of(2024, 11, 18), today), Set.of(), today);
+
+		assertEquals(List.of(new BackfillRange("S", LocalDate.of(2024, 11, 18), LocalDate.of(2024, 11, 22))), recorded);
+	}
+
+	private void createPlanner() {
+		var stockHistoryRepository = mock(StockHistoryRepository.class);
+		when(stockHistoryRepository.findCoverage(any(), any())).thenAnswer(invocation -> {
+			Collection<String> symbols = invocation.getArgument(0);
+			LocalDate since = invocation.getArgument(1);
+			var coverage = new ArrayList<HistoryCoverage>();
+			for (var symbol : symbols) {
+				var dates = stored.getOrDefault(symbol, new TreeSet<>()).tailSet(since, true);
+				if (!dates.isEmpty()) {
+					coverage.add(new HistoryCoverage(symbol, dates.first(), dates.last(), (long) dates.size()));
+				}
+			}
+			return coverage;
+		});
+		when(stockHistoryRepository.findTradeDates(anyString(), any(), any())).thenAnswer(invocation -> {
+			String symbol = invocation.getArgument(0);
+			return List.copyOf(stored.get(symbol).subSet(invocation.getArgument(1), true, invocation.getArgument(2), true));
+		});
+
+		var historyHoleRepository = mock(HistoryHoleRepository.class);
+		when(historyHoleRepository.findHoles(any(), any())).thenAnswer(invocation -> {
+			Collection<String> symbols = invocation.getArgument(0);
+			LocalDate since = invocation.getArgument(1);
+			return holes.stream()
+					.filter(hole -> symbols.contains(hole.symbol()) && !hole.to().isBefore(since))
+					.toList();
+		});
+		doAnswer(invocation -> recorded.addAll(invocation.getArgument(0)))
+				.when(historyHoleRepository).recordHoles(anyList());
+
+		planner = new BackfillPlanner(stockHistoryRepository, historyHoleRepository, dateUtil);
+	}
+
+	private boolean isStored(String symbol, LocalDate date) {
+		return stored.containsKey(symbol) && stored.get(symbol).contains(date);
+	}
+
+	private boolean inHole(String symbol, LocalDate date) {
+		return holes.stream().anyMatch(hole -> hole.symbol().equals(symbol) && contains(hole, date));
+	}
+
+	private static boolean contains(BackfillRange range, LocalDate date) {
+		return !date.isBefore(range.from()) && !date.isAfter(range.to());
+	}
+
+	private static List<LocalDate> sessions(LocalDate from, LocalDate to) {
+		var sessions = new ArrayList<LocalDate>();
+		for (var date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			if (dateUtil.isTradingDay(date)) {
+				sessions.add(date);
+			}
+		}
+		return sessions;
+	}
+
+	private static List<BackfillRange> naiveHoles(String symbol, LocalDate from, LocalDate to,
+												  Set<LocalDate> dates, LocalDate today) {
+		// Settled: at least five sessions before today
+		var settled = today;
+		for (int i = 0; i < 5; i++) {
+			settled = settled.minusDays(1);
+			while (!dateUtil.isTradingDay(settled)) {
+				settled = settled.minusDays(1);
+			}
+		}
+
+		var runs = new ArrayList<BackfillRange>();
+		var sessions = sessions(from, to.isAfter(settled) ? settled : to);
+		for (int i = 0; i < sessions.size(); i++) {
+			if (dates.contains(sessions.get(i))) {
+				continue;
+			}
+			var j = i;
+			while (j + 1 < sessions.size() && !dates.contains(sessions.get(j + 1))) {
+				j++;
+			}
+			runs.add(new BackfillRange(symbol, sessions.get(i), sessions.get(j)));
+			i = j;
+		}
+		return runs;
+	}
+}
@@ -0,0 +1,159 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.dto.CorrelatedPair;
+import io.softwarestrategies.tradescout.dto.ReturnPanel;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the blocked engine against a naive Pearson correlation of the same panel
+ */
+class CorrelationEngineTest {
+
+	private static final LocalDate AS_OF = LocalDate.of(2025, 6, 30);
+
+	// Packed correlations are floats
+	private static final double TOLERANCE = 1e-5;
+
+	@Test
+	void matchesNaivePearsonAcrossTiles() {
+		// 150 symbols spans three tiles, the last one partial
+		var panel = randomPanel(150, 250, 42);
+		var expected = naive(panel);
+
+		var matrix = CorrelationEngine.correlate(panel, AS_OF);
+
+		assertEquals(150, matrix.size());
+		assertEquals(250, matrix.getObservations());
+		for (int i = 0; i < 150; i++) {
+			assertEquals(1.0, matrix.get(i, i));
+			for (int j = 0; j < 150; j++) {
+				if (i != j) {
+					assertEquals(expected[i][j], matrix.get(i, j), TOLERANCE, "pair " + i + "," + j);
+				}
+			}
+		}
+	}
+
+	@Test
+	void constantSeriesHasZeroCorrelation() {
+		var panel = randomPanel(3, 50, 7);
+		for (int t = 0; t < 50; t++) {
+			panel.returns()[50 + t] = 0.01;
+		}
+
+		var matrix = CorrelationEngine.correlate(panel, AS_OF);
+
+		assertEquals(0.0, matrix.correlation("S0", "S1"), TOLERANCE);
+		assertEquals(0.0, matrix.correlation("S1", "S2"), TOLERANCE);
+	}
+
+	@Test
+	void strongestPairsRecoverSymbolsFromPackedIndexes() {
+		var panel = randomPanel(130, 120, 11);
+		var values = panel.returns();
+		var length = panel.observations();
+		var random = new Random(3);
+		// Plant pairs of varying strength, including across tiles and at the last row
+		int[][] planted = {{0, 1}, {5, 70}, {63, 64}, {40, 129}, {100, 128}, {127, 128}};
+		for (var pair : planted) {
+			var weight = 0.5 + random.nextDouble() * 3;
+			for (int t = 0; t < length; t++) {
+				values[pair[1] * length + t] += weight * values[pair[0] * length + t];
+			}
+		}
+		var expected = naive(panel);
+
+		var matrix = CorrelationEngine.correlate(panel, AS_OF);
+		var pairs = matrix.strongestPairs(0.3, 10);
+
+		var all = new ArrayList<CorrelatedPair>();
+		for (int i = 0; i < panel.size(); i++) {
+			for (int j = i + 1; j < panel.size(); j++) {
+				if (Math.abs(expected[i][j]) >= 0.3) {
+					all.add(new CorrelatedPair(panel.symbols().get(i), panel.symbols().get(j), expected[i][j]));
+				}
+			}
+		}
+		all.sort(Comparator.comparingDouble((CorrelatedPair pair) -> Math.abs(pair.correlation())).reversed());
+		var top = all.subList(0, Math.min(10, all.size()));
+
+		assertTrue(top.size() >= planted.length);
+		assertEquals(top.size(), pairs.size());
+		for (int k = 0; k < top.size(); k++) {
+			assertEquals(top.get(k).first(), pairs.get(k).first());
+			assertEquals(top.get(k).second(), pairs.get(k).second());
+			assertEquals(top.get(k).correlation(), pairs.get(k).correlation(), TOLERANCE);
+			assertEquals(pairs.get(k).correlation(),
+					matrix.correlation(pairs.get(k).first(), pairs.get(k).second()), 0.0);
+		}
+	}
+
+	@Test
+	void rowOffsetsPackTheUpperTriangle() {
+		var n = 9;
+		var k = 0;
+		for (int i = 0; i < n; i++) {
+			assertEquals(k, CorrelationMatrix.rowOffset(i, n));
+			k += n - i - 1;
+		}
+		assertEquals(n * (n - 1) / 2, k);
+	}
+
+	private static ReturnPanel randomPanel(int symbols, int observations, long seed) {
+		var random = new Random(seed);
+		var returns = new double[symbols * observations];
+		for (int k = 0; k < returns.length; k++) {
+			returns[k] = random.nextGaussian() * 0.02;
+		}
+		var dates = IntStream.rangeClosed(0, observations)
+				.mapToObj(d -> AS_OF.minusDays(observations - d))
+				.toList();
+		List<String> names = IntStream.range(0, symbols).mapToObj(i -> "S" + i).toList();
+		return new ReturnPanel(names, dates, returns, observations);
+	}
+
+	/**
+	 * Two-pass Pearson correlation of every pair, read before the engine standardizes the panel
+	 */
+	private static double[][] naive(ReturnPanel panel) {
+		var n = panel.size();
+		var length = panel.observations();
+		var values = panel.returns();
+		var result = new double[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				var meanI = 0.0;
+				var meanJ = 0.0;
+				for (int t = 0; t < length; t++) {
+					meanI += values[i * length + t];
+					meanJ += values[j * length + t];
+				}
+				meanI /= length;
+				meanJ /= length;
+
+				var covariance = 0.0;
+				var varianceI = 0.0;
+				var varianceJ = 0.0;
+				for (int t = 0; t < length; t++) {
+					var di = values[i * length + t] - meanI;
+					var dj = values[j * length + t] - meanJ;
+					covariance += di * dj;
+					varianceI += di * di;
+					varianceJ += dj * dj;
+				}
+				result[i][j] = varianceI == 0 || varianceJ == 0 ? 0.0 : covariance / Math.sqrt(varianceI * varianceJ);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,237 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.dto.EquityStats;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the prefix-sum and segment-tree statistics against a naive walk over the equity points
+ */
+class EquityCurveTest {
+
+	private static final double CAPITAL = 100_000.0;
+	private static final double TOLERANCE = 1e-6;
+
+	// A Saturday, so the curve starts on the Friday before
+	private static final LocalDate START = LocalDate.of(2024, 3, 2);
+
+	private static TradingCalendar calendar;
+
+	@BeforeAll
+	static void loadCalendar() {
+		calendar = new TradingCalendar(new TradeScoutProperties());
+	}
+
+	@Test
+	void startsOnTheSessionOnOrBeforeTheFirstDate() {
+		var curve = new EquityCurve(calendar, START, CAPITAL);
+
+		assertEquals(LocalDate.of(2024, 3, 1), curve.firstSession());
+		assertFalse(curve.add(LocalDate.of(2024, 2, 29), 100.0));
+	}
+
+	@Test
+	void appendedPnlMatchesNaiveWalkThroughCapacityGrowth() {
+		var curve = new EquityCurve(calendar, START, CAPITAL);
+		var naive = new NaiveCurve(curve.firstSession());
+		var random = new Random(17);
+
+		// Well past the initial 64 sessions, so the arrays and the tree both grow
+		var date = curve.firstSession();
+		for (int i = 0; i < 300; i++) {
+			if (random.nextInt(3) > 0) {
+				var amount = (random.nextDouble() - 0.45) * 2_000;
+				assertTrue(curve.add(date, amount));
+				naive.add(date, amount);
+			}
+			date = calendar.nextTradingDay(date);
+		}
+
+		assertMatchesOnRandomPeriods(curve, naive, random);
+	}
+
+	@Test
+	void backdatedPnlMatchesNaiveWalk() {
+		var curve = new EquityCurve(calendar, START, CAPITAL);
+		var naive = new NaiveCurve(curve.firstSession());
+		var random = new Random(29);
+		var end = curve.firstSession().plusDays(400);
+
+		// Out-of-order exits, weekend dates included; the tail is added before earlier sessions
+		for (int i = 0; i < 250; i++) {
+			var date = curve.firstSession().plusDays(random.nextInt(400));
+			var amount = (random.nextDouble() - 0.5) * 3_000;
+			assertTrue(curve.add(date, amount));
+			naive.add(date, amount);
+
+			if (i % 50 == 0) {
+				assertMatchesOnRandomPeriods(curve, naive, random);
+			}
+		}
+		curve.extendThrough(end);
+		naive.extendThrough(end);
+
+		assertMatchesOnRandomPeriods(curve, naive, random);
+	}
+
+	@Test
+	void extendThroughAddsFlatSessions() {
+		var curve = new EquityCurve(calendar, START, CAPITAL);
+		var naive = new NaiveCurve(curve.firstSession());
+		curve.add(LocalDate.of(2024, 3, 5), -2_500.0);
+		naive.add(LocalDate.of(2024, 3, 5), -2_500.0);
+
+		// One jump far beyond the current capacity
+		var end = LocalDate.of(2025, 12, 31);
+		curve.extendThrough(end);
+		naive.extendThrough(end);
+
+		var stats = curve.stats(LocalDate.of(2024, 1, 1), end);
+		assertStats(naive.stats(LocalDate.of(2024, 1, 1), end), stats);
+		assertEquals(CAPITAL - 2_500.0, stats.endingEquity(), TOLERANCE);
+		assertEquals(2_500.0, stats.maxDrawdown(), TOLERANCE);
+	}
+
+	@Test
+	void periodsOutsideTheCurveAreEmpty() {
+		var curve = new EquityCurve(calendar, START, CAPITAL);
+		var naive = new NaiveCurve(curve.firstSession());
+		for (var date = curve.firstSession(); date.isBefore(LocalDate.of(2024, 4, 1)); date = calendar.nextTradingDay(date)) {
+			curve.add(date, 150.0);
+			naive.add(date, 150.0);
+		}
+
+		// Before the first session
+		var before = curve.stats(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+		assertEquals(0, before.sessions());
+		assertEquals(CAPITAL, before.startingEquity(), TOLERANCE);
+
+		// After the last session
+		var after = curve.stats(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+		assertEquals(0, after.sessions());
+		assertEquals(naive.finalEquity(), after.endingEquity(), TOLERANCE);
+
+		// A weekend inside the curve
+		var weekend = curve.stats(LocalDate.of(2024, 3, 9), LocalDate.of(2024, 3, 10));
+		assertStats(naive.stats(LocalDate.of(2024, 3, 9), LocalDate.of(2024, 3, 10)), weekend);
+		assertEquals(0, weekend.sessions());
+
+		// Straddling the first session
+		assertStats(naive.stats(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 15)),
+				curve.stats(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 15)));
+	}
+
+	private static void assertMatchesOnRandomPeriods(EquityCurve curve, NaiveCurve naive, Random random) {
+		var origin = curve.firstSession().minusDays(20);
+		for (int k = 0; k < 200; k++) {
+			var from = origin.plusDays(random.nextInt(480));
+			var to = from.plusDays(random.nextInt(200));
+			assertStats(naive.stats(from, to), curve.stats(from, to));
+		}
+	}
+
+	private static void assertStats(EquityStats expected, EquityStats actual) {
+		var period = expected.from() + ".." + expected.to();
+		assertEquals(expected.sessions(), actual.sessions(), "sessions " + period);
+		assertEquals(expected.startingEquity(), actual.startingEquity(), TOLERANCE, "starting equity " + period);
+		assertEquals(expected.endingEquity(), actual.endingEquity(), TOLERANCE, "ending equity " + period);
+		assertEquals(expected.maxDrawdown(), actual.maxDrawdown(), TOLERANCE, "max drawdown " + period);
+		assertEquals(expected.maxDrawdownPercent(), actual.maxDrawdownPercent(), TOLERANCE, "max drawdown % " + period);
+		assertEquals(expected.sharpeRatio(), actual.sharpeRatio(), TOLERANCE, "sharpe " + period);
+	}
+
+	/**
+	 * P&L per session, walked from the starting capital on every query
+	 */
+	private static final class NaiveCurve {
+		private final LocalDate firstSession;
+		private final TreeMap<LocalDate, Double> pnl = new TreeMap<>();
+		private LocalDate lastSession;
+
+		private NaiveCurve(LocalDate firstSession) {
+			this.firstSession = firstSession;
+		}
+
+		private void add(LocalDate date, double amount) {
+			var session = calendar.lastTradingDayOnOrBefore(date);
+			pnl.merge(session, amount, Double::sum);
+			extendThrough(session);
+		}
+
+		private void extendThrough(LocalDate date) {
+			var session = calendar.lastTradingDayOnOrBefore(date);
+			if (lastSession == null || session.isAfter(lastSession)) {
+				lastSession = session;
+			}
+		}
+
+		private double finalEquity() {
+			return CAPITAL + pnl.values().stream().mapToDouble(Double::doubleValue).sum();
+		}
+
+		private EquityStats stats(LocalDate from, LocalDate to) {
+			var sessions = new ArrayList<LocalDate>();
+			for (var date = firstSession; !date.isAfter(lastSession); date = calendar.nextTradingDay(date)) {
+				sessions.add(date);
+			}
+			var equity = new double[sessions.size() + 1];
+			equity[0] = CAPITAL;
+			for (int i = 0; i < sessions.size(); i++) {
+				equity[i + 1] = equity[i] + pnl.getOrDefault(sessions.get(i), 0.0);
+			}
+
+			List<Integer> inPeriod = new ArrayList<>();
+			var before = 0;
+			for (int i = 0; i < sessions.size(); i++) {
+				if (sessions.get(i).isBefore(from)) {
+					before++;
+				} else if (!sessions.get(i).isAfter(to)) {
+					inPeriod.add(i);
+				}
+			}
+			if (inPeriod.isEmpty()) {
+				return new EquityStats(from, to, 0, equity[before], equity[before], 0.0, 0.0, 0.0);
+			}
+
+			var first = inPeriod.getFirst();
+			var last = inPeriod.getLast();
+			var n = last - first + 1;
+
+			var mean = 0.0;
+			for (int i = first; i <= last; i++) {
+				mean += (equity[i + 1] - equity[i]) / equity[i];
+			}
+			mean /= n;
+			var variance = 0.0;
+			for (int i = first; i <= last; i++) {
+				var deviation = (equity[i + 1] - equity[i]) / equity[i] - mean;
+				variance += deviation * deviation;
+			}
+			var stdDev = Math.sqrt(variance / n);
+			var sharpe = n < 2 || stdDev < 1e-12 ? 0.0 : (mean - 0.02 / 252) / stdDev * Math.sqrt(252);
+
+			var peak = Double.NEGATIVE_INFINITY;
+			var maxDrawdown = 0.0;
+			var maxDrawdownPct = 0.0;
+			for (int p = first; p <= last + 1; p++) {
+				peak = Math.max(peak, equity[p]);
+				maxDrawdown = Math.max(maxDrawdown, peak - equity[p]);
+				maxDrawdownPct = Math.max(maxDrawdownPct, (peak - equity[p]) / peak);
+			}
+
+			return new EquityStats(from, to, n, equity[first], equity[last + 1],
+					maxDrawdown, maxDrawdownPct * 100, sharpe);
+		}
+	}
+}
\ No newline at end of file
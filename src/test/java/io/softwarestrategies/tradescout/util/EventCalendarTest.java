@@ -0,0 +1,113 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import io.softwarestrategies.tradescout.domain.MarketEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the interval indexes against a naive overlap scan of every event in the file
+ */
+class EventCalendarTest {
+
+	private static final LocalDate ORIGIN = LocalDate.of(2025, 1, 1);
+	private static final List<String> SYMBOLS = List.of("AAPL", "MSFT", "NVDA");
+
+	@Test
+	void findEventMatchesNaiveScan() throws IOException {
+		var random = new Random(5);
+		var events = new ArrayList<MarketEvent>();
+		for (int i = 0; i < 400; i++) {
+			var type = MarketEvent.Type.values()[random.nextInt(MarketEvent.Type.values().length)];
+			var symbol = random.nextInt(4) == 0 ? null : SYMBOLS.get(random.nextInt(SYMBOLS.size()));
+			var start = ORIGIN.plusDays(random.nextInt(700));
+			// Mostly single days, with some long events that later short ones sit inside
+			var end = start.plusDays(random.nextInt(10) == 0 ? random.nextInt(90) : random.nextInt(3));
+			events.add(new MarketEvent(type, symbol, start, end, "event " + i));
+		}
+		var calendar = load(events);
+
+		for (int k = 0; k < 5_000; k++) {
+			var type = MarketEvent.Type.values()[random.nextInt(MarketEvent.Type.values().length)];
+			var symbol = random.nextInt(10) == 0 ? "TSLA" : SYMBOLS.get(random.nextInt(SYMBOLS.size()));
+			var from = ORIGIN.minusDays(30).plusDays(random.nextInt(800));
+			var to = from.plusDays(random.nextInt(8));
+
+			var found = calendar.findEvent(type, symbol, from, to);
+			var query = type + " " + symbol + " " + from + ".." + to;
+			assertEquals(naiveHasOverlap(events, type, symbol, from, to), found.isPresent(), query);
+			found.ifPresent(event -> assertTrue(matches(event, type, symbol, from, to), query + " -> " + event));
+		}
+	}
+
+	@Test
+	void overlapIncludesBothEnds() throws IOException {
+		var calendar = load(List.of(
+				new MarketEvent(MarketEvent.Type.EARNINGS, "AAPL", LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 12), "Q1"),
+				new MarketEvent(MarketEvent.Type.FOMC, null, LocalDate.of(2025, 3, 18), LocalDate.of(2025, 3, 19), "FOMC")));
+
+		var earnings = MarketEvent.Type.EARNINGS;
+		assertTrue(calendar.findEvent(earnings, "AAPL", LocalDate.of(2025, 3, 12), LocalDate.of(2025, 3, 20)).isPresent());
+		assertTrue(calendar.findEvent(earnings, "AAPL", LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 10)).isPresent());
+		assertTrue(calendar.findEvent(earnings, "AAPL", LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 20)).isEmpty());
+		assertTrue(calendar.findEvent(earnings, "AAPL", LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 9)).isEmpty());
+		assertTrue(calendar.findEvent(earnings, "MSFT", LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 12)).isEmpty());
+
+		// Market-wide events match any symbol, including none
+		assertTrue(calendar.findEvent(MarketEvent.Type.FOMC, "MSFT", LocalDate.of(2025, 3, 19), LocalDate.of(2025, 3, 19)).isPresent());
+		assertTrue(calendar.findEvent(MarketEvent.Type.FOMC, null, LocalDate.of(2025, 3, 17), LocalDate.of(2025, 3, 18)).isPresent());
+		assertTrue(calendar.findEvent(MarketEvent.Type.OTHER, "AAPL", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)).isEmpty());
+	}
+
+	@Test
+	void longEventIsFoundPastLaterShortOnes() throws IOException {
+		// The quarter-long event starts first; every later one ends before the query
+		var events = new ArrayList<MarketEvent>();
+		events.add(new MarketEvent(MarketEvent.Type.OTHER, "NVDA", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31), "quarter"));
+		for (int day = 2; day <= 20; day++) {
+			var date = LocalDate.of(2025, 1, day);
+			events.add(new MarketEvent(MarketEvent.Type.OTHER, "NVDA", date, date, "day " + day));
+		}
+		var calendar = load(events);
+
+		var found = calendar.findEvent(MarketEvent.Type.OTHER, "NVDA", LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 14));
+		assertEquals("quarter", found.orElseThrow().description());
+	}
+
+	private static EventCalendar load(List<MarketEvent> events) throws IOException {
+		var lines = new ArrayList<String>();
+		lines.add("type,symbol,start,end,description");
+		for (var event : events) {
+			lines.add(String.join(",", event.type().name(), event.symbol() == null ? "" : event.symbol(),
+					event.start().toString(), event.end().toString(), event.description()));
+		}
+		var file = Files.createTempFile("events", ".csv");
+		file.toFile().deleteOnExit();
+		Files.write(file, lines);
+
+		var properties = new TradeScoutProperties();
+		properties.getTrading().getRules().setEventCalendar(file.toUri().toString());
+		return new EventCalendar(properties);
+	}
+
+	private static boolean naiveHasOverlap(List<MarketEvent> events, MarketEvent.Type type, String symbol,
+										   LocalDate from, LocalDate to) {
+		return events.stream().anyMatch(event -> matches(event, type, symbol, from, to));
+	}
+
+	private static boolean matches(MarketEvent event, MarketEvent.Type type, String symbol, LocalDate from, LocalDate to) {
+		return event.type() == type
+				&& (event.isMarketWide() || event.symbol().equals(symbol))
+				&& !event.start().isAfter(to)
+				&& !event.end().isBefore(from);
+	}
+}
\ No newline at end of file
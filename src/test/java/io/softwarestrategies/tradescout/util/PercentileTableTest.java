@@ -0,0 +1,86 @@
+package io.softwarestrategies.tradescout.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the binary-search percentile ranks against a naive count over the unsorted values
+ */
+class PercentileTableTest {
+
+	@Test
+	void percentileRankMatchesNaiveCount() {
+		var random = new Random(13);
+		var values = new float[500];
+		for (int i = 0; i < values.length; i++) {
+			// Rounded to a tenth so many values repeat
+			values[i] = Math.round(random.nextGaussian() * 30) / 10f;
+		}
+		var table = PercentileTable.of(values, values.length);
+
+		for (int k = 0; k < 2_000; k++) {
+			var value = (random.nextDouble() - 0.5) * 30;
+			if (k % 2 == 0) {
+				value = values[random.nextInt(values.length)];
+			}
+			assertEquals(naiveRank(values, values.length, value), table.percentileRank(value), "value " + value);
+		}
+	}
+
+	@Test
+	void tiesCountAsAtOrBelow() {
+		var table = PercentileTable.of(new float[] {1f, 2f, 2f, 2f, 3f}, 5);
+
+		assertEquals(20.0, table.percentileRank(1.0));
+		assertEquals(80.0, table.percentileRank(2.0));
+		assertEquals(20.0, table.percentileRank(1.999));
+		assertEquals(100.0, table.percentileRank(3.0));
+
+		var constant = PercentileTable.of(new float[] {4f, 4f, 4f}, 3);
+		assertEquals(0.0, constant.percentileRank(3.9));
+		assertEquals(100.0, constant.percentileRank(4.0));
+	}
+
+	@Test
+	void valuesOutsideTheTableRange() {
+		var table = PercentileTable.of(new float[] {-2.5f, 0f, 1.5f, 7f}, 4);
+
+		assertEquals(0.0, table.percentileRank(-2.6));
+		assertEquals(0.0, table.percentileRank(Double.NEGATIVE_INFINITY));
+		assertEquals(100.0, table.percentileRank(7.1));
+		assertEquals(100.0, table.percentileRank(Double.MAX_VALUE));
+		assertTrue(Double.isNaN(PercentileTable.of(new float[0], 0).percentileRank(1.0)));
+	}
+
+	@Test
+	void onlyTheFirstCountValuesAreUsedAndBytesRoundTrip() {
+		var random = new Random(3);
+		var values = new float[300];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextFloat() * 10;
+		}
+		var table = PercentileTable.of(values, 250);
+		var decoded = PercentileTable.fromBytes(table.toBytes());
+
+		assertEquals(250, decoded.size());
+		for (int k = 0; k < 500; k++) {
+			var value = random.nextDouble() * 12 - 1;
+			assertEquals(naiveRank(values, 250, value), table.percentileRank(value), "value " + value);
+			assertEquals(table.percentileRank(value), decoded.percentileRank(value), "value " + value);
+		}
+	}
+
+	private static double naiveRank(float[] values, int count, double value) {
+		var atOrBelow = 0;
+		for (int i = 0; i < count; i++) {
+			if (values[i] <= value) {
+				atOrBelow++;
+			}
+		}
+		return atOrBelow * 100.0 / count;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.domain.Trade;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks the cent accumulator and its merges against naive BigDecimal statistics of the same trades
+ */
+class TradeStatsAccumulatorTest {
+
+	@Test
+	void matchesNaiveStatistics() {
+		var trades = randomTrades(400, 19);
+
+		assertMatchesNaive(trades, TradeStatsAccumulator.of(trades));
+	}
+
+	@Test
+	void mergedPartialsMatchOnePass() {
+		var random = new Random(37);
+		var trades = randomTrades(300, 41);
+
+		// Uneven partials, several of them empty
+		var partials = new ArrayList<TradeStatsAccumulator>();
+		for (int i = 0; i < 12; i++) {
+			partials.add(new TradeStatsAccumulator());
+		}
+		for (var trade : trades) {
+			partials.get(random.nextInt(6) * 2).add(trade);
+		}
+
+		var merged = new TradeStatsAccumulator();
+		for (var partial : partials) {
+			merged.merge(partial);
+		}
+		assertMatchesNaive(trades, merged);
+
+		assertMatchesNaive(trades, trades.parallelStream().collect(TradeStatsAccumulator.collector()));
+	}
+
+	@Test
+	void mergeWithEmptyPartials() {
+		var trades = randomTrades(50, 7);
+
+		var empty = new TradeStatsAccumulator().merge(new TradeStatsAccumulator());
+		assertMatchesNaive(List.of(), empty);
+		assertEquals(0.0, empty.getWinRate());
+		assertEquals(BigDecimal.valueOf(0, 2), empty.getTotalPnl());
+		assertNull(empty.getLargestWin());
+		assertNull(empty.getLargestLoss());
+		assertNull(empty.getProfitFactor());
+
+		assertMatchesNaive(trades, TradeStatsAccumulator.of(trades).merge(new TradeStatsAccumulator()));
+		assertMatchesNaive(trades, new TradeStatsAccumulator().merge(TradeStatsAccumulator.of(trades)));
+	}
+
+	@Test
+	void onlyWinnersOrOnlyLosers() {
+		var winners = List.of(trade("12.50"), trade("0.01"), trade(null));
+		var winnersOnly = TradeStatsAccumulator.of(winners);
+		assertMatchesNaive(winners, winnersOnly);
+		assertNull(winnersOnly.getAvgLoss());
+		assertNull(winnersOnly.getLargestLoss());
+		assertNull(winnersOnly.getProfitFactor());
+
+		var losers = List.of(trade("-3.00"), trade("0.00"), trade("-250.75"));
+		var losersOnly = new TradeStatsAccumulator().merge(TradeStatsAccumulator.of(losers));
+		assertMatchesNaive(losers, losersOnly);
+		assertNull(losersOnly.getAvgWin());
+		assertEquals(new BigDecimal("-250.75"), losersOnly.getLargestLoss());
+		assertEquals(0.0, losersOnly.getProfitFactor());
+	}
+
+	private static void assertMatchesNaive(List<Trade> trades, TradeStatsAccumulator actual) {
+		var pnls = trades.stream().map(Trade::getPnl).filter(pnl -> pnl != null).toList();
+		var wins = pnls.stream().filter(pnl -> pnl.signum() > 0).toList();
+		var losses = pnls.stream().filter(pnl -> pnl.signum() < 0).toList();
+		var grossWin = wins.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+		var grossLoss = losses.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+		assertEquals(trades.size(), actual.getTrades());
+		assertEquals(wins.size(), actual.getWinners());
+		assertEquals(losses.size(), actual.getLosers());
+		assertEquals(trades.isEmpty() ? 0.0 : (double) wins.size() / trades.size() * 100.0, actual.getWinRate());
+		assertEquals(0, pnls.stream().reduce(BigDecimal.ZERO, BigDecimal::add).compareTo(actual.getTotalPnl()));
+
+		assertDecimal(wins.isEmpty() ? null
+				: grossWin.divide(BigDecimal.valueOf(wins.size()), 2, RoundingMode.HALF_UP), actual.getAvgWin());
+		assertDecimal(losses.isEmpty() ? null
+				: grossLoss.divide(BigDecimal.valueOf(losses.size()), 2, RoundingMode.HALF_UP), actual.getAvgLoss());
+		assertDecimal(wins.stream().max(BigDecimal::compareTo).orElse(null), actual.getLargestWin());
+		assertDecimal(losses.stream().min(BigDecimal::compareTo).orElse(null), actual.getLargestLoss());
+		assertEquals(losses.isEmpty() ? null
+				: grossWin.divide(grossLoss.negate(), 2, RoundingMode.HALF_UP).doubleValue(), actual.getProfitFactor());
+	}
+
+	private static void assertDecimal(BigDecimal expected, BigDecimal actual) {
+		if (expected == null) {
+			assertNull(actual);
+		} else {
+			assertEquals(0, expected.compareTo(actual), expected + " vs " + actual);
+		}
+	}
+
+	private static List<Trade> randomTrades(int count, long seed) {
+		var random = new Random(seed);
+		var trades = new ArrayList<Trade>();
+		for (int i = 0; i < count; i++) {
+			var roll = random.nextInt(20);
+			// Some trades without P&L and some breaking even
+			var pnl = roll == 0 ? null
+					: roll == 1 ? "0.00"
+					: BigDecimal.valueOf(random.nextInt(400_000) - 180_000, 2).toPlainString();
+			trades.add(trade(pnl));
+		}
+		return trades;
+	}
+
+	private static Trade trade(String pnl) {
+		var trade = new Trade();
+		trade.setStatus(Trade.TradeStatus.CLOSED);
+		trade.setPnl(pnl == null ? null : new BigDecimal(pnl));
+		return trade;
+	}
+}
\ No newline at end of file
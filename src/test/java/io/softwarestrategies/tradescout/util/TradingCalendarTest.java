@@ -0,0 +1,168 @@
+package io.softwarestrategies.tradescout.util;
+
+import io.softwarestrategies.tradescout.config.TradeScoutProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the bitset calendar against a naive day-by-day walk over weekdays and the holiday table
+ */
+class TradingCalendarTest {
+
+	// The bundled table covers 2015 through 2030; outside it only weekends are closed
+	private static final LocalDate FIRST_COVERED = LocalDate.of(2015, 1, 1);
+	private static final LocalDate LAST_COVERED = LocalDate.of(2030, 12, 31);
+
+	private static TradingCalendar calendar;
+	private static Set<LocalDate> holidays;
+
+	@BeforeAll
+	static void loadCalendar() throws IOException {
+		var properties = new TradeScoutProperties();
+		calendar = new TradingCalendar(properties);
+		holidays = readHolidays(properties.getTrading().getMarket().getHolidays());
+	}
+
+	@Test
+	void tradingDaysMatchNaiveAcrossTheCoveredYearsAndBeyond() {
+		for (var date = FIRST_COVERED.minusDays(30); !date.isAfter(LAST_COVERED.plusDays(30)); date = date.plusDays(1)) {
+			assertEquals(naiveIsTradingDay(date), calendar.isTradingDay(date), date.toString());
+		}
+	}
+
+	@Test
+	void coveredYearEdges() {
+		// New Year's Day is a holiday at both ends of the table
+		assertFalse(calendar.isTradingDay(FIRST_COVERED));
+		assertEquals(LocalDate.of(2015, 1, 2), calendar.nextTradingDay(LocalDate.of(2014, 12, 31)));
+		assertEquals(LocalDate.of(2014, 12, 31), calendar.previousTradingDay(LocalDate.of(2015, 1, 2)));
+
+		assertFalse(calendar.isTradingDay(LocalDate.of(2030, 1, 1)));
+		assertTrue(calendar.isTradingDay(LAST_COVERED));
+		assertEquals(LocalDate.of(2031, 1, 1), calendar.nextTradingDay(LAST_COVERED));
+		assertEquals(LAST_COVERED, calendar.previousTradingDay(LocalDate.of(2031, 1, 1)));
+	}
+
+	@Test
+	void weekdayFallbackOutsideTheTable() {
+		// Christmas is not in the table for these years, so it counts as a session
+		assertTrue(calendar.isTradingDay(LocalDate.of(2014, 12, 25)));
+		assertTrue(calendar.isTradingDay(LocalDate.of(2031, 12, 25)));
+		assertFalse(calendar.isTradingDay(LocalDate.of(2031, 1, 4)));
+
+		assertEquals(LocalDate.of(2014, 12, 26), calendar.nextTradingDay(LocalDate.of(2014, 12, 25)));
+		assertEquals(LocalDate.of(2031, 1, 6), calendar.nextTradingDay(LocalDate.of(2031, 1, 3)));
+		assertEquals(LocalDate.of(2014, 12, 19), calendar.previousSession(LocalDate.of(2014, 12, 26), 5));
+	}
+
+	@Test
+	void previousSessionSkipsHolidays() {
+		// Thanksgiving 2024 (Thursday 28th): the Friday after steps back to Wednesday
+		assertEquals(LocalDate.of(2024, 11, 27), calendar.previousTradingDay(LocalDate.of(2024, 11, 29)));
+		assertEquals(LocalDate.of(2024, 11, 26), calendar.previousSession(LocalDate.of(2024, 11, 29), 2));
+
+		// Good Friday 2024 plus the weekend: Monday steps back to Thursday
+		assertEquals(LocalDate.of(2024, 3, 28), calendar.previousTradingDay(LocalDate.of(2024, 4, 1)));
+
+		// From a holiday itself
+		assertEquals(LocalDate.of(2024, 12, 24), calendar.previousTradingDay(LocalDate.of(2024, 12, 25)));
+		assertEquals(LocalDate.of(2024, 12, 24), calendar.lastTradingDayOnOrBefore(LocalDate.of(2024, 12, 25)));
+	}
+
+	@Test
+	void previousSessionMatchesNaiveAcrossTheEdges() {
+		var random = new Random(11);
+		for (int k = 0; k < 2_000; k++) {
+			var date = FIRST_COVERED.minusDays(60).plusDays(random.nextInt(6_000));
+			if (k % 2 == 0) {
+				date = LAST_COVERED.minusDays(300).plusDays(random.nextInt(400));
+			}
+			var n = 1 + random.nextInt(40);
+			assertEquals(naivePreviousSession(date, n), calendar.previousSession(date, n), date + " n=" + n);
+			assertEquals(naiveNextTradingDay(date), calendar.nextTradingDay(date), date.toString());
+		}
+
+		// Reaching back from inside the table to before its first year
+		assertEquals(naivePreviousSession(LocalDate.of(2015, 1, 9), 10),
+				calendar.previousSession(LocalDate.of(2015, 1, 9), 10));
+	}
+
+	@Test
+	void countTradingDaysMatchesNaive() {
+		var random = new Random(23);
+		var origin = FIRST_COVERED.minusDays(400);
+		for (int k = 0; k < 500; k++) {
+			var start = origin.plusDays(random.nextInt(6_800));
+			var end = start.plusDays(random.nextInt(800) - 10);
+			assertEquals(naiveCount(start, end), calendar.countTradingDays(start, end), start + ".." + end);
+		}
+
+		// Spanning the whole table and both fallbacks
+		var start = LocalDate.of(2013, 6, 1);
+		var end = LocalDate.of(2032, 6, 1);
+		assertEquals(naiveCount(start, end), calendar.countTradingDays(start, end));
+	}
+
+	private static boolean naiveIsTradingDay(LocalDate date) {
+		var dayOfWeek = date.getDayOfWeek();
+		return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !holidays.contains(date);
+	}
+
+	private static LocalDate naiveNextTradingDay(LocalDate date) {
+		var next = date.plusDays(1);
+		while (!naiveIsTradingDay(next)) {
+			next = next.plusDays(1);
+		}
+		return next;
+	}
+
+	private static LocalDate naivePreviousSession(LocalDate date, int n) {
+		var previous = date;
+		for (int i = 0; i < n; i++) {
+			previous = previous.minusDays(1);
+			while (!naiveIsTradingDay(previous)) {
+				previous = previous.minusDays(1);
+			}
+		}
+		return previous;
+	}
+
+	private static long naiveCount(LocalDate start, LocalDate end) {
+		long count = 0;
+		for (var date = start; !date.isAfter(end); date = date.plusDays(1)) {
+			if (naiveIsTradingDay(date)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static Set<LocalDate> readHolidays(String location) throws IOException {
+		var dates = new HashSet<LocalDate>();
+		var resource = new DefaultResourceLoader().getResource(location);
+		try (var reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isBlank() && !line.startsWith("#") && !line.startsWith("date,")) {
+					dates.add(LocalDate.parse(line.substring(0, line.indexOf(','))));
+				}
+			}
+		}
+		return dates;
+	}
+}
\ No newline at end of file